@@ -15,9 +15,11 @@ import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -50,7 +52,10 @@ public class DryRunAspect {
         return result;
     }
 
-    public Object dontInvokeService() {
+    public Object dontInvokeService(InvocationContext context) {
+        if (CompletableFuture.class.equals(context.getMethod().getReturnType())) {
+            return CompletableFuture.completedFuture(CatsResponse.empty());
+        }
         return CatsResponse.empty();
     }
 
@@ -75,8 +80,8 @@ public class DryRunAspect {
         return null;
     }
 
-    public Object report(InvocationContext context) {
-        Object data = context.getParameters()[1];
+    public synchronized Object report(InvocationContext context) {
+        Object data = Arrays.stream(context.getParameters()).filter(FuzzingData.class::isInstance).findFirst().orElse(null);
 
         if (data instanceof FuzzingData fuzzingData) {
             if (counter % 10000 == 0 && !reportingArguments.isJson()) {
@@ -101,7 +106,7 @@ public class DryRunAspect {
                 return startSession(context);
             }
             if (context.getMethod().getName().startsWith("call")) {
-                return dontInvokeService();
+                return dontInvokeService(context);
             }
             if (context.getMethod().getName().startsWith("getErrors")) {
                 return 0;
@@ -3,6 +3,7 @@ package com.endava.cats.args;
 import jakarta.inject.Singleton;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.StringUtils;
 import picocli.CommandLine;
 
 /**
@@ -16,6 +17,10 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(names = {"--adaptiveRateLimit"},
+            description = "Adapt the request rate based on response latency, 429/503 responses and IO errors instead of using a fixed rate. The rate will start lower and never exceed @|bold --maxRequestsPerMinute|@. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean adaptiveRateLimit;
+
     @CommandLine.Option(names = {"--connectionTimeout"},
             description = "Time period in seconds which CATS should establish a connection with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
             defaultValue = "10")
@@ -31,6 +36,43 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--maxRequestsPerHost"},
+            description = "Maximum number of requests that can be in-flight at the same time for the target host, both for Fuzzers sending requests asynchronously and for Fuzzers running concurrently with @|bold --parallelism|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "5")
+    private int maxRequestsPerHost = 5;
+
+    @CommandLine.Option(names = {"--maxIdleConnections"},
+            description = "Maximum number of idle connections kept in the HTTP connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxIdleConnections = 10;
+
+    @CommandLine.Option(names = {"--keepAliveDuration"},
+            description = "Time in seconds an idle connection is kept in the HTTP connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "900")
+    private int keepAliveDuration = 900;
+
+    @CommandLine.Option(names = {"--protocol"},
+            description = "The HTTP protocol used to connect to the service: @|bold AUTO|@ negotiates HTTP/2 or HTTP/1.1 over TLS, @|bold HTTP_1_1|@ only uses HTTP/1.1, " +
+                    "@|bold HTTP_2|@ requires HTTP/2 over TLS and fails calls for which the server falls back to HTTP/1.1, @|bold H2C|@ uses cleartext HTTP/2 with prior knowledge. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "AUTO")
+    private HttpProtocol protocol = HttpProtocol.AUTO;
+
+    @CommandLine.Option(names = {"--maxResponseBodySize"},
+            description = "Maximum number of bytes kept from each response body. Larger bodies are truncated and marked as such in the report, " +
+                    "while the response length, words and lines are still computed for the entire body. 0 means no limit. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private long maxResponseBodySize;
+
+    @CommandLine.Option(names = {"--maxRetries"},
+            description = "Maximum number of times a request is retried when the service answers with 429 or 503. The Retry-After header is honoured when present. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private int maxRetries;
+
+    @CommandLine.Option(names = {"--retryDelay"},
+            description = "Initial delay in milliseconds before retrying a request answered with 429 or 503 without a Retry-After header. The delay doubles with each retry. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1000")
+    private long retryDelay = 1000;
+
     @CommandLine.Option(names = {"--userAgent"},
             description = "The user agent to be set in the User-Agent HTTP header. Default: @|bold,underline cats/${app.version}|@")
     private String userAgent;
@@ -55,7 +97,8 @@ public class ApiArguments {
     }
 
     /**
-     * Validates the required {@code --contract} and {@code --server} arguments are present.
+     * Validates the required {@code --contract} and {@code --server} arguments are present
+     * and that {@code --protocol=H2C} is not used with an {@code https} server, nor {@code --protocol=HTTP_2} with an {@code http} one.
      *
      * @param spec the PicoCli command spec
      */
@@ -64,9 +107,33 @@ public class ApiArguments {
             throw new CommandLine.ParameterException(spec.commandLine(), "Missing required option --contract=<contract>");
         } else if (this.server == null) {
             throw new CommandLine.ParameterException(spec.commandLine(), "Missing required option --server=<server>");
+        } else if (this.isH2cOverTls(this.server)) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--protocol=H2C sends cleartext HTTP/2 and cannot be used with an https server. Use --protocol=HTTP_2 instead");
+        } else if (this.isHttp2OverCleartext(this.server)) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--protocol=HTTP_2 is only negotiated over TLS and cannot be used with an http server. Use --protocol=H2C instead");
         }
     }
 
+    /**
+     * Checks if cleartext HTTP/2 is requested for a server reachable over TLS.
+     *
+     * @param url the url of the service
+     * @return true if {@code --protocol=H2C} is used with an {@code https} url, false otherwise
+     */
+    public boolean isH2cOverTls(String url) {
+        return protocol == HttpProtocol.H2C && StringUtils.startsWithIgnoreCase(url, "https:");
+    }
+
+    /**
+     * Checks if HTTP/2 negotiated over TLS is requested for a cleartext server.
+     *
+     * @param url the url of the service
+     * @return true if {@code --protocol=HTTP_2} is used with an {@code http} url, false otherwise
+     */
+    public boolean isHttp2OverCleartext(String url) {
+        return protocol == HttpProtocol.HTTP_2 && StringUtils.startsWithIgnoreCase(url, "http:");
+    }
+
     /**
      * Sets a custom user agent based on the CATS version.
      *
@@ -77,4 +144,8 @@ public class ApiArguments {
             userAgent = "cats/" + version;
         }
     }
+
+    public enum HttpProtocol {
+        AUTO, HTTP_1_1, HTTP_2, H2C
+    }
 }
@@ -51,6 +51,10 @@ public class AuthArguments {
             description = "Amount of time in seconds after which to get new auth credentials")
     private int authRefreshInterval;
 
+    @CommandLine.Option(names = {"--authRefreshTimeout"},
+            description = "Amount of time in seconds after which the --authRefreshScript is stopped if it didn't finish. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int authRefreshTimeout = 60;
+
 
     /**
      * Checks if proxy details were supplied via the {@code --proxyXXX} arguments.
@@ -103,12 +107,13 @@ public class AuthArguments {
     }
 
     /**
-     * Creates a Map with the following elements "auth_script"=--authRefreshScript argument
-     * and "auth_refresh"=--authRefreshInterval.
+     * Creates a Map with the following elements "auth_script"=--authRefreshScript argument,
+     * "auth_refresh"=--authRefreshInterval and "auth_timeout"=--authRefreshTimeout.
      *
      * @return a Map with auth refresh details
      */
     public Map<String, String> getAuthScriptAsMap() {
-        return Map.of("auth_script", this.getAuthRefreshScript(), "auth_refresh", String.valueOf(getAuthRefreshInterval()));
+        return Map.of("auth_script", this.getAuthRefreshScript(), "auth_refresh", String.valueOf(getAuthRefreshInterval()),
+                "auth_timeout", String.valueOf(getAuthRefreshTimeout()));
     }
 }
@@ -21,6 +21,14 @@ public class ProcessingArguments {
             description = "The maximum number of fields that will be removed from a request when using the @|bold,underline SIZE|@ fieldsFuzzingStrategy")
     private int maxFieldsToRemove;
 
+    @CommandLine.Option(names = {"--maxFieldsSubsets"},
+            description = "The maximum number of fields subsets that will be removed from a request by the @|bold RemoveFieldsFuzzer|@. Relevant when using the @|bold,underline POWERSET|@ or @|bold,underline SIZE|@ fieldsFuzzingStrategy. Use 0 to run all subsets. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int maxFieldsSubsets;
+
+    @CommandLine.Option(names = {"--maxOneOfAnyOfCombinations"},
+            description = "The maximum number of payloads generated for a request using oneOf or anyOf elements. When there are more combinations, only the ones covering each pair of oneOf/anyOf variants are used. Use 0 to generate all combinations. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int maxOneOfAnyOfCombinations;
+
     @CommandLine.Option(names = {"--edgeSpacesStrategy"},
             description = "This can be either @|bold,underline VALIDATE_AND_TRIM|@ or @|bold,underline TRIM_AND_VALIDATE|@. It can be used to specify what CATS should expect when sending trailing and leading spaces valid values within fields. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private TrimmingStrategy edgeSpacesStrategy = TrimmingStrategy.TRIM_AND_VALIDATE;
@@ -44,6 +52,10 @@ public class ProcessingArguments {
             description = "Max depth for objects having cyclic dependencies. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private int selfReferenceDepth = 3;
 
+    @CommandLine.Option(names = {"--exampleVariants"},
+            description = "The number of examples generated for each schema. Once reached, one of the already generated examples is reused by all the other paths referencing the same schema. Use 0 to generate a new example every time. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int exampleVariants;
+
     @Setter
     @CommandLine.Option(names = {"--contentType"},
             description = "A custom mime type if the OpenAPI spec uses content type negotiation versioning.")
@@ -60,6 +72,20 @@ public class ProcessingArguments {
             description = "When set to @\bold true|@ it will send Content-Type=application/merge-patch+json for PATCH requests. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean rfc7396 = false;
 
+    @Setter
+    @CommandLine.Option(names = {"--parallelism"},
+            description = "The number of Fuzzers that will run concurrently for a given path. Second phase Fuzzers will always run after all the other Fuzzers finished. When greater than 1, the console output of each Fuzzer is printed once it finished the path. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int parallelism = 1;
+
+    @Setter
+    @CommandLine.Option(names = {"--pathsLookAhead"},
+            description = "The number of paths for which fuzzing data is prepared in advance, while the current path is being fuzzed. Use 0 to prepare the fuzzing data only when starting to fuzz each path. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int pathsLookAhead = 2;
+
+    @CommandLine.Option(names = {"--seed"},
+            description = "The seed used to generate random data. Supplying the seed printed by a previous run generates the same data, given the same contract and arguments. A random seed is used when not supplied")
+    private Long seed;
+
     public static final String JSON_WILDCARD = "application\\/.*\\+?json;?.*";
     public static final String JSON_PATCH = "application/merge-patch+json";
 
@@ -15,14 +15,20 @@ import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.factory.NoMediaType;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.special.FunctionalFuzzer;
+import com.endava.cats.generator.simple.RegexCache;
+import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.generator.ExampleCache;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.CatsRandom;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.ParallelExecutor;
 import com.endava.cats.util.VersionChecker;
 import com.endava.cats.util.VersionProvider;
+import com.google.common.cache.CacheStats;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -36,6 +42,7 @@ import picocli.AutoComplete;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -133,9 +140,15 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     @Inject
     CatsGlobalContext globalContext;
 
+    @Inject
+    ExampleCache exampleCache;
+
     @Inject
     VersionChecker versionChecker;
 
+    @Inject
+    ParallelExecutor parallelExecutor;
+
     @Getter
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -200,6 +213,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     public void doLogic() throws IOException {
         this.doEarlyOperations();
+        CatsRandom.initRandom(processingArguments.getSeed());
         OpenAPI openAPI = this.createOpenAPI();
         testCaseListener.initReportingPath();
         this.printConfiguration(openAPI);
@@ -208,6 +222,18 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         this.startFuzzing(openAPI);
         this.executeCustomFuzzer();
         this.enableAdditionalLoggingIfSummary();
+        this.printCacheStatistics();
+    }
+
+    private void printCacheStatistics() {
+        CacheStats compiledPathsStats = JsonUtils.getCompiledPathsStats();
+        logger.debug("Compiled JSON paths cache: {} hits, {} misses", compiledPathsStats.hitCount(), compiledPathsStats.missCount());
+        CacheStats patternsStats = RegexCache.getPatternsStats();
+        logger.debug("Compiled regex patterns cache: {} hits, {} misses", patternsStats.hitCount(), patternsStats.missCount());
+        CacheStats rgxGenStats = RegexCache.getGeneratorsStats();
+        logger.debug("Regex generators cache: {} hits, {} misses", rgxGenStats.hitCount(), rgxGenStats.missCount());
+        CacheStats examplesStats = exampleCache.getStats();
+        logger.debug("Generated examples cache: {} hits, {} misses", examplesStats.hitCount(), examplesStats.missCount());
     }
 
     private void enableAdditionalLoggingIfSummary() {
@@ -259,16 +285,28 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     public void startFuzzing(OpenAPI openAPI) {
         List<String> suppliedPaths = filterArguments.getPathsToRun(openAPI);
+        LinkedHashSet<Map.Entry<String, PathItem>> sortedPaths = this.sortPathsAlphabetically(openAPI);
+        List<Map.Entry<String, PathItem>> pathsToFuzz = sortedPaths.stream()
+                .filter(entry -> suppliedPaths.contains(entry.getKey()))
+                .toList();
 
-        for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
-            if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
-            } else {
-                logger.skip("Skipping path {}", entry.getKey());
+        try (FuzzingDataLookAhead fuzzingDataLookAhead = new FuzzingDataLookAhead(pathsToFuzz,
+                entry -> this.createFuzzingData(entry, openAPI), processingArguments.getPathsLookAhead())) {
+            for (Map.Entry<String, PathItem> entry : sortedPaths) {
+                if (suppliedPaths.contains(entry.getKey())) {
+                    this.fuzzPath(entry, fuzzingDataLookAhead);
+                } else {
+                    logger.skip("Skipping path {}", entry.getKey());
+                }
             }
         }
     }
 
+    private List<FuzzingData> createFuzzingData(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+        CatsRandom.startWorkUnit(pathItemEntry.getKey());
+        return fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+    }
+
     private LinkedHashSet<Map.Entry<String, PathItem>> sortPathsAlphabetically(OpenAPI openAPI) {
         return openAPI.getPaths().entrySet()
                 .stream().sorted(Map.Entry.comparingByKey())
@@ -308,6 +346,8 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
                 ansi().fg(Ansi.Color.BLUE).a(filterArguments.getPathsToRun(openAPI).size()).bold().reset().bold(),
                 ansi().fg(Ansi.Color.BLUE).a(openAPI.getPaths().size()).reset().bold());
         logger.config(ansi().bold().a("HTTP methods in scope: {}").reset().toString(), ansi().fg(Ansi.Color.BLUE).a(filterArguments.getHttpMethods()).reset());
+        logger.config(ansi().bold().a("Fuzzers running concurrently: {}").reset().toString(), ansi().fg(Ansi.Color.BLUE).a(processingArguments.getParallelism()).reset());
+        logger.config(ansi().bold().a("Random seed: {}").reset().toString(), ansi().fg(Ansi.Color.BLUE).a(CatsRandom.getSeed()).reset());
 
         int nofOfOperations = OpenApiUtils.getNumberOfOperations(openAPI);
         logger.config(ansi().bold().a("Total number of OpenAPI operations: {}").reset().toString(), ansi().fg(Ansi.Color.BLUE).a(nofOfOperations));
@@ -318,11 +358,12 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         reportingArguments.processLogData();
     }
 
-    public void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, FuzzingDataLookAhead fuzzingDataLookAhead) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         String ansiString = ansi().bold().a("Start fuzzing path {}").reset().toString();
         logger.start(ansiString, pathItemEntry.getKey());
-        List<FuzzingData> fuzzingDataList = fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        /*the fuzzing data for the upcoming paths is prepared while the fuzzers are running for this one*/
+        List<FuzzingData> fuzzingDataList = fuzzingDataLookAhead.next();
 
         if (fuzzingDataList.isEmpty()) {
             logger.warning("There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/Endava/cats/issues.", pathItemEntry.getKey());
@@ -346,26 +387,46 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
         testCaseListener.setTotalRunsPerPath(pathItemEntry.getKey(), fuzzersToRun.size() * filteredFuzzingData.size());
 
-        this.runFuzzers(filteredFuzzingData, fuzzersToRun);
-        this.runFuzzers(filteredFuzzingData, filterArguments.getSecondPhaseFuzzers());
+        /*first phase fuzzers are independent, so they can run concurrently; second phase fuzzers rely on the results of the first phase*/
+        this.runFuzzers(filteredFuzzingData, fuzzersToRun, true);
+        this.runFuzzers(filteredFuzzingData, filterArguments.getSecondPhaseFuzzers(), false);
     }
 
-    private void runFuzzers(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers) {
+    private void runFuzzers(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers, boolean concurrent) {
         /*We only run the fuzzers supplied and exclude those that do not apply for certain HTTP methods*/
+        List<Runnable> units = new ArrayList<>();
 
         for (Fuzzer fuzzer : configuredFuzzers) {
             List<FuzzingData> filteredData = CatsUtil.filterAndPrintNotMatching(fuzzingDataListWithHttpMethodsFiltered, data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
                     logger, "HTTP method {} is not supported by {}", t -> t.getMethod().toString(), fuzzer.toString());
-            filteredData.forEach(data -> {
-                logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
-                logger.debug("Fuzzing payload: {}", data.getPayload());
-                testCaseListener.beforeFuzz(fuzzer.getClass());
-                fuzzer.fuzz(data);
-                testCaseListener.afterFuzz(data.getContractPath(), data.getMethod().name());
-                logger.complete("Finishing Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
-                logger.info("{}", SEPARATOR);
-            });
+            units.add(() -> this.runFuzzer(fuzzer, filteredData));
+        }
 
+        /*Only the fuzzers of the current path run concurrently. Paths are still fuzzed one after another as DELETE requests and second phase fuzzers rely on resources created while fuzzing previous paths*/
+        if (concurrent) {
+            parallelExecutor.runAll(units);
+        } else {
+            units.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * A fuzzer will run sequentially through all the HTTP methods of a path as some fuzzers rely on the order of execution.
+     *
+     * @param fuzzer       the fuzzer to run
+     * @param filteredData the data for all the HTTP methods of the current path
+     */
+    private void runFuzzer(Fuzzer fuzzer, List<FuzzingData> filteredData) {
+        for (int i = 0; i < filteredData.size(); i++) {
+            FuzzingData data = filteredData.get(i);
+            CatsRandom.startWorkUnit(fuzzer + " " + data.getMethod() + " " + data.getContractPath() + " " + i);
+            logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
+            logger.debug("Fuzzing payload: {}", data.getPayload());
+            testCaseListener.beforeFuzz(fuzzer.getClass());
+            fuzzer.fuzz(data);
+            testCaseListener.afterFuzz(data.getContractPath(), data.getMethod().name());
+            logger.complete("Finishing Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
+            logger.info("{}", SEPARATOR);
         }
     }
 
@@ -0,0 +1,114 @@
+package com.endava.cats.command;
+
+import com.endava.cats.model.FuzzingData;
+import io.swagger.v3.oas.models.PathItem;
+import org.slf4j.MDC;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Creates the {@link FuzzingData} for the upcoming paths on a single background thread, while fuzzers are running for the current path.
+ * <p>
+ * This is a look-ahead and not a parallel pipeline: creating the fuzzing data also populates the global context, so paths are
+ * prepared strictly one after another, in the order they are fuzzed, and {@code --parallelism} does not apply here.
+ * At most {@code lookAhead} upcoming paths are prepared in advance, so memory usage doesn't grow with the number of paths.
+ * When {@code lookAhead} is 0, the fuzzing data is created on the calling thread, only when asking for the next path.
+ * </p>
+ */
+final class FuzzingDataLookAhead implements AutoCloseable {
+    private final Iterator<Map.Entry<String, PathItem>> upcomingPaths;
+    private final Function<Map.Entry<String, PathItem>, List<FuzzingData>> producer;
+    private final int lookAhead;
+    private final Deque<CompletableFuture<List<FuzzingData>>> prepared = new ArrayDeque<>();
+    private final Map<String, String> callerContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+    private ExecutorService worker;
+
+    /**
+     * Creates a new look-ahead.
+     *
+     * @param paths     the paths to be fuzzed, in the order they are fuzzed
+     * @param producer  creates the fuzzing data for a path
+     * @param lookAhead the number of paths prepared in advance
+     */
+    FuzzingDataLookAhead(List<Map.Entry<String, PathItem>> paths, Function<Map.Entry<String, PathItem>, List<FuzzingData>> producer, int lookAhead) {
+        this.upcomingPaths = paths.iterator();
+        this.producer = producer;
+        this.lookAhead = Math.max(0, lookAhead);
+    }
+
+    /**
+     * Returns the fuzzing data for the next path, waiting for it to be created if needed, and starts preparing the upcoming paths.
+     * Exceptions thrown while creating the fuzzing data are re-thrown.
+     *
+     * @return the fuzzing data for the next path
+     */
+    List<FuzzingData> next() {
+        this.prepareUpcoming(1);
+        CompletableFuture<List<FuzzingData>> current = prepared.poll();
+        this.prepareUpcoming(lookAhead);
+        try {
+            return current.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void prepareUpcoming(int size) {
+        while (prepared.size() < size && upcomingPaths.hasNext()) {
+            Map.Entry<String, PathItem> path = upcomingPaths.next();
+            if (lookAhead == 0) {
+                prepared.add(CompletableFuture.completedFuture(producer.apply(path)));
+            } else {
+                /*the single worker runs the tasks in submission order, so paths are prepared in the order they are fuzzed*/
+                prepared.add(CompletableFuture.supplyAsync(() -> this.produceWithContext(path), this.getWorker()));
+            }
+        }
+    }
+
+    private List<FuzzingData> produceWithContext(Map.Entry<String, PathItem> path) {
+        MDC.setContextMap(callerContext);
+        try {
+            return producer.apply(path);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private ExecutorService getWorker() {
+        if (worker == null) {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            worker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cats-fuzzing-data");
+                thread.setDaemon(true);
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            });
+        }
+        return worker;
+    }
+
+    /**
+     * Cancels the paths which are still being prepared and stops the worker thread.
+     */
+    @Override
+    public void close() {
+        prepared.forEach(future -> future.cancel(true));
+        prepared.clear();
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+}
@@ -88,7 +88,7 @@ public class ReplayCommand implements Runnable {
         CatsTestCase testCase = this.loadTestCaseFile(testCaseFileName);
         logger.start("Calling service endpoint: {}", testCase.getRequest().getUrl());
         this.loadHeadersIfSupplied(testCase);
-        CatsResponse response = serviceCaller.callService(testCase.getRequest(), Collections.emptySet());
+        CatsResponse response = serviceCaller.callService(testCase.getRequest(), testCase.getContractPath(), Collections.emptySet());
         String responseBody = JsonUtils.GSON.toJson(response.getBody().isBlank() ? "empty response" : response.getJsonBody());
         logger.complete("Response body: \n{}", responseBody);
         this.writeTestJsonsIfSupplied(testCase, response);
@@ -6,25 +6,42 @@ import io.swagger.v3.oas.models.media.Schema;
 import lombok.Getter;
 
 import jakarta.inject.Singleton;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Holds global variables which should not be recomputed for each path.
+ * <p>
+ * Schemas, request data types, additional properties and discriminators are populated while creating the fuzzing data for the upcoming paths,
+ * at the same time as fuzzers read them for the current path, so they must be safe for concurrent access.
+ * </p>
  */
 @Singleton
 @Getter
 public class CatsGlobalContext {
-    private final Map<String, Schema> schemaMap = new HashMap<>();
+    private final Map<String, Schema> schemaMap = Collections.synchronizedMap(new HashMap<>());
     private final Map<String, Example> exampleMap = new HashMap<>();
-    private final Map<String, Schema> requestDataTypes = new HashMap<>();
-    private final List<String> additionalProperties = new ArrayList<>();
-    private final List<Discriminator> discriminators = new ArrayList<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
-    private final Set<String> successfulDeletes = new HashSet<>();
+    private final Map<String, Schema> requestDataTypes = Collections.synchronizedMap(new HashMap<>());
+    private final List<String> additionalProperties = new CopyOnWriteArrayList<>();
+    private final List<Discriminator> discriminators = new CopyOnWriteArrayList<>();
+    private final Map<String, Deque<String>> postSuccessfulResponses = new ConcurrentHashMap<>();
+    private final Set<String> successfulDeletes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns a copy of the request data types recorded so far. Fuzzers of a path must use this copy instead of {@link #getRequestDataTypes()},
+     * as the fuzzing data for the upcoming paths records data types for fields having the same names while the path is fuzzed.
+     *
+     * @return an immutable copy of the request data types
+     */
+    public Map<String, Schema> snapshotRequestDataTypes() {
+        synchronized (requestDataTypes) {
+            return Collections.unmodifiableMap(new HashMap<>(requestDataTypes));
+        }
+    }
 }
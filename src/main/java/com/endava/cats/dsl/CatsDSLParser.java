@@ -5,18 +5,26 @@ import com.endava.cats.dsl.impl.AuthScriptProviderParser;
 import com.endava.cats.dsl.impl.EnvVariableParser;
 import com.endava.cats.dsl.impl.NoOpParser;
 import com.endava.cats.dsl.impl.SpringELParser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.regex.Pattern;
 
 public class CatsDSLParser {
+    static final int MAX_CACHED_VALUES = 1024;
+    private static final Pattern DOLLAR_EXPRESSION = Pattern.compile("\\$\\{([^}]*)}");
     private static final Parser DEFAULT_PARSER = new NoOpParser();
     private static final Parser SPRING_EL_PARSER = new SpringELParser();
+    private static final AuthScriptProviderParser AUTH_SCRIPT_PARSER = new AuthScriptProviderParser();
     private static final Map<String, Parser> PARSERS = Map.of(
             "$$", new EnvVariableParser(),
             "$request", SPRING_EL_PARSER,
             "T(", SPRING_EL_PARSER,
             "${", SPRING_EL_PARSER,
-            "auth_script", new AuthScriptProviderParser());
+            "auth_script", AUTH_SCRIPT_PARSER);
+    private static final Cache<String, ParsableValue> PARSABLE_VALUES = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_VALUES).build();
 
     private CatsDSLParser() {
         //ntd
@@ -31,13 +39,50 @@ public class CatsDSLParser {
      * @return the result after the appropriate parser runs
      */
     public static String parseAndGetResult(String valueFromFile, Map<String, String> context) {
+        ParsableValue parsableValue = getParsableValue(valueFromFile);
+        return parsableValue.parser().parse(parsableValue.sanitized(), context);
+    }
+
+    /**
+     * Sets the listener notified with the duration in milliseconds of each {@code --authRefreshScript} run.
+     *
+     * @param listener the listener notified after each auth script run
+     */
+    public static void setAuthScriptRunListener(LongConsumer listener) {
+        AUTH_SCRIPT_PARSER.setRunListener(listener);
+    }
+
+    /**
+     * Checks if the given value produces the same result every time it is parsed, regardless of the context.
+     * Plain values and environment variables are static, while expressions and auth scripts must be evaluated every time.
+     *
+     * @param valueFromFile the expression retrieved from the CATS files
+     * @return true if the value can be parsed once and reused, false otherwise
+     */
+    public static boolean isStatic(String valueFromFile) {
+        Parser parser = getParsableValue(valueFromFile).parser();
+        return parser == DEFAULT_PARSER || parser instanceof EnvVariableParser;
+    }
+
+    /**
+     * The parser and the sanitized form only depend on the value itself, so they are computed once for each value.
+     */
+    private static ParsableValue getParsableValue(String valueFromFile) {
+        ParsableValue parsableValue = PARSABLE_VALUES.getIfPresent(valueFromFile);
+        if (parsableValue == null) {
+            parsableValue = new ParsableValue(getParser(valueFromFile), sanitize(valueFromFile));
+            PARSABLE_VALUES.put(valueFromFile, parsableValue);
+        }
+        return parsableValue;
+    }
+
+    private static Parser getParser(String valueFromFile) {
         return PARSERS.entrySet()
                 .stream()
                 .filter(entry -> valueFromFile.startsWith(entry.getKey()))
                 .map(Map.Entry::getValue)
                 .findFirst()
-                .orElse(DEFAULT_PARSER)
-                .parse(sanitize(valueFromFile), context);
+                .orElse(DEFAULT_PARSER);
     }
 
     /**
@@ -48,8 +93,11 @@ public class CatsDSLParser {
      * @return normalized form of the expression
      */
     private static String sanitize(String expression) {
-        return expression.replaceAll("\\$\\{([^}]*)}", "$1")
+        return DOLLAR_EXPRESSION.matcher(expression).replaceAll("$1")
                 .replace("request#", "request.")
                 .replace("$request", "request");
     }
+
+    private record ParsableValue(Parser parser, String sanitized) {
+    }
 }
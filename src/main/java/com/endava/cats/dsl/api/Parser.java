@@ -11,6 +11,7 @@ public interface Parser {
     String RESPONSE = "response";
     String AUTH_SCRIPT = "auth_script";
     String AUTH_REFRESH = "auth_refresh";
+    String AUTH_TIMEOUT = "auth_timeout";
 
     /**
      * Parses the given expression within the given context and returns the result.
@@ -6,53 +6,174 @@ import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
+/**
+ * Provides credentials by running the {@code --authRefreshScript}.
+ * <p>
+ * The script runs synchronously only the first time credentials are needed. When a {@code --authRefreshInterval} is supplied,
+ * the script is then re-run on a background thread, ahead of the interval elapsing by twice the time the last run took,
+ * so that requests never wait for new credentials. Requests always get the latest credentials without locking.
+ * If a refresh fails, the previous credentials are kept and the refresh is retried after a quarter of the interval.
+ * A script which doesn't finish within the {@code --authRefreshTimeout} is stopped and counts as a failed run.
+ * </p>
+ */
 public class AuthScriptProviderParser implements Parser {
+    private static final long MIN_RETRY_DELAY_IN_MS = 1000;
+
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AuthScriptProviderParser.class);
-    private long t0 = System.currentTimeMillis();
-    private String existingValue;
+    private final AtomicReference<Credentials> credentials = new AtomicReference<>();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledRefresh;
+    private volatile long lastRefreshDurationInMs;
+    private volatile LongConsumer runListener = durationInMs -> {
+    };
 
+    public AuthScriptProviderParser() {
+        this(null);
+    }
+
+    AuthScriptProviderParser(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the listener notified with the duration in milliseconds of each script run, including failed ones.
+     *
+     * @param runListener the listener notified after each script run
+     */
+    public void setRunListener(LongConsumer runListener) {
+        this.runListener = Objects.requireNonNull(runListener);
+    }
 
     @Override
     public String parse(String expression, Map<String, String> context) {
         String script = context.get(Parser.AUTH_SCRIPT);
         int authRefreshInterval = Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH, "0"));
+        int authTimeout = Integer.parseInt(context.getOrDefault(Parser.AUTH_TIMEOUT, "0"));
+
+        Credentials current = credentials.get();
+        if (current == null || !current.isFor(script, authRefreshInterval)) {
+            current = this.initCredentials(script, authRefreshInterval, authTimeout);
+        }
+        return current.value();
+    }
 
-        if (authRefreshInterval > 0 && refreshIntervalElapsed(authRefreshInterval)) {
-            logger.debug("Refresh interval passed.");
-            t0 = System.currentTimeMillis();
-            existingValue = runScript(script);
+    private synchronized Credentials initCredentials(String script, int authRefreshInterval, int authTimeout) {
+        Credentials current = credentials.get();
+        if (current != null && current.isFor(script, authRefreshInterval)) {
+            return current;
         }
+        current = new Credentials(script, authRefreshInterval, authTimeout, this.runScript(script, authTimeout));
+        credentials.set(current);
+        this.scheduleRefresh(current, this.computeRefreshDelayInMs(authRefreshInterval));
 
-        if (existingValue == null) {
-            existingValue = runScript(script);
+        return current;
+    }
+
+    private synchronized void scheduleRefresh(Credentials current, long delayInMs) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        if (current.refreshInterval() <= 0) {
+            return;
         }
-        return existingValue;
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cats-auth-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduledRefresh = scheduler.schedule(() -> this.refresh(current), delayInMs, TimeUnit.MILLISECONDS);
     }
 
-    private String runScript(String script) {
+    private void refresh(Credentials previous) {
+        logger.debug("Refresh interval passed.");
+        long refreshIntervalInMs = TimeUnit.SECONDS.toMillis(previous.refreshInterval());
+        try {
+            Credentials refreshed = new Credentials(previous.script(), previous.refreshInterval(), previous.timeout(),
+                    this.runScript(previous.script(), previous.timeout()));
+            if (credentials.compareAndSet(previous, refreshed)) {
+                logger.note("Auth credentials refreshed in {}ms", lastRefreshDurationInMs);
+                this.scheduleRefresh(refreshed, this.computeRefreshDelayInMs(previous.refreshInterval()));
+            }
+        } catch (CatsException e) {
+            logger.warning("Failed to refresh auth credentials, previous credentials will be used: {}", e.getMessage());
+            if (credentials.get() == previous) {
+                this.scheduleRefresh(previous, Math.max(MIN_RETRY_DELAY_IN_MS, refreshIntervalInMs / 4));
+            }
+        }
+    }
+
+    private long computeRefreshDelayInMs(int authRefreshInterval) {
+        long refreshIntervalInMs = TimeUnit.SECONDS.toMillis(authRefreshInterval);
+        return Math.max(refreshIntervalInMs / 2, refreshIntervalInMs - 2 * lastRefreshDurationInMs);
+    }
+
+    /**
+     * The output is read on a separate thread, so that a script which hangs can be stopped after the timeout. A timeout of 0 waits until the script ends.
+     */
+    private String runScript(String script, int timeoutInSeconds) {
         logger.note("Running script {} to get credentials", script);
+        long startTime = System.currentTimeMillis();
+        Process process = null;
         try {
             ProcessBuilder processBuilder = new ProcessBuilder(script);
             processBuilder.redirectErrorStream(true);
-            StringBuilder builder = new StringBuilder();
+            process = processBuilder.start();
+            Future<String> output = CompletableFuture.supplyAsync(readOutput(process));
 
-            try (BufferedReader reader = processBuilder.start().inputReader(StandardCharsets.UTF_8)) {
+            return timeoutInSeconds > 0 ? output.get(timeoutInSeconds, TimeUnit.SECONDS) : output.get();
+        } catch (TimeoutException e) {
+            throw new CatsException("Script %s did not finish in %d seconds".formatted(script, timeoutInSeconds), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CatsException(e);
+        } catch (Exception e) {
+            throw new CatsException(e);
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+            lastRefreshDurationInMs = System.currentTimeMillis() - startTime;
+            runListener.accept(lastRefreshDurationInMs);
+        }
+    }
+
+    private static Supplier<String> readOutput(Process process) {
+        return () -> {
+            StringBuilder builder = new StringBuilder();
+            try (BufferedReader reader = process.inputReader(StandardCharsets.UTF_8)) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     builder.append(line);
                 }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-
             return builder.toString();
-        } catch (Exception e) {
-            throw new CatsException(e);
-        }
+        };
     }
 
-    private boolean refreshIntervalElapsed(int authRefreshInterval) {
-        return (System.currentTimeMillis() - t0) / 1000 >= authRefreshInterval;
+    private record Credentials(String script, int refreshInterval, int timeout, String value) {
+        boolean isFor(String otherScript, int otherRefreshInterval) {
+            return Objects.equals(script, otherScript) && refreshInterval == otherRefreshInterval;
+        }
     }
 }
@@ -1,10 +1,14 @@
 package com.endava.cats.dsl.impl;
 
 import com.endava.cats.dsl.api.Parser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.Expression;
+import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.json.JsonPropertyAccessor;
@@ -17,13 +21,21 @@ import java.util.Map;
  * The format of these expressions usually start with {@code T{....}}.
  * Expressions can also have access to the JSON elements supplied in request,
  * responses as well as global variables from the {@code FunctionalFuzzer}.
+ * <p>
+ * Compiled expressions are cached, as the same few expressions from the headers and reference data files
+ * are evaluated for every request.
+ * </p>
  */
 public class SpringELParser implements Parser {
+    static final int MAX_CACHED_EXPRESSIONS = 1024;
+    private static final List<PropertyAccessor> PROPERTY_ACCESSORS = List.of(new MapAccessor(), new JsonPropertyAccessor());
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
     private final SpelExpressionParser spelExpressionParser;
+    private final Cache<String, Expression> expressions;
 
     public SpringELParser() {
         spelExpressionParser = new SpelExpressionParser();
+        expressions = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).build();
     }
 
     @Override
@@ -42,12 +54,25 @@ public class SpringELParser implements Parser {
     private Object parseContext(String expression, Object context) {
         try {
             StandardEvaluationContext evaluationContext = new StandardEvaluationContext(context);
-            evaluationContext.setPropertyAccessors(List.of(new MapAccessor(), new JsonPropertyAccessor()));
+            evaluationContext.setPropertyAccessors(PROPERTY_ACCESSORS);
 
-            return spelExpressionParser.parseExpression(expression).getValue(evaluationContext);
+            return this.getExpression(expression).getValue(evaluationContext);
         } catch (Exception e) {
             log.trace("Something went wrong while parsing: {}", e.getMessage());
             return expression;
         }
     }
+
+    private Expression getExpression(String expression) {
+        Expression compiledExpression = expressions.getIfPresent(expression);
+        if (compiledExpression == null) {
+            compiledExpression = spelExpressionParser.parseExpression(expression);
+            expressions.put(expression, compiledExpression);
+        }
+        return compiledExpression;
+    }
+
+    long getCachedExpressions() {
+        return expressions.size();
+    }
 }
@@ -9,6 +9,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.generator.ExampleCache;
 import com.endava.cats.model.generator.OpenAPIModelGenerator;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.google.gson.JsonElement;
@@ -63,19 +64,22 @@ public class FuzzingDataFactory {
     private final CatsGlobalContext globalContext;
     private final ValidDataFormat validDataFormat;
     private final FilterArguments filterArguments;
+    private final ExampleCache exampleCache;
 
     @Inject
-    public FuzzingDataFactory(FilesArguments filesArguments, ProcessingArguments processingArguments, CatsGlobalContext catsGlobalContext, ValidDataFormat validDataFormat, FilterArguments filterArguments) {
+    public FuzzingDataFactory(FilesArguments filesArguments, ProcessingArguments processingArguments, CatsGlobalContext catsGlobalContext, ValidDataFormat validDataFormat, FilterArguments filterArguments, ExampleCache exampleCache) {
         this.filesArguments = filesArguments;
         this.processingArguments = processingArguments;
         this.globalContext = catsGlobalContext;
         this.validDataFormat = validDataFormat;
         this.filterArguments = filterArguments;
+        this.exampleCache = exampleCache;
     }
 
     /**
      * Creates a list of FuzzingData objects that will be used to fuzz the provided PathItems. The reason there is more than one FuzzingData object is due
      * to cases when the contract uses OneOf or AnyOf composite objects which causes the payload to have more than one variation.
+     * All the returned items share a copy of the request data types recorded until this path's fuzzing data was created.
      *
      * @param path the path from the contract
      * @param item the PathItem containing the details about the interaction with the path
@@ -108,7 +112,10 @@ public class FuzzingDataFactory {
             fuzzingDataList.addAll(this.getFuzzingDataForDelete(path, item, item.getDelete(), openAPI));
         }
 
-        return fuzzingDataList;
+        Map<String, Schema> requestPropertyTypes = globalContext.snapshotRequestDataTypes();
+        return fuzzingDataList.stream()
+                .map(data -> data.toBuilder().requestPropertyTypes(requestPropertyTypes).build())
+                .toList();
     }
 
 
@@ -220,7 +227,6 @@ public class FuzzingDataFactory {
                             .requestContentTypes(requestContentTypes)
                             .schemaMap(globalContext.getSchemaMap())
                             .responses(responses)
-                            .requestPropertyTypes(globalContext.getRequestDataTypes())
                             .openApi(openAPI)
                             .tags(operation.getTags())
                             .reqSchemaName(reqSchemaName)
@@ -281,7 +287,6 @@ public class FuzzingDataFactory {
                         .schemaMap(globalContext.getSchemaMap())
                         .responses(responses)
                         .responseContentTypes(responsesContentTypes)
-                        .requestPropertyTypes(globalContext.getRequestDataTypes())
                         .requestContentTypes(requestContentTypes)
                         .queryParams(queryParams)
                         .openApi(openAPI)
@@ -364,7 +369,7 @@ public class FuzzingDataFactory {
     }
 
     private List<String> getRequestPayloadsSamples(MediaType mediaType, String reqSchemaName) {
-        OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, processingArguments.isUseExamples(), processingArguments.getSelfReferenceDepth());
+        OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, exampleCache, processingArguments.isUseExamples(), processingArguments.getSelfReferenceDepth());
         List<String> result = this.generateSample(reqSchemaName, generator);
 
         if (mediaType != null && mediaType.getSchema() instanceof ArraySchema) {
@@ -420,26 +425,43 @@ public class FuzzingDataFactory {
     }
 
     /**
-     * This gets all possible ONE_OF and ANY_OF combinations, including combinations between multiple ONE_OF/ANY_OF.
+     * This gets the ONE_OF and ANY_OF combinations, including combinations between multiple ONE_OF/ANY_OF.
+     * All combinations are returned when there is no {@link ProcessingArguments#getMaxOneOfAnyOfCombinations()} limit or their number is within it.
+     * Otherwise, only combinations covering each pair of variants from any two ONE_OF/ANY_OF elements are returned.
+     * Combinations are built one at a time and payloads which are structurally identical to a previous one are dropped.
      *
      * @param jsonElement the initial JSON payload
-     * @return a list with all possible ONE_OF and ANY_OF combinations based on the initial JSON payload
+     * @return a list with the ONE_OF and ANY_OF combinations based on the initial JSON payload
      */
     private List<String> addNewCombination(JsonElement jsonElement) {
-        List<String> result = new ArrayList<>();
-        result.add(jsonElement.toString());
-        Map<String, Map<String, JsonElement>> anyOfOrOneOfElements = this.getAnyOrOneOffElements("$", jsonElement);
-        anyOfOrOneOfElements = this.joinCommonOneAndAnyOfs(anyOfOrOneOfElements);
-
-        anyOfOrOneOfElements.forEach((pathKey, anyOfOrOneOf) -> {
-            List<String> interimCombinationList = new ArrayList<>(result);
-            result.clear();
-            anyOfOrOneOf.forEach((key, value) ->
-                    interimCombinationList.forEach(payload ->
-                            result.add(JsonUtils.createValidOneOfAnyOfNode(payload, pathKey, key, value.toString(), anyOfOrOneOf.keySet()))));
-        });
+        List<Map.Entry<String, Map<String, JsonElement>>> anyOfOrOneOfElements = List.copyOf(
+                this.joinCommonOneAndAnyOfs(this.getAnyOrOneOffElements("$", jsonElement)).entrySet());
+        int[] variants = anyOfOrOneOfElements.stream().mapToInt(entry -> entry.getValue().size()).toArray();
+        List<List<Map.Entry<String, JsonElement>>> variantsList = anyOfOrOneOfElements.stream()
+                .map(entry -> List.copyOf(entry.getValue().entrySet()))
+                .toList();
 
-        return result;
+        int maxCombinations = processingArguments.getMaxOneOfAnyOfCombinations() > 0 ? processingArguments.getMaxOneOfAnyOfCombinations() : Integer.MAX_VALUE;
+        long allCombinations = VariantCombinations.countAll(variants);
+        if (allCombinations > maxCombinations) {
+            logger.info("Payload has {} ONE_OF/ANY_OF combinations. Selecting at most {} combinations covering all pairs of variants. Use --maxOneOfAnyOfCombinations to change this limit",
+                    allCombinations, maxCombinations);
+        }
+
+        String initialPayload = jsonElement.toString();
+        Set<JsonElement> distinctPayloads = new HashSet<>();
+        return VariantCombinations.select(variants, maxCombinations)
+                .map(combination -> {
+                    String payload = initialPayload;
+                    for (int i = 0; i < combination.length; i++) {
+                        Map.Entry<String, Map<String, JsonElement>> anyOfOrOneOf = anyOfOrOneOfElements.get(i);
+                        Map.Entry<String, JsonElement> variant = variantsList.get(i).get(combination[i]);
+                        payload = JsonUtils.createValidOneOfAnyOfNode(payload, anyOfOrOneOf.getKey(), variant.getKey(), variant.getValue().toString(), anyOfOrOneOf.getValue().keySet());
+                    }
+                    return payload;
+                })
+                .filter(payload -> distinctPayloads.add(JsonParser.parseString(payload)))
+                .toList();
     }
 
     private Map<String, Map<String, JsonElement>> joinCommonOneAndAnyOfs(Map<String, Map<String, JsonElement>> startingOneAnyOfs) {
@@ -609,7 +631,7 @@ public class FuzzingDataFactory {
      */
     private Map<String, List<String>> getResponsePayloads(Operation operation, Set<String> responseCodes) {
         Map<String, List<String>> responses = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, processingArguments.isUseExamples(), processingArguments.getSelfReferenceDepth());
+        OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, exampleCache, processingArguments.isUseExamples(), processingArguments.getSelfReferenceDepth());
         for (String responseCode : responseCodes) {
             String responseSchemaRef = this.extractResponseSchemaRef(operation, responseCode);
             if (responseSchemaRef != null) {
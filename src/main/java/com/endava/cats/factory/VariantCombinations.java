@@ -0,0 +1,158 @@
+package com.endava.cats.factory;
+
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Selects combinations of variants across several dimensions, each dimension being a ONE_OF/ANY_OF element with a number of variants.
+ * Each combination holds the index of the selected variant for each dimension.
+ * <p>
+ * When the number of all possible combinations is within the limit, all of them are generated lazily, the first dimension changing the fastest.
+ * Otherwise, a set of combinations covering each pair of variants from any two dimensions is selected. Its size grows with the number
+ * of variants rather than with their product. The selection is truncated to the limit if it still exceeds it.
+ * </p>
+ */
+final class VariantCombinations {
+
+    private VariantCombinations() {
+        //ntd
+    }
+
+    /**
+     * Returns the number of all possible combinations or {@link Long#MAX_VALUE} if it doesn't fit a long.
+     *
+     * @param sizes the number of variants for each dimension
+     * @return the number of all possible combinations
+     */
+    static long countAll(int[] sizes) {
+        long count = 1;
+        for (int size : sizes) {
+            count = LongMath.saturatedMultiply(count, size);
+        }
+        return count;
+    }
+
+    /**
+     * Selects the combinations for the given dimensions.
+     *
+     * @param sizes the number of variants for each dimension
+     * @param limit the maximum number of combinations
+     * @return the selected combinations
+     */
+    static Stream<int[]> select(int[] sizes, int limit) {
+        long all = countAll(sizes);
+        if (all <= limit) {
+            return Stream.iterate(new int[sizes.length], combination -> next(combination, sizes)).limit(all);
+        }
+        return pairwise(sizes).stream().limit(limit);
+    }
+
+    private static int[] next(int[] combination, int[] sizes) {
+        int[] next = combination.clone();
+        for (int i = 0; i < next.length; i++) {
+            next[i]++;
+            if (next[i] < sizes[i]) {
+                break;
+            }
+            next[i] = 0;
+        }
+        return next;
+    }
+
+    /**
+     * Builds combinations covering all pairs of variants using in-parameter-order generation: the combinations covering the first two
+     * dimensions are extended one dimension at a time, first by picking for each existing combination the variant covering the most new pairs,
+     * then by adding combinations for the pairs which are still not covered.
+     */
+    static List<int[]> pairwise(int[] sizes) {
+        List<int[]> combinations = new ArrayList<>();
+        if (sizes.length < 2) {
+            return Stream.iterate(new int[sizes.length], combination -> next(combination, sizes)).limit(countAll(sizes)).toList();
+        }
+        for (int first = 0; first < sizes[0]; first++) {
+            for (int second = 0; second < sizes[1]; second++) {
+                int[] combination = unset(sizes.length);
+                combination[0] = first;
+                combination[1] = second;
+                combinations.add(combination);
+            }
+        }
+        for (int dimension = 2; dimension < sizes.length; dimension++) {
+            boolean[][][] covered = new boolean[dimension][][];
+            for (int previous = 0; previous < dimension; previous++) {
+                covered[previous] = new boolean[sizes[previous]][sizes[dimension]];
+            }
+            for (int[] combination : combinations) {
+                combination[dimension] = bestVariant(combination, dimension, sizes[dimension], covered);
+                markCovered(combination, dimension, covered);
+            }
+            combinations.addAll(coverRemainingPairs(sizes, dimension, covered));
+        }
+        combinations.forEach(combination -> Arrays.setAll(combination, i -> Math.max(0, combination[i])));
+        return combinations;
+    }
+
+    private static int bestVariant(int[] combination, int dimension, int variants, boolean[][][] covered) {
+        int best = 0;
+        int bestNewPairs = -1;
+        for (int variant = 0; variant < variants; variant++) {
+            int newPairs = 0;
+            for (int previous = 0; previous < dimension; previous++) {
+                if (combination[previous] >= 0 && !covered[previous][combination[previous]][variant]) {
+                    newPairs++;
+                }
+            }
+            if (newPairs > bestNewPairs) {
+                best = variant;
+                bestNewPairs = newPairs;
+            }
+        }
+        return best;
+    }
+
+    private static void markCovered(int[] combination, int dimension, boolean[][][] covered) {
+        for (int previous = 0; previous < dimension; previous++) {
+            if (combination[previous] >= 0) {
+                covered[previous][combination[previous]][combination[dimension]] = true;
+            }
+        }
+    }
+
+    private static List<int[]> coverRemainingPairs(int[] sizes, int dimension, boolean[][][] covered) {
+        List<int[]> added = new ArrayList<>();
+        for (int previous = 0; previous < dimension; previous++) {
+            for (int previousVariant = 0; previousVariant < sizes[previous]; previousVariant++) {
+                for (int variant = 0; variant < sizes[dimension]; variant++) {
+                    if (!covered[previous][previousVariant][variant]) {
+                        int[] combination = findOpenCombination(added, previous, dimension, variant);
+                        if (combination == null) {
+                            combination = unset(sizes.length);
+                            combination[dimension] = variant;
+                            added.add(combination);
+                        }
+                        combination[previous] = previousVariant;
+                        covered[previous][previousVariant][variant] = true;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    private static int[] findOpenCombination(List<int[]> combinations, int previous, int dimension, int variant) {
+        return combinations.stream()
+                .filter(combination -> combination[dimension] == variant && combination[previous] < 0)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static int[] unset(int length) {
+        int[] combination = new int[length];
+        Arrays.fill(combination, -1);
+        return combination;
+    }
+}
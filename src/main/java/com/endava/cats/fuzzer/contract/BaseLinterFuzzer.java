@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.contract;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -33,7 +34,7 @@ public abstract class BaseLinterFuzzer implements Fuzzer {
     @Override
     public void fuzz(FuzzingData data) {
         if (!fuzzedPaths.contains(this.runKey(data))) {
-            testCaseListener.createAndExecuteTest(log, this, () -> addDefaultsAndProcess(data));
+            testCaseListener.createAndExecuteTest(log, this, context -> addDefaultsAndProcess(context, data));
 
             fuzzedPaths.add(this.runKey(data));
         }
@@ -43,17 +44,18 @@ public abstract class BaseLinterFuzzer implements Fuzzer {
      * Contract Fuzzers are only analyzing the contract without doing any HTTP Call.
      * This is why we set the below default values for all Contract Fuzzers.
      *
-     * @param data the current FuzzingData
+     * @param context the current test case context
+     * @param data    the current FuzzingData
      */
-    private void addDefaultsAndProcess(FuzzingData data) {
-        testCaseListener.addPath(data.getPath());
-        testCaseListener.addContractPath(data.getContractPath());
-        testCaseListener.addFullRequestPath("NA");
+    private void addDefaultsAndProcess(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addPath(context, data.getPath());
+        testCaseListener.addContractPath(context, data.getContractPath());
+        testCaseListener.addFullRequestPath(context, "NA");
         CatsRequest request = CatsRequest.empty();
         request.setHttpMethod(String.valueOf(data.getMethod()));
-        testCaseListener.addRequest(request);
+        testCaseListener.addRequest(context, request);
 
-        this.process(data);
+        this.process(context, data);
     }
 
     protected <T> String getOrEmpty(Supplier<T> function, String toReturn) {
@@ -66,9 +68,10 @@ public abstract class BaseLinterFuzzer implements Fuzzer {
     /**
      * Each Fuzzer will implement this in order to provide specific logic.
      *
-     * @param data the current FuzzingData object
+     * @param context the current test case context
+     * @param data    the current FuzzingData object
      */
-    public abstract void process(FuzzingData data);
+    public abstract void process(TestCaseContext context, FuzzingData data);
 
     /**
      * This will avoid running the same fuzzer more than once if not relevant. You can define the runKey based on any combination of elements
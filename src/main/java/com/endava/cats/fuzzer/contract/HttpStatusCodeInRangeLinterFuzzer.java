@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.contract;
 
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -20,17 +21,17 @@ public class HttpStatusCodeInRangeLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the response codes defined for the current path and HTTP method {} are valid HTTP codes i.e. between 100 and 599", data.getMethod());
-        testCaseListener.addExpectedResult(log, "All defined response codes must be between 100 and 599");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the response codes defined for the current path and HTTP method {} are valid HTTP codes i.e. between 100 and 599", data.getMethod());
+        testCaseListener.addExpectedResult(context, log, "All defined response codes must be between 100 and 599");
 
         Set<String> notMatchingResponseCodes = data.getResponseCodes().stream()
                 .filter(code -> !code.equalsIgnoreCase("default") && (Integer.parseInt(code) < 100 || Integer.parseInt(code) > 599)).collect(Collectors.toSet());
 
         if (notMatchingResponseCodes.isEmpty()) {
-            testCaseListener.reportResultInfo(log, data, "All defined response codes are valid!");
+            testCaseListener.reportResultInfo(context, log, data, "All defined response codes are valid!");
         } else {
-            testCaseListener.reportResultError(log, data, "Invalid response codes", "The following response codes are not valid: {}", notMatchingResponseCodes);
+            testCaseListener.reportResultError(context, log, data, "Invalid response codes", "The following response codes are not valid: {}", notMatchingResponseCodes);
         }
     }
 
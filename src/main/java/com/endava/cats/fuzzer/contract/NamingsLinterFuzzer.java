@@ -9,6 +9,7 @@ import com.endava.cats.model.CatsField;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -45,14 +46,14 @@ public class NamingsLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
+    public void process(TestCaseContext context, FuzzingData data) {
         String expectedResult = "Path should follow the RESTful API naming good practices. " +
                 "Must use the following naming conventions: nouns, plurals, paths %s, path variables %s, query params %s, JSON objects %s, JSON properties %s, headers %s"
                         .formatted(namingArguments.getPathNaming().getDescription(), namingArguments.getPathVariablesNaming().getDescription(),
                                 namingArguments.getQueryParamsNaming().getDescription(), namingArguments.getJsonObjectsNaming().getDescription(),
                                 namingArguments.getJsonPropertiesNaming().getDescription(), namingArguments.getHeadersNaming().getDescription());
-        testCaseListener.addScenario(log, "Check if the path {} follows RESTful API naming good practices for HTTP method {}", data.getPath(), data.getMethod());
-        testCaseListener.addExpectedResult(log, expectedResult);
+        testCaseListener.addScenario(context, log, "Check if the path {} follows RESTful API naming good practices for HTTP method {}", data.getPath(), data.getMethod());
+        testCaseListener.addExpectedResult(context, log, expectedResult);
 
         StringBuilder errorString = new StringBuilder();
         String[] pathElements = data.getPath().substring(1).split("/");
@@ -68,10 +69,10 @@ public class NamingsLinterFuzzer extends BaseLinterFuzzer {
         errorString.append(this.checkQueryParams(data));
 
         if (!errorString.toString().isEmpty()) {
-            testCaseListener.reportResultError(log, data, "Paths not following recommended naming",
+            testCaseListener.reportResultError(context, log, data, "Paths not following recommended naming",
                     "Path does not follow RESTful API naming good practices: {}", StringUtils.stripEnd(errorString.toString().trim(), ","));
         } else {
-            testCaseListener.reportResultInfo(log, data, "Path follows the RESTful API naming good practices.");
+            testCaseListener.reportResultInfo(context, log, data, "Path follows the RESTful API naming good practices.");
         }
     }
 
@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.contract;
 
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -24,9 +25,9 @@ public class PathTagsLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the current path contains the [tags] element for HTTP method {}", data.getMethod());
-        testCaseListener.addExpectedResult(log, "[tags] element must be present and match the ones defined at the top level");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the current path contains the [tags] element for HTTP method {}", data.getMethod());
+        testCaseListener.addExpectedResult(context, log, "[tags] element must be present and match the ones defined at the top level");
 
         List<String> topLevelTagNames = Optional.ofNullable(data.getOpenApi().getTags()).orElse(Collections.emptyList()).stream()
                 .map(Tag::getName).toList();
@@ -35,13 +36,13 @@ public class PathTagsLinterFuzzer extends BaseLinterFuzzer {
                 .stream().filter(topLevelTagNames::contains).toList();
 
         if (CollectionUtils.isEmpty(data.getTags())) {
-            testCaseListener.reportResultError(log, data, "No tag element", "The current path does not contain any [tags] element");
+            testCaseListener.reportResultError(context, log, data, "No tag element", "The current path does not contain any [tags] element");
         } else if (matching.size() == data.getTags().size()) {
-            testCaseListener.reportResultInfo(log, data, "The current path's [tags] are correctly defined at the top level [tags] element");
+            testCaseListener.reportResultInfo(context, log, data, "The current path's [tags] are correctly defined at the top level [tags] element");
         } else {
             List<String> missing = new ArrayList<>(data.getTags());
             missing.removeAll(matching);
-            testCaseListener.reportResultError(log, data, "Tag not present in top level tags element", "The following [tags] are not present in the top level [tags] element: {}", missing);
+            testCaseListener.reportResultError(context, log, data, "Tag not present in top level tags element", "The following [tags] are not present in the top level [tags] element: {}", missing);
         }
     }
 
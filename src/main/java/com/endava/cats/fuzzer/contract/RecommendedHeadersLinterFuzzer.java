@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.contract;
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -22,17 +23,17 @@ public class RecommendedHeadersLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the current path contains recommended headers such as CorrelationId/TraceId for HTTP method {}", data.getMethod());
-        testCaseListener.addExpectedResult(log, "Recommended headers [TraceId/CorrelationId] must be present");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the current path contains recommended headers such as CorrelationId/TraceId for HTTP method {}", data.getMethod());
+        testCaseListener.addExpectedResult(context, log, "Recommended headers [TraceId/CorrelationId] must be present");
 
         List<CatsHeader> recommendedHeaders = data.getHeaders().stream()
                 .filter(catsHeader -> HEADERS.parallelStream().anyMatch(this.replaceSpecialChars(catsHeader.getName()).toLowerCase()::contains)).toList();
 
         if (recommendedHeaders.isEmpty()) {
-            testCaseListener.reportResultError(log, data, "No traceId/correlationId headers", "Path does not contain the recommended [TracedId/CorrelationId] headers for HTTP method {}", data.getMethod());
+            testCaseListener.reportResultError(context, log, data, "No traceId/correlationId headers", "Path does not contain the recommended [TracedId/CorrelationId] headers for HTTP method {}", data.getMethod());
         } else {
-            testCaseListener.reportResultInfo(log, data, "Path contains the recommended [TracedId/CorrelationId] headers for HTTP method {}", data.getMethod());
+            testCaseListener.reportResultInfo(context, log, data, "Path contains the recommended [TracedId/CorrelationId] headers for HTTP method {}", data.getMethod());
         }
     }
 
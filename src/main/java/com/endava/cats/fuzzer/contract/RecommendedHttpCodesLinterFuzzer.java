@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.contract;
 
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -21,9 +22,9 @@ public class RecommendedHttpCodesLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the current path contains all recommended HTTP response codes for HTTP method {}", data.getMethod());
-        testCaseListener.addExpectedResult(log, "The following response codes should be present for HTTP operation {}: {}", data.getMethod(), data.getMethod().getRecommendedCodes());
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the current path contains all recommended HTTP response codes for HTTP method {}", data.getMethod());
+        testCaseListener.addExpectedResult(context, log, "The following response codes should be present for HTTP operation {}: {}", data.getMethod(), data.getMethod().getRecommendedCodes());
 
         List<String> missingCodesWithOrLists = data.getMethod().getRecommendedCodes()
                 .stream()
@@ -33,9 +34,9 @@ public class RecommendedHttpCodesLinterFuzzer extends BaseLinterFuzzer {
                 .filter(code -> Arrays.stream(code.split(Pattern.quote("|"))).noneMatch(splitCode -> data.getResponseCodes().contains(splitCode))).toList();
 
         if (missingCodes.isEmpty()) {
-            testCaseListener.reportResultInfo(log, data, "All recommended HTTP codes are defined!");
+            testCaseListener.reportResultInfo(context, log, data, "All recommended HTTP codes are defined!");
         } else {
-            testCaseListener.reportResultError(log, data, "Missing recommended HTTP response codes", "The following recommended HTTP response codes are missing: {}", missingCodes);
+            testCaseListener.reportResultError(context, log, data, "Missing recommended HTTP response codes", "The following recommended HTTP response codes are missing: {}", missingCodes);
         }
     }
 
@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.contract;
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -27,9 +28,9 @@ public class SecuritySchemesLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the current path has security schemes defined either globally or at HTTP method level for {}", data.getMethod());
-        testCaseListener.addExpectedResult(log, "At least one security scheme must be present either globally or at HTTP method level");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the current path has security schemes defined either globally or at HTTP method level for {}", data.getMethod());
+        testCaseListener.addExpectedResult(context, log, "At least one security scheme must be present either globally or at HTTP method level");
 
         Map<String, SecurityScheme> securitySchemeMap = Optional.ofNullable(data.getOpenApi().getComponents()).orElse(new Components()).getSecuritySchemes();
         List<SecurityRequirement> securityRequirementList = Optional.ofNullable(data.getOpenApi().getSecurity()).orElse(Collections.emptyList());
@@ -43,12 +44,12 @@ public class SecuritySchemesLinterFuzzer extends BaseLinterFuzzer {
 
         if (hasTopLevelSecuritySchemes || hasSecuritySchemesAtTagLevel) {
             if (areGlobalSecuritySchemesDefined) {
-                testCaseListener.reportResultInfo(log, data, "The current path has security scheme(s) properly defined");
+                testCaseListener.reportResultInfo(context, log, data, "The current path has security scheme(s) properly defined");
             } else {
-                testCaseListener.reportResultWarn(log, data, "Security scheme not defined", "The current path has security scheme(s) defined, but they are not present in the [components->securitySchemes] contract element");
+                testCaseListener.reportResultWarn(context, log, data, "Security scheme not defined", "The current path has security scheme(s) defined, but they are not present in the [components->securitySchemes] contract element");
             }
         } else {
-            testCaseListener.reportResultError(log, data, "No security scheme defined", "The current path does not have security scheme(s) defined and there are none defined globally");
+            testCaseListener.reportResultError(context, log, data, "No security scheme defined", "The current path does not have security scheme(s) defined and there are none defined globally");
         }
     }
 
@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.contract;
 
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -29,11 +30,11 @@ public class TopLevelElementsLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the OpenAPI contract defines elements such as tags, info, external docs and servers");
-        testCaseListener.addExpectedResult(log, "Elements should be present and provide meaningful information");
-        testCaseListener.addPath("NA");
-        testCaseListener.addContractPath("NA");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the OpenAPI contract defines elements such as tags, info, external docs and servers");
+        testCaseListener.addExpectedResult(context, log, "Elements should be present and provide meaningful information");
+        testCaseListener.addPath(context, "NA");
+        testCaseListener.addContractPath(context, "NA");
         StringBuilder errorString = new StringBuilder();
 
         Set<String> missingFieldsSet = this.checkInfo(data.getOpenApi().getInfo());
@@ -51,9 +52,9 @@ public class TopLevelElementsLinterFuzzer extends BaseLinterFuzzer {
         }
 
         if (errorString.toString().isEmpty()) {
-            testCaseListener.reportResultInfo(log, data, "OpenAPI contract contains all top level relevant information!");
+            testCaseListener.reportResultInfo(context, log, data, "OpenAPI contract contains all top level relevant information!");
         } else {
-            testCaseListener.reportResultError(log, data, "Missing top level elements", errorString.toString());
+            testCaseListener.reportResultError(context, log, data, "Missing top level elements", errorString.toString());
         }
     }
 
@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.contract;
 
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -23,9 +24,9 @@ public class VersionsLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the current path contains versioning information");
-        testCaseListener.addExpectedResult(log, "Paths should not contain versioning information. This should be handled in the [servers] definition");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the current path contains versioning information");
+        testCaseListener.addExpectedResult(context, log, "Paths should not contain versioning information. This should be handled in the [servers] definition");
 
         boolean found = false;
         for (String version : VERSIONS) {
@@ -37,9 +38,9 @@ public class VersionsLinterFuzzer extends BaseLinterFuzzer {
         }
 
         if (found) {
-            testCaseListener.reportResultError(log, data, "Path contains versioning info", "Path contains versioning information");
+            testCaseListener.reportResultError(context, log, data, "Path contains versioning info", "Path contains versioning information");
         } else {
-            testCaseListener.reportResultInfo(log, data, "Path does not contain versioning information");
+            testCaseListener.reportResultInfo(context, log, data, "Path does not contain versioning information");
         }
     }
 
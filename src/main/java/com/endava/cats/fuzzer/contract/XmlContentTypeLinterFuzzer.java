@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.contract;
 
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -19,14 +20,14 @@ public class XmlContentTypeLinterFuzzer extends BaseLinterFuzzer {
     }
 
     @Override
-    public void process(FuzzingData data) {
-        testCaseListener.addScenario(log, "Check if the current path accepts [application/xml] Content-Type for HTTP method {}", data.getMethod());
-        testCaseListener.addExpectedResult(log, "Paths should avoid accepting [application/xml] and focus only on [application/json] Content-Type");
+    public void process(TestCaseContext context, FuzzingData data) {
+        testCaseListener.addScenario(context, log, "Check if the current path accepts [application/xml] Content-Type for HTTP method {}", data.getMethod());
+        testCaseListener.addExpectedResult(context, log, "Paths should avoid accepting [application/xml] and focus only on [application/json] Content-Type");
 
         if (data.getRequestContentTypes().contains(APPLICATION_XML)) {
-            testCaseListener.reportResultError(log, data, "Path accepts [application/xml]", "Path accepts [application/xml] as Content-Type");
+            testCaseListener.reportResultError(context, log, data, "Path accepts [application/xml]", "Path accepts [application/xml] as Content-Type");
         } else {
-            testCaseListener.reportResultInfo(log, data, "Path does not accept [application/xml] as Content-Type");
+            testCaseListener.reportResultInfo(context, log, data, "Path does not accept [application/xml] as Content-Type");
         }
     }
 
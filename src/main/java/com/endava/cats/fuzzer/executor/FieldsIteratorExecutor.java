@@ -5,6 +5,7 @@ import com.endava.cats.args.MatchArguments;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsUtil;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,7 +61,7 @@ public class FieldsIteratorExecutor {
     }
 
     public void execute(FieldsIteratorExecutorContext context) {
-        Set<String> allFields = context.getFuzzingData().getAllFieldsByHttpMethod();
+        Set<String> allFields = new HashSet<>(context.getFuzzingData().getAllFieldsByHttpMethod());
         context.getLogger().debug("All fields: {}", allFields);
         List<String> fieldsToBeRemoved = filesArguments.getRefData(context.getFuzzingData().getPath()).entrySet()
                 .stream().filter(entry -> String.valueOf(entry.getValue()).equalsIgnoreCase(CATS_REMOVE_FIELD)).map(Map.Entry::getKey).toList();
@@ -71,7 +73,7 @@ public class FieldsIteratorExecutor {
             Schema<?> fuzzedFieldSchema = context.getFuzzingData().getRequestPropertyTypes().get(fuzzedField);
             if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
                 for (String currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
-                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> executeTestCase(context, fuzzedField, currentValue));
+                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), testCaseContext -> executeTestCase(context, testCaseContext, fuzzedField, currentValue));
                 }
             } else {
                 context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
@@ -79,12 +81,12 @@ public class FieldsIteratorExecutor {
         }
     }
 
-    private void executeTestCase(FieldsIteratorExecutorContext context, String fuzzedField, String currentValue) {
+    private void executeTestCase(FieldsIteratorExecutorContext context, TestCaseContext testCaseContext, String fuzzedField, String currentValue) {
         FuzzingStrategy strategy = context.getFuzzingStrategy().withData(currentValue);
         context.getLogger().debug("Applying [{}] for field [{}]", strategy, fuzzedField);
 
-        testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current field [{}] [{}]", fuzzedField, strategy);
-        testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
+        testCaseListener.addScenario(testCaseContext, context.getLogger(), context.getScenario() + "  Current field [{}] [{}]", fuzzedField, strategy);
+        testCaseListener.addExpectedResult(testCaseContext, context.getLogger(), "Should return [{}]",
                 context.getExpectedResponseCode() != null ? context.getExpectedResponseCode().asString() : "a valid response");
 
         FuzzingResult fuzzingResult = this.getFuzzingResult(context, fuzzedField, strategy);
@@ -99,14 +101,15 @@ public class FieldsIteratorExecutor {
                         .httpMethod(context.getFuzzingData().getMethod())
                         .contentType(context.getFuzzingData().getFirstRequestContentType())
                         .replaceRefData(context.isReplaceRefData())
+                        .testCaseContext(testCaseContext)
                         .build());
 
         if (context.getExpectedResponseCode() != null) {
-            testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode());
+            testCaseListener.reportResult(testCaseContext, context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode());
         } else if (!matchArguments.isAnyMatchArgumentSupplied() || matchArguments.isMatchResponse(response)) {
-            testCaseListener.reportResultError(context.getLogger(), context.getFuzzingData(), "Check response details", "Service call completed. Please check response details");
+            testCaseListener.reportResultError(testCaseContext, context.getLogger(), context.getFuzzingData(), "Check response details", "Service call completed. Please check response details");
         } else {
-            testCaseListener.skipTest(context.getLogger(), "Skipping test as response does not match given matchers!");
+            testCaseListener.skipTest(testCaseContext, context.getLogger(), "Skipping test as response does not match given matchers!");
         }
     }
 
@@ -8,6 +8,7 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import jakarta.inject.Singleton;
@@ -46,12 +47,12 @@ public class HeadersIteratorExecutor {
                     String previousHeaderValue = header.getValue();
                     header.withValue(String.valueOf(fuzzingStrategy.process(previousHeaderValue)));
                     try {
-                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
+                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), testCaseContext -> {
                             boolean isRequiredHeaderFuzzed = clonedHeaders.stream().filter(CatsHeader::isRequired).toList().contains(header);
                             ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(isRequiredHeaderFuzzed, context);
 
-                            testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
-                            testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]", expectedResponseCode != null ? expectedResponseCode.asString() : "a valid response");
+                            testCaseListener.addScenario(testCaseContext, context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
+                            testCaseListener.addExpectedResult(testCaseContext, context.getLogger(), "Should return [{}]", expectedResponseCode != null ? expectedResponseCode.asString() : "a valid response");
 
                             ServiceData serviceData = ServiceData.builder()
                                     .relativePath(context.getFuzzingData().getPath())
@@ -62,10 +63,11 @@ public class HeadersIteratorExecutor {
                                     .queryParams(context.getFuzzingData().getQueryParams())
                                     .httpMethod(context.getFuzzingData().getMethod())
                                     .contentType(context.getFuzzingData().getFirstRequestContentType())
+                                    .testCaseContext(testCaseContext)
                                     .build();
 
                             CatsResponse response = serviceCaller.call(serviceData);
-                            this.reportResult(context, expectedResponseCode, response);
+                            this.reportResult(testCaseContext, context, expectedResponseCode, response);
                         });
                     } finally {
                         /* we reset back the current header */
@@ -76,13 +78,13 @@ public class HeadersIteratorExecutor {
         }
     }
 
-    private void reportResult(HeadersIteratorExecutorContext context, ResponseCodeFamily expectedResponseCode, CatsResponse response) {
+    private void reportResult(TestCaseContext testCaseContext, HeadersIteratorExecutorContext context, ResponseCodeFamily expectedResponseCode, CatsResponse response) {
         if (expectedResponseCode != null) {
-            testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, expectedResponseCode, context.isMatchResponseSchema());
+            testCaseListener.reportResult(testCaseContext, context.getLogger(), context.getFuzzingData(), response, expectedResponseCode, context.isMatchResponseSchema());
         } else if (matchArguments.isMatchResponse(response) || !matchArguments.isAnyMatchArgumentSupplied()) {
-            testCaseListener.reportResultError(context.getLogger(), context.getFuzzingData(), "Check response details", "Service call completed. Please check response details");
+            testCaseListener.reportResultError(testCaseContext, context.getLogger(), context.getFuzzingData(), "Check response details", "Service call completed. Please check response details");
         } else {
-            testCaseListener.skipTest(context.getLogger(), "Skipping test as response does not match given matchers!");
+            testCaseListener.skipTest(testCaseContext, context.getLogger(), "Skipping test as response does not match given matchers!");
         }
     }
 
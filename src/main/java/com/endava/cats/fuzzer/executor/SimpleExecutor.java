@@ -38,9 +38,9 @@ public class SimpleExecutor {
     }
 
     public void execute(SimpleExecutorContext context) {
-        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
-            testCaseListener.addScenario(context.getLogger(), context.getScenario());
-            testCaseListener.addExpectedResult(context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
+        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), testCaseContext -> {
+            testCaseListener.addScenario(testCaseContext, context.getLogger(), context.getScenario());
+            testCaseListener.addExpectedResult(testCaseContext, context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
 
             if (context.getRunFilter().test(context.getFuzzingData().getMethod())) {
                 CatsResponse response = serviceCaller.call(
@@ -55,15 +55,16 @@ public class SimpleExecutor {
                                 .replaceRefData(context.isReplaceRefData())
                                 .skippedHeaders(context.getSkippedHeaders())
                                 .addUserHeaders(context.isAddUserHeaders())
+                                .testCaseContext(testCaseContext)
                                 .build());
 
                 if (context.getResponseProcessor() != null) {
-                    context.getResponseProcessor().accept(response, context.getFuzzingData());
+                    context.getResponseProcessor().process(testCaseContext, response, context.getFuzzingData());
                 } else {
-                    testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode(), context.isMatchResponseResult());
+                    testCaseListener.reportResult(testCaseContext, context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode(), context.isMatchResponseResult());
                 }
             } else {
-                testCaseListener.skipTest(context.getLogger(), "Method %s not supported by %s".formatted(context.getFuzzingData().getMethod(), context.getFuzzer()));
+                testCaseListener.skipTest(testCaseContext, context.getLogger(), "Method %s not supported by %s".formatted(context.getFuzzingData().getMethod(), context.getFuzzer()));
             }
         });
     }
@@ -6,6 +6,7 @@ import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import lombok.Builder;
 import lombok.NonNull;
@@ -14,7 +15,6 @@ import lombok.Value;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
 @Builder
@@ -76,7 +76,7 @@ public class SimpleExecutorContext {
      * A custom response processor. The Executor only calls {@code TestCaseListener#reportResult}. If more complex logic is needed
      * to process the response and decide the expected behaviours, you can supply your own processor.
      */
-    BiConsumer<CatsResponse, FuzzingData> responseProcessor;
+    ResponseProcessor responseProcessor;
 
     /**
      * Whether to add the headers supplied in the {@code --headers} file.
@@ -157,4 +157,12 @@ public class SimpleExecutorContext {
 
         return payload;
     }
+
+    /**
+     * Processes the response received for a test case and reports the result within the given {@code TestCaseContext}.
+     */
+    @FunctionalInterface
+    public interface ResponseProcessor {
+        void process(TestCaseContext testCaseContext, CatsResponse response, FuzzingData data);
+    }
 }
@@ -9,6 +9,7 @@ import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.generator.simple.UnicodeGenerator;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.WordUtils;
@@ -59,11 +60,11 @@ public class InvalidReferencesFieldsFuzzer implements Fuzzer {
         }
     }
 
-    private void processResponse(CatsResponse catsResponse, FuzzingData fuzzingData) {
+    private void processResponse(TestCaseContext context, CatsResponse catsResponse, FuzzingData fuzzingData) {
         if (ResponseCodeFamily.is4xxCode(catsResponse.getResponseCode()) || ResponseCodeFamily.is2xxCode(catsResponse.getResponseCode())) {
-            testCaseListener.reportResultInfo(logger, fuzzingData, "Response code expected: [{}]", catsResponse.getResponseCode());
+            testCaseListener.reportResultInfo(context, logger, fuzzingData, "Response code expected: [{}]", catsResponse.getResponseCode());
         } else {
-            testCaseListener.reportResultError(logger, fuzzingData,
+            testCaseListener.reportResultError(context, logger, fuzzingData,
                     "Unexpected response code: %s".formatted(catsResponse.responseCodeAsString()),
                     "Request failed unexpectedly for http method [{}]: expected [{}], actual [{}]",
                     catsResponse.getHttpMethod(), "4XX, 2XX", catsResponse.responseCodeAsString());
@@ -9,6 +9,7 @@ import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.json.JsonUtils;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import com.google.gson.JsonArray;
@@ -37,26 +38,26 @@ public class NewFieldsFuzzer implements Fuzzer {
     @Override
     public void fuzz(FuzzingData data) {
         if (!JsonUtils.isEmptyPayload(data.getPayload())) {
-            testCaseListener.createAndExecuteTest(logger, this, () -> process(data));
+            testCaseListener.createAndExecuteTest(logger, this, context -> process(context, data));
         } else {
             logger.debug("Skip fuzzer as payload is empty");
         }
     }
 
-    private void process(FuzzingData data) {
+    private void process(TestCaseContext context, FuzzingData data) {
         JsonElement fuzzedJson = this.addNewField(data);
 
         ResponseCodeFamily expectedResultCode = ResponseCodeFamily.TWOXX;
         if (HttpMethod.requiresBody(data.getMethod())) {
             expectedResultCode = ResponseCodeFamily.FOURXX;
         }
-        testCaseListener.addScenario(logger, "Add new field inside the request: name [{}], value [{}]. All other details are similar to a happy flow", NEW_FIELD, NEW_FIELD);
-        testCaseListener.addExpectedResult(logger, "Should get a [{}] response code", expectedResultCode.asString());
+        testCaseListener.addScenario(context, logger, "Add new field inside the request: name [{}], value [{}]. All other details are similar to a happy flow", NEW_FIELD, NEW_FIELD);
+        testCaseListener.addExpectedResult(context, logger, "Should get a [{}] response code", expectedResultCode.asString());
 
         CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath(data.getPath()).headers(data.getHeaders())
                 .payload(fuzzedJson.toString()).queryParams(data.getQueryParams()).httpMethod(data.getMethod()).contractPath(data.getContractPath())
-                .contentType(data.getFirstRequestContentType()).build());
-        testCaseListener.reportResult(logger, data, response, expectedResultCode);
+                .contentType(data.getFirstRequestContentType()).testCaseContext(context).build());
+        testCaseListener.reportResult(context, logger, data, response, expectedResultCode);
     }
 
     protected JsonElement addNewField(FuzzingData data) {
@@ -35,7 +35,7 @@ public class OverflowArraySizeFieldsFuzzer extends BaseReplaceFieldsFuzzer {
                 .replaceWhat("array")
                 .replaceWith("overflow array")
                 .skipMessage("Fuzzer only runs for arrays")
-                .fieldFilter(field -> JsonUtils.isArray(data.getPayload(), field))
+                .fieldFilter(field -> data.isArray(field))
                 .fuzzValueProducer(fuzzValueProducer)
                 .build();
     }
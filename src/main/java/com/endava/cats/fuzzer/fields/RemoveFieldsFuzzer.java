@@ -11,8 +11,11 @@ import com.endava.cats.io.ServiceData;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.util.Subsets;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
+import com.google.common.math.LongMath;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Singleton;
@@ -20,6 +23,7 @@ import jakarta.inject.Singleton;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,6 +33,8 @@ import java.util.stream.Collectors;
 @Singleton
 @FieldFuzzer
 public class RemoveFieldsFuzzer implements Fuzzer {
+    private static final int PROGRESS_MIN_SUBSETS = 100;
+    private static final int PROGRESS_STEPS = 10;
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(RemoveFieldsFuzzer.class);
     private final ServiceCaller serviceCaller;
     private final TestCaseListener testCaseListener;
@@ -45,13 +51,23 @@ public class RemoveFieldsFuzzer implements Fuzzer {
     @Override
     public void fuzz(FuzzingData data) {
         logger.debug("All required fields, including subfields: {}", data.getAllRequiredFields());
-        Set<Set<String>> sets = this.getAllFields(data);
+        Subsets<String> sets = this.getAllFields(data);
+        long total = sets.count();
+        long processed = 0;
 
         for (Set<String> subset : sets) {
             Set<String> finalSubset = this.removeIfSkipped(subset);
             if (!finalSubset.isEmpty()) {
-                testCaseListener.createAndExecuteTest(logger, this, () -> process(data, data.getAllRequiredFields(), finalSubset));
+                testCaseListener.createAndExecuteTest(logger, this, context -> process(context, data, data.getAllRequiredFields(), finalSubset));
             }
+            processed++;
+            this.logProgress(processed, total);
+        }
+    }
+
+    private void logProgress(long processed, long total) {
+        if (total >= PROGRESS_MIN_SUBSETS && processed % (total / PROGRESS_STEPS) == 0) {
+            logger.info("Processed {} out of {} fields configurations, {}% done", processed, total, processed * 100 / total);
         }
     }
 
@@ -61,32 +77,40 @@ public class RemoveFieldsFuzzer implements Fuzzer {
                 .collect(Collectors.toSet());
     }
 
-    private Set<Set<String>> getAllFields(FuzzingData data) {
-        Set<Set<String>> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
-                , processingArguments.getMaxFieldsToRemove());
+    private Subsets<String> getAllFields(FuzzingData data) {
+        Subsets<String> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
+                , processingArguments.getMaxFieldsToRemove()).limit(getMaxFieldsSubsets());
 
         logger.note("Fuzzer will run with [{}] fields configuration possibilities out of [{}] maximum possible",
-                sets.size(), (int) Math.pow(2, data.getAllFieldsByHttpMethod().size()));
+                sets.count(), LongMath.saturatedPow(2, data.getAllFieldsByHttpMethod().size()));
+        if (sets.isLimited()) {
+            logger.warning("Only the first [{}] out of [{}] fields configurations for the selected strategy will be run. Use --maxFieldsSubsets to change this limit",
+                    sets.count(), sets.possibleCount());
+        }
 
         return sets;
     }
 
+    private long getMaxFieldsSubsets() {
+        return processingArguments.getMaxFieldsSubsets() > 0 ? processingArguments.getMaxFieldsSubsets() : Long.MAX_VALUE;
+    }
+
 
-    private void process(FuzzingData data, List<String> required, Set<String> subset) {
-        String finalJsonPayload = this.getFuzzedJsonWithFieldsRemove(data.getPayload(), subset);
+    private void process(TestCaseContext context, FuzzingData data, List<String> required, Set<String> subset) {
+        Optional<String> payloadWithoutFields = JsonUtils.deleteNodes(data.getPayload(), subset);
 
-        if (!JsonUtils.equalAsJson(finalJsonPayload, data.getPayload())) {
-            testCaseListener.addScenario(logger, "Remove the following fields from request: {}", subset);
+        if (payloadWithoutFields.isPresent()) {
+            testCaseListener.addScenario(context, logger, "Remove the following fields from request: {}", subset);
 
             boolean hasRequiredFieldsRemove = this.hasRequiredFieldsRemove(required, subset);
-            testCaseListener.addExpectedResult(logger, "Should return [{}] response code as required fields [{}] removed", ResponseCodeFamily.getExpectedWordingBasedOnRequiredFields(hasRequiredFieldsRemove));
+            testCaseListener.addExpectedResult(context, logger, "Should return [{}] response code as required fields [{}] removed", ResponseCodeFamily.getExpectedWordingBasedOnRequiredFields(hasRequiredFieldsRemove));
 
             CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath(data.getPath()).headers(data.getHeaders())
-                    .payload(finalJsonPayload).queryParams(data.getQueryParams()).httpMethod(data.getMethod()).contractPath(data.getContractPath())
-                    .contentType(data.getFirstRequestContentType()).build());
-            testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.getResultCodeBasedOnRequiredFieldsRemoved(hasRequiredFieldsRemove));
+                    .payload(payloadWithoutFields.get()).queryParams(data.getQueryParams()).httpMethod(data.getMethod()).contractPath(data.getContractPath())
+                    .contentType(data.getFirstRequestContentType()).testCaseContext(context).build());
+            testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.getResultCodeBasedOnRequiredFieldsRemoved(hasRequiredFieldsRemove));
         } else {
-            testCaseListener.skipTest(logger, "Field is from a different ANY_OF or ONE_OF payload");
+            testCaseListener.skipTest(context, logger, "Field is from a different ANY_OF or ONE_OF payload");
         }
     }
 
@@ -96,20 +120,6 @@ public class RemoveFieldsFuzzer implements Fuzzer {
         return !intersection.isEmpty();
     }
 
-
-    private String getFuzzedJsonWithFieldsRemove(String payload, Set<String> fieldsToRemove) {
-        String prefix = "";
-
-        if (JsonUtils.isJsonArray(payload)) {
-            prefix = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY;
-        }
-        for (String field : fieldsToRemove) {
-            payload = JsonUtils.deleteNode(payload, prefix + field);
-        }
-
-        return payload;
-    }
-
     @Override
     public String toString() {
         return ConsoleUtils.sanitizeFuzzerName(this.getClass().getSimpleName());
@@ -3,7 +3,6 @@ package com.endava.cats.fuzzer.fields;
 import com.endava.cats.annotations.FieldFuzzer;
 import com.endava.cats.fuzzer.executor.FieldsIteratorExecutor;
 import com.endava.cats.fuzzer.fields.base.BaseReplaceFieldsFuzzer;
-import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
 import jakarta.inject.Singleton;
 
@@ -22,7 +21,7 @@ public class ReplaceArraysWithSimpleObjectsFieldsFuzzer extends BaseReplaceField
                 .replaceWhat("array")
                 .replaceWith("simple object")
                 .skipMessage("Fuzzer only runs for arrays")
-                .fieldFilter(field -> JsonUtils.isArray(data.getPayload(), field))
+                .fieldFilter(field -> data.isArray(field))
                 .fuzzValueProducer((schema, field) -> List.of("{\"catsKey1\":\"catsValue1\",\"catsKey2\":20}"))
                 .build();
     }
@@ -3,7 +3,6 @@ package com.endava.cats.fuzzer.fields;
 import com.endava.cats.annotations.FieldFuzzer;
 import com.endava.cats.fuzzer.executor.FieldsIteratorExecutor;
 import com.endava.cats.fuzzer.fields.base.BaseReplaceFieldsFuzzer;
-import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
 import jakarta.inject.Singleton;
 
@@ -22,7 +21,7 @@ public class ReplaceObjectsWithPrimitivesFieldsFuzzer extends BaseReplaceFieldsF
                 .replaceWhat("non-primitive")
                 .replaceWith("primitive")
                 .skipMessage("Fuzzer only runs for objects")
-                .fieldFilter(field -> JsonUtils.isObject(data.getPayload(), field))
+                .fieldFilter(field -> data.isObject(field))
                 .fuzzValueProducer((schema, field) -> List.of("cats_primitive_string"))
                 .build();
     }
@@ -7,6 +7,7 @@ import com.endava.cats.fuzzer.fields.base.ExpectOnly4XXBaseFieldsFuzzer;
 import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.RepeatedValue;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
@@ -35,7 +36,7 @@ public class VeryLargeStringsInFieldsFuzzer extends ExpectOnly4XXBaseFieldsFuzze
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
         return Collections.singletonList(
                 FuzzingStrategy.replace().withData(
-                        StringGenerator.generateLargeString(processingArguments.getLargeStringsSize() / 4)));
+                        RepeatedValue.of(StringGenerator.FUZZ, processingArguments.getLargeStringsSize() / 4)));
     }
 
     @Override
@@ -3,13 +3,15 @@ package com.endava.cats.fuzzer.fields.base;
 
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.generator.simple.RegexCache;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
-import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingConstraints;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.RepeatedValue;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsUtil;
@@ -20,6 +22,7 @@ import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.media.ByteArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,7 +49,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
 
     @Override
     public void fuzz(FuzzingData data) {
-        Set<String> allFields = data.getAllFieldsByHttpMethod();
+        Set<String> allFields = new HashSet<>(data.getAllFieldsByHttpMethod());
         logger.debug("All required fields, including subfields: {}", data.getAllRequiredFields());
         logger.debug("All fields {}", allFields);
 
@@ -64,17 +67,17 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
                         .stream().filter(fuzzingStrategy -> !fuzzingStrategy.isSkip())
                         .toList()) {
                     logger.debug("Running strategy {} for {}", fuzzingStrategy.name(), fuzzedField);
-                    testCaseListener.createAndExecuteTest(logger, this, () -> process(data, fuzzedField, fuzzingStrategy));
+                    testCaseListener.createAndExecuteTest(logger, this, context -> process(context, data, fuzzedField, fuzzingStrategy));
                 }
             }
         }
     }
 
-    protected void process(FuzzingData data, String fuzzedField, FuzzingStrategy fuzzingStrategy) {
+    protected void process(TestCaseContext context, FuzzingData data, String fuzzedField, FuzzingStrategy fuzzingStrategy) {
         FuzzingConstraints fuzzingConstraints = this.createFuzzingConstraints(data, fuzzingStrategy, fuzzedField);
 
         if (this.isFuzzingPossible(data, fuzzedField, fuzzingStrategy)) {
-            testCaseListener.addScenario(logger, "Send [{}] in request fields: field [{}], value [{}], is required [{}]",
+            testCaseListener.addScenario(context, logger, "Send [{}] in request fields: field [{}], value [{}], is required [{}]",
                     this.typeOfDataSentToTheService(), fuzzedField, fuzzingStrategy.truncatedValue(), fuzzingConstraints.getRequiredString());
             logger.debug("Fuzzing possible...");
             FuzzingResult fuzzingResult = catsUtil.replaceField(data.getPayload(), fuzzedField, fuzzingStrategy);
@@ -82,18 +85,18 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
 
             ServiceData serviceData = ServiceData.builder().relativePath(data.getPath())
                     .headers(data.getHeaders()).payload(fuzzingResult.json()).httpMethod(data.getMethod()).contractPath(data.getContractPath())
-                    .fuzzedField(fuzzedField).queryParams(data.getQueryParams()).contentType(data.getFirstRequestContentType()).build();
+                    .fuzzedField(fuzzedField).queryParams(data.getQueryParams()).contentType(data.getFirstRequestContentType()).testCaseContext(context).build();
             ResponseCodeFamily expectedResponseCodeBasedOnConstraints = this.getExpectedResponseCodeBasedOnConstraints(isFuzzedValueMatchingPattern, fuzzingConstraints);
 
-            testCaseListener.addExpectedResult(logger, "Should return [{}]", expectedResponseCodeBasedOnConstraints.asString());
+            testCaseListener.addExpectedResult(context, logger, "Should return [{}]", expectedResponseCodeBasedOnConstraints.asString());
 
             CatsResponse response = serviceCaller.call(serviceData);
 
-            testCaseListener.reportResult(logger, data, response, expectedResponseCodeBasedOnConstraints);
+            testCaseListener.reportResult(context, logger, data, response, expectedResponseCodeBasedOnConstraints);
         } else {
             logger.debug("Fuzzing not possible!");
             FuzzingStrategy strategy = this.createSkipStrategy(fuzzingStrategy);
-            testCaseListener.skipTest(logger, (String) strategy.process(""));
+            testCaseListener.skipTest(context, logger, (String) strategy.process(""));
             logger.info("{} " + strategy.getData().toString(), fuzzedField);
         }
     }
@@ -118,7 +121,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
      * @return true if fuzzing is possible, false otherwise
      */
     private boolean isFuzzingPossible(FuzzingData data, String fuzzedField, FuzzingStrategy fuzzingStrategy) {
-        return !fuzzingStrategy.isSkip() && JsonUtils.isPrimitive(data.getPayload(), fuzzedField)
+        return !fuzzingStrategy.isSkip() && data.isPrimitive(fuzzedField)
                 && isFuzzerWillingToFuzz(data, fuzzedField)
                 && !isSkippedField(fuzzedField);
     }
@@ -147,7 +150,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
 
     private FuzzingConstraints createFuzzingConstraints(FuzzingData data, FuzzingStrategy strategy, String fuzzedField) {
         boolean hasMinLength = this.hasMinValue(data, fuzzedField) && strategy.getData() != null;
-        boolean hasRequiredFieldsFuzzed = data.getAllRequiredFields().contains(fuzzedField);
+        boolean hasRequiredFieldsFuzzed = data.isRequired(fuzzedField);
 
         return FuzzingConstraints.builder().hasMinlength(hasMinLength)
                 .hasRequiredFieldsFuzzed(hasRequiredFieldsFuzzed).build();
@@ -166,20 +169,20 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
         if (fieldSchema.getPattern() == null || fieldSchema instanceof ByteArraySchema) {
             return true;
         }
-        Pattern pattern = Pattern.compile(fieldSchema.getPattern());
+        Pattern pattern = RegexCache.compile(fieldSchema.getPattern());
 
         return fieldValue == null || pattern.matcher(this.sanitizeString(fieldValue)).matches();
     }
 
     /**
      * We need to sanitize the fuzzed value before matching it to the pattern as APIs are expected to
-     * also sanitize data before validating it.
+     * also sanitize data before validating it. Very large repeated values are matched using a bounded sample.
      *
      * @param fieldValue the initial fuzzed value
      * @return the initial value with unicode control chars removed
      */
     private String sanitizeString(Object fieldValue) {
-        return String.valueOf(fieldValue).replaceAll("\\p{C}", "");
+        return RepeatedValue.sample(String.valueOf(fieldValue)).replaceAll("\\p{C}", "");
     }
 
     private boolean hasMinValue(FuzzingData data, String fuzzedField) {
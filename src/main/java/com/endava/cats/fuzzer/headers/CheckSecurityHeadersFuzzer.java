@@ -8,6 +8,7 @@ import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.KeyValuePair;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -69,13 +70,13 @@ public class CheckSecurityHeadersFuzzer implements Fuzzer {
         );
     }
 
-    private void checkResponse(CatsResponse response, FuzzingData data) {
+    private void checkResponse(TestCaseContext context, CatsResponse response, FuzzingData data) {
         List<KeyValuePair<String, String>> missingSecurityHeaders = this.getMissingSecurityHeaders(response);
         if (!missingSecurityHeaders.isEmpty()) {
-            testCaseListener.reportResultError(log, data, "Missing recommended security headers",
+            testCaseListener.reportResultError(context, log, data, "Missing recommended security headers",
                     "Missing recommended Security Headers: {}", missingSecurityHeaders.stream().map(pair -> pair.getKey() + "=" + pair.getValue()).collect(Collectors.toSet()));
         } else {
-            testCaseListener.reportResult(log, data, response, ResponseCodeFamily.TWOXX);
+            testCaseListener.reportResult(context, log, data, response, ResponseCodeFamily.TWOXX);
         }
     }
 
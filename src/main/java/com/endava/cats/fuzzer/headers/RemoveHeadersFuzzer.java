@@ -7,6 +7,7 @@ import com.endava.cats.fuzzer.executor.SimpleExecutorContext;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.util.Subsets;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -32,7 +33,7 @@ public class RemoveHeadersFuzzer implements Fuzzer {
             logger.skip("No headers to fuzz");
             return;
         }
-        Set<Set<CatsHeader>> headersCombination = FuzzingData.SetFuzzingStrategy.powerSet(data.getHeaders());
+        Subsets<CatsHeader> headersCombination = FuzzingData.SetFuzzingStrategy.powerSet(data.getHeaders());
         Set<CatsHeader> mandatoryHeaders = data.getHeaders().stream().filter(CatsHeader::isRequired).collect(Collectors.toSet());
 
         for (Set<CatsHeader> headersSubset : headersCombination) {
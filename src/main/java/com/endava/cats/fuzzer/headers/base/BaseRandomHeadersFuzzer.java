@@ -8,6 +8,7 @@ import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -54,12 +55,12 @@ public abstract class BaseRandomHeadersFuzzer implements Fuzzer {
         );
     }
 
-    public void checkResponse(CatsResponse response, FuzzingData data) {
+    public void checkResponse(TestCaseContext context, CatsResponse response, FuzzingData data) {
         if (ResponseCodeFamily.is2xxCode(response.getResponseCode()) || ResponseCodeFamily.is4xxCode(response.getResponseCode())) {
-            testCaseListener.reportResultInfo(logger, data, "Request returned as expected for http method [{}] with response code [{}]",
+            testCaseListener.reportResultInfo(context, logger, data, "Request returned as expected for http method [{}] with response code [{}]",
                     response.getHttpMethod(), response.getResponseCode());
         } else {
-            testCaseListener.reportResultError(logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()),
+            testCaseListener.reportResultError(context, logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()),
                     "Request failed unexpectedly for http method [{}]: expected [{}], actual [{}]", response.getHttpMethod(), "2XX or 4XX", response.getResponseCode());
         }
     }
@@ -10,6 +10,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -56,12 +57,12 @@ public class CheckDeletedResourcesNotAvailableFuzzer implements Fuzzer {
         }
     }
 
-    private void checkResponse(CatsResponse response, FuzzingData data) {
+    private void checkResponse(TestCaseContext context, CatsResponse response, FuzzingData data) {
         if (response.getResponseCode() == 404 || response.getResponseCode() == 410) {
-            testCaseListener.reportResultInfo(logger, data, "Request failed as expected for http method [{}] with response code [{}]",
+            testCaseListener.reportResultInfo(context, logger, data, "Request failed as expected for http method [{}] with response code [{}]",
                     response.getHttpMethod(), response.getResponseCode());
         } else {
-            testCaseListener.reportResultError(logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()), "Request succeeded unexpectedly for http method [{}]: expected [{}], actual [{}]",
+            testCaseListener.reportResultError(context, logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()), "Request succeeded unexpectedly for http method [{}]: expected [{}], actual [{}]",
                     data.getMethod(), "404, 410", response.responseCodeAsString());
         }
     }
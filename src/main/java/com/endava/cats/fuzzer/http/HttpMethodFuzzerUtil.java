@@ -7,6 +7,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -42,15 +43,15 @@ public class HttpMethodFuzzerUtil {
         );
     }
 
-    public void checkResponse(CatsResponse response, FuzzingData data) {
+    public void checkResponse(TestCaseContext context, CatsResponse response, FuzzingData data) {
         if (response.getResponseCode() == 405) {
-            testCaseListener.reportResultInfo(logger, data, "Request failed as expected for http method [{}] with response code [{}]",
+            testCaseListener.reportResultInfo(context, logger, data, "Request failed as expected for http method [{}] with response code [{}]",
                     response.getHttpMethod(), response.getResponseCode());
         } else if (ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
-            testCaseListener.reportResultError(logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()), "Request succeeded unexpectedly for http method [{}]: expected [{}], actual [{}]",
+            testCaseListener.reportResultError(context, logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()), "Request succeeded unexpectedly for http method [{}]: expected [{}], actual [{}]",
                     response.getHttpMethod(), 405, response.getResponseCode());
         } else {
-            testCaseListener.reportResultWarn(logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()), "Unexpected response code for http method [{}]: expected [{}], actual [{}]",
+            testCaseListener.reportResultWarn(context, logger, data, "Unexpected Response Code: %s".formatted(response.getResponseCode()), "Unexpected response code for http method [{}]: expected [{}], actual [{}]",
                     response.getHttpMethod(), 405, response.getResponseCode());
         }
     }
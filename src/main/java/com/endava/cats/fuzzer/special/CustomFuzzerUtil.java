@@ -11,6 +11,7 @@ import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsDSLWords;
@@ -20,7 +21,6 @@ import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
 import lombok.Getter;
-import net.minidev.json.JSONArray;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
@@ -58,14 +58,14 @@ public class CustomFuzzerUtil {
     }
 
 
-    public void process(FuzzingData data, String testName, Map<String, Object> currentPathValues) {
+    public void process(TestCaseContext context, FuzzingData data, String testName, Map<String, Object> currentPathValues) {
         int howManyTests = this.getNumberOfIterationsBasedOnHeaders(data, currentPathValues);
         boolean isHeadersFuzzing = currentPathValues.get(CATS_HEADERS) != null;
         CatsHeader[] arrayOfHeaders = data.getHeaders().toArray(new CatsHeader[0]);
 
         for (int i = 0; i < howManyTests; i++) {
             String expectedResponseCode = String.valueOf(currentPathValues.get(EXPECTED_RESPONSE_CODE));
-            this.startCustomTest(testName, currentPathValues, expectedResponseCode);
+            this.startCustomTest(context, testName, currentPathValues, expectedResponseCode);
 
             String payloadWithCustomValuesReplaced = this.getJsonWithCustomValuesFromFile(data, currentPathValues);
             catsUtil.setAdditionalPropertiesToPayload(currentPathValues, payloadWithCustomValuesReplaced);
@@ -74,16 +74,16 @@ public class CustomFuzzerUtil {
             String servicePath = this.replacePathVariablesWithCustomValues(data, currentPathValues);
             CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath(servicePath).replaceRefData(false).httpMethod(data.getMethod())
                     .headers(headers).payload(payloadWithCustomValuesReplaced).queryParams(data.getQueryParams()).contractPath(data.getContractPath())
-                    .contentType(data.getFirstRequestContentType()).build());
+                    .contentType(data.getFirstRequestContentType()).testCaseContext(context).build());
 
             this.setOutputVariables(currentPathValues, response, payloadWithCustomValuesReplaced);
 
             String verify = WordUtils.nullOrValueOf(currentPathValues.get(VERIFY));
 
             if (verify != null) {
-                this.checkVerifiesAndReport(data, payloadWithCustomValuesReplaced, response, verify, expectedResponseCode);
+                this.checkVerifiesAndReport(context, data, payloadWithCustomValuesReplaced, response, verify, expectedResponseCode);
             } else {
-                testCaseListener.reportResult(log, data, response, ResponseCodeFamily.from(expectedResponseCode));
+                testCaseListener.reportResult(context, log, data, response, ResponseCodeFamily.from(expectedResponseCode));
             }
         }
     }
@@ -133,7 +133,7 @@ public class CustomFuzzerUtil {
                         entry -> CatsDSLParser.parseAndGetResult(entry.getValue(), Map.of(Parser.REQUEST, request))));
     }
 
-    private void checkVerifiesAndReport(FuzzingData data, String request, CatsResponse response, String verify, String expectedResponseCode) {
+    private void checkVerifiesAndReport(TestCaseContext context, FuzzingData data, String request, CatsResponse response, String verify, String expectedResponseCode) {
         Map<String, String> verifies = this.parseYmlEntryIntoMap(verify);
         Map<String, String> responseValues = this.matchVariablesWithTheResponse(response, verifies, Map.Entry::getKey);
         log.debug("Parameters to verify: {}", verifies);
@@ -141,7 +141,7 @@ public class CustomFuzzerUtil {
         if (responseValues.entrySet().stream().anyMatch(entry -> entry.getValue().equalsIgnoreCase(NOT_SET))) {
             log.error("Test failed! There are Verify parameters which were not present in the response!");
 
-            testCaseListener.reportResultError(log, data, "Verify parameters not present in response", "The following Verify parameters were not present in the response: {}",
+            testCaseListener.reportResultError(context, log, data, "Verify parameters not present in response", "The following Verify parameters were not present in the response: {}",
                     responseValues.entrySet().stream().filter(entry -> entry.getValue().equalsIgnoreCase(NOT_SET))
                             .map(Map.Entry::getKey).toList());
         } else {
@@ -158,12 +158,12 @@ public class CustomFuzzerUtil {
             });
 
             if (errorMessages.isEmpty() && ResponseCodeFamily.matchAsCodeOrRange(expectedResponseCode, response.responseCodeAsString())) {
-                testCaseListener.reportResultInfo(log, data, "Response matches all 'verify' parameters");
+                testCaseListener.reportResultInfo(context, log, data, "Response matches all 'verify' parameters");
             } else if (errorMessages.isEmpty()) {
-                testCaseListener.reportResultWarn(log, data, "Returned response code not matching expected response code",
+                testCaseListener.reportResultWarn(context, log, data, "Returned response code not matching expected response code",
                         "Response matches all 'verify' parameters, but response code doesn't match expected response code: expected [{}], actual [{}]", expectedResponseCode, response.responseCodeAsString());
             } else {
-                testCaseListener.reportResultError(log, data, "Verify parameters not matching response", errorMessages.toString());
+                testCaseListener.reportResultError(context, log, data, "Verify parameters not matching response", errorMessages.toString());
             }
         }
     }
@@ -199,12 +199,19 @@ public class CustomFuzzerUtil {
         return result;
     }
 
+    private Object getVariableFromResponse(CatsResponse response, String variable) {
+        if (response.isValidJson()) {
+            return JsonUtils.getVariableFromJson(response.getJsonBody(), variable);
+        }
+        return JsonUtils.getVariableFromJson(response.getBody(), variable);
+    }
+
     private Map<String, String> matchVariablesWithTheResponse(CatsResponse response, Map<String, String> variablesMap, Function<Map.Entry<String, String>, String> mappingFunction) {
         Map<String, String> result = new HashMap<>();
 
         result.putAll(variablesMap.entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> String.valueOf(JsonUtils.getVariableFromJson(response.getBody(), mappingFunction.apply(entry))))
+                        entry -> String.valueOf(this.getVariableFromResponse(response, mappingFunction.apply(entry))))
                 ));
 
         //we make sure that "checkBoolean" is not marked as NOT_SET and set to TRUE so that is matched against the computed expression
@@ -233,10 +240,10 @@ public class CustomFuzzerUtil {
     }
 
 
-    public void startCustomTest(String testName, Map<String, Object> currentPathValues, String expectedResponseCode) {
+    public void startCustomTest(TestCaseContext context, String testName, Map<String, Object> currentPathValues, String expectedResponseCode) {
         String testScenario = this.getTestScenario(testName, currentPathValues);
-        testCaseListener.addScenario(log, "Scenario: {}", testScenario);
-        testCaseListener.addExpectedResult(log, "Should return [{}]", expectedResponseCode);
+        testCaseListener.addScenario(context, log, "Scenario: {}", testScenario);
+        testCaseListener.addExpectedResult(context, log, "Should return [{}]", expectedResponseCode);
     }
 
     public String getJsonWithCustomValuesFromFile(FuzzingData data, Map<String, Object> currentPathValues) {
@@ -271,7 +278,7 @@ public class CustomFuzzerUtil {
             this.pathsWithInputVariables.put(data.getPath(), (Map<String, Object>) value);
             List<Map<String, Object>> individualTestCases = this.createIndividualRequest((Map<String, Object>) value, data.getPayload());
             for (Map<String, Object> testCase : individualTestCases) {
-                testCaseListener.createAndExecuteTest(log, fuzzer, () -> this.process(data, key, testCase));
+                testCaseListener.createAndExecuteTest(log, fuzzer, context -> this.process(context, data, key, testCase));
             }
         } else if (!isValidOneOf) {
             log.skip("Skipping path [{}] as it does not match oneOfSelection", data.getPath());
@@ -318,7 +325,7 @@ public class CustomFuzzerUtil {
 
         if (listOfValuesOptional.isPresent()) {
             Map.Entry<String, Object> listOfValues = listOfValuesOptional.get();
-            if (!(JsonUtils.getVariableFromJson(payload, listOfValues.getKey()) instanceof JSONArray)) {
+            if (!(JsonUtils.getVariableFromJson(payload, listOfValues.getKey()) instanceof List)) {
                 for (Object value : (List<?>) listOfValues.getValue()) {
                     testCase.put(listOfValues.getKey(), value);
                     allValues.add(testCase.entrySet()
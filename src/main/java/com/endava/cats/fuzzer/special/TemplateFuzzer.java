@@ -13,6 +13,7 @@ import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.KeyValuePair;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsUtil;
@@ -28,11 +29,14 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -55,6 +59,8 @@ public class TemplateFuzzer implements Fuzzer {
 
     @Override
     public void fuzz(FuzzingData data) {
+        Deque<CompletableFuture<Void>> inFlightTests = new ArrayDeque<>();
+        int inFlightWindow = Math.max(1, serviceCaller.getMaxRequestsPerHost());
         for (String targetField : Optional.ofNullable(data.getTargetFields()).orElse(Collections.emptySet())) {
             int payloadSize = this.getPayloadSize(data, targetField);
 
@@ -75,10 +81,14 @@ public class TemplateFuzzer implements Fuzzer {
                             .url(replacedPath)
                             .build();
 
-                    testCaseListener.createAndExecuteTest(logger, this, () -> process(data, catsRequest, targetField, payload));
+                    if (inFlightTests.size() >= inFlightWindow) {
+                        inFlightTests.poll().join();
+                    }
+                    inFlightTests.add(testCaseListener.createAndExecuteTestAsync(logger, this, context -> process(context, data, catsRequest, targetField, payload)));
                 }
             }
         }
+        inFlightTests.forEach(CompletableFuture::join);
     }
 
     String replacePath(FuzzingData data, String withData, String targetField) {
@@ -168,25 +178,35 @@ public class TemplateFuzzer implements Fuzzer {
         return oldValue.length();
     }
 
-    private void process(FuzzingData data, CatsRequest catsRequest, String targetField, String fuzzValued) {
-        testCaseListener.addScenario(logger, "Replace request field, header or path/query param [{}], with [{}]", targetField, FuzzingStrategy.replace().withData(fuzzValued).truncatedValue());
-        testCaseListener.addExpectedResult(logger, "Should get a valid response from the service");
-        testCaseListener.addRequest(catsRequest);
-        testCaseListener.addPath(catsRequest.getUrl());
-        testCaseListener.addContractPath(catsRequest.getUrl());
-        testCaseListener.addContractPath(catsRequest.getUrl());
-        testCaseListener.addFullRequestPath(catsRequest.getUrl());
+    private CompletableFuture<Void> process(TestCaseContext context, FuzzingData data, CatsRequest catsRequest, String targetField, String fuzzValued) {
+        testCaseListener.addScenario(context, logger, "Replace request field, header or path/query param [{}], with [{}]", targetField, FuzzingStrategy.replace().withData(fuzzValued).truncatedValue());
+        testCaseListener.addExpectedResult(context, logger, "Should get a valid response from the service");
+        testCaseListener.addRequest(context, catsRequest);
+        testCaseListener.addPath(context, catsRequest.getUrl());
+        testCaseListener.addContractPath(context, catsRequest.getUrl());
+        testCaseListener.addFullRequestPath(context, catsRequest.getUrl());
+
+        CompletableFuture<CatsResponse> responseFuture;
         try {
-            CatsResponse catsResponse = serviceCaller.callService(catsRequest, Set.of(targetField));
-            if (matchArguments.isMatchResponse(catsResponse) || !matchArguments.isAnyMatchArgumentSupplied()) {
-                testCaseListener.addResponse(catsResponse);
-                testCaseListener.reportResultError(logger, data, "Check response details", "Service call completed. Please check response details.");
-            } else {
-                testCaseListener.skipTest(logger, "Skipping test as response does not match given matchers!");
-            }
+            responseFuture = serviceCaller.callServiceAsync(catsRequest, data.getPath(), Set.of(targetField));
         } catch (Exception e) {
-            logger.debug("Something unexpected happened: ", e);
-            testCaseListener.reportResultError(logger, data, "Check response details", "Something went wrong {}", e.getMessage());
+            responseFuture = CompletableFuture.failedFuture(e);
+        }
+        return responseFuture.handle((catsResponse, throwable) -> {
+            this.processResponse(context, data, catsResponse, throwable);
+            return null;
+        });
+    }
+
+    private void processResponse(TestCaseContext context, FuzzingData data, CatsResponse catsResponse, Throwable throwable) {
+        if (throwable != null) {
+            logger.debug("Something unexpected happened: ", throwable);
+            testCaseListener.reportResultError(context, logger, data, "Check response details", "Something went wrong {}", throwable.getMessage());
+        } else if (matchArguments.isMatchResponse(catsResponse) || !matchArguments.isAnyMatchArgumentSupplied()) {
+            testCaseListener.addResponse(context, catsResponse);
+            testCaseListener.reportResultError(context, logger, data, "Check response details", "Service call completed. Please check response details.");
+        } else {
+            testCaseListener.skipTest(context, logger, "Skipping test as response does not match given matchers!");
         }
     }
 
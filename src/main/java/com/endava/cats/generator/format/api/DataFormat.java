@@ -7,16 +7,13 @@ import java.util.Optional;
 
 public abstract class DataFormat<T extends DataFormatGenerator> {
 
-    final Instance<T> generators;
+    final FormatGeneratorRegistry<T> registry;
 
     protected DataFormat(Instance<T> generators) {
-        this.generators = generators;
+        this.registry = new FormatGeneratorRegistry<>(generators.stream().toList());
     }
 
     Optional<T> getGenerator(Schema<?> schema, String propertyName) {
-        return generators.stream()
-                .filter(generator -> generator.appliesTo(Optional.ofNullable(schema.getFormat()).orElse(""),
-                        Optional.ofNullable(propertyName).orElse("")))
-                .findFirst();
+        return registry.find(schema.getFormat(), propertyName);
     }
 }
@@ -0,0 +1,55 @@
+package com.endava.cats.generator.format.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds the first generator applying to a given format and property name.
+ * <p>
+ * Generators match formats and property names using their own rules, such as exact formats, sanitized property name suffixes
+ * or exact sanitized property names, and the first matching generator wins. As the decision only depends on the format and
+ * the property name, it is computed once for each pair and reused for all the following properties with the same format and name.
+ * </p>
+ *
+ * @param <T> the type of generators
+ */
+public class FormatGeneratorRegistry<T extends DataFormatGenerator> {
+    private static final int MAX_DECISIONS = 10000;
+
+    private final List<T> generators;
+    private final Cache<Key, Optional<T>> decisions = CacheBuilder.newBuilder().maximumSize(MAX_DECISIONS).build();
+
+    /**
+     * Creates a registry for the given generators.
+     *
+     * @param generators the generators, in the order they are probed
+     */
+    public FormatGeneratorRegistry(List<T> generators) {
+        this.generators = List.copyOf(generators);
+    }
+
+    /**
+     * Returns the first generator applying to the given format or property name.
+     *
+     * @param format       the OpenAPI format
+     * @param propertyName the name of the property
+     * @return the matching generator or empty if no generator applies
+     */
+    public Optional<T> find(String format, String propertyName) {
+        Key key = new Key(Optional.ofNullable(format).orElse(""), Optional.ofNullable(propertyName).orElse(""));
+        Optional<T> generator = decisions.getIfPresent(key);
+        if (generator == null) {
+            generator = generators.stream()
+                    .filter(candidate -> candidate.appliesTo(key.format(), key.propertyName()))
+                    .findFirst();
+            decisions.put(key, generator);
+        }
+        return generator;
+    }
+
+    private record Key(String format, String propertyName) {
+    }
+}
@@ -12,12 +12,14 @@ import jakarta.inject.Singleton;
  */
 @Singleton
 public class InvalidDataFormat extends DataFormat<InvalidDataFormatGenerator> {
+    private static final VoidGenerator VOID_GENERATOR = new VoidGenerator();
+
     @Inject
     public InvalidDataFormat(Instance<InvalidDataFormatGenerator> generators) {
         super(generators);
     }
 
     public InvalidDataFormatGenerator generator(Schema<?> schema, String propertyName) {
-        return super.getGenerator(schema, propertyName).orElse(new VoidGenerator());
+        return super.getGenerator(schema, propertyName).orElse(VOID_GENERATOR);
     }
 }
@@ -1,10 +1,12 @@
 package com.endava.cats.generator.format.api;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
 
 public interface PropertySanitizer {
+    Pattern SEPARATORS = Pattern.compile("[-_#]+");
 
     static String sanitize(String string) {
-        return string.replaceAll("[-_#]+", "").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(string).replaceAll("").toLowerCase(Locale.ROOT);
     }
 }
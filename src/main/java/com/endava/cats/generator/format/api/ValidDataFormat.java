@@ -9,7 +9,7 @@ import jakarta.inject.Singleton;
 
 @Singleton
 public class ValidDataFormat extends DataFormat<ValidDataFormatGenerator> {
-
+    private static final VoidGenerator VOID_GENERATOR = new VoidGenerator();
 
     @Inject
     public ValidDataFormat(Instance<ValidDataFormatGenerator> generators) {
@@ -17,7 +17,7 @@ public class ValidDataFormat extends DataFormat<ValidDataFormatGenerator> {
     }
 
     public Object generate(Schema<?> schema, String propertyName) {
-        return super.getGenerator(schema, propertyName).orElse(new VoidGenerator()).generate(schema);
+        return super.getGenerator(schema, propertyName).orElse(VOID_GENERATOR).generate(schema);
     }
 
 }
@@ -4,12 +4,12 @@ import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.PropertySanitizer;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Locale;
-import java.util.Random;
 
 @Singleton
 public class CardNumberGenerator implements ValidDataFormatGenerator, InvalidDataFormatGenerator, OpenAPIFormat {
@@ -19,11 +19,9 @@ public class CardNumberGenerator implements ValidDataFormatGenerator, InvalidDat
             "5259272637080971", "5411382200125346", "5371612728016173", "5463084305505847", "5532093434659042",
             "6011334474724389", "6011315558568180", "6011727787327750", "6011659001329850", "6011729202913511",
             "371277972520881", "340706417617348", "376559356956996");
-    private final Random random = new Random();
-
     @Override
     public Object generate(Schema<?> schema) {
-        return CARDS.get(random.nextInt(CARDS.size()));
+        return CARDS.get(CatsRandom.instance().nextInt(CARDS.size()));
     }
 
     @Override
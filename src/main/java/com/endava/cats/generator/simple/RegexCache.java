@@ -0,0 +1,74 @@
+package com.endava.cats.generator.simple;
+
+import com.github.curiousoddman.rgxgen.RgxGen;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the parsed form of the regexes used for generating and checking values.
+ * <p>
+ * The same {@code pattern} from the contract is used for generating examples, boundary values and for checking fuzzed values,
+ * for every field and every test. Both {@link Pattern} and {@link RgxGen} instances are immutable once parsed and are shared
+ * between threads. Invalid regexes are not cached, so they throw an exception on every call.
+ * </p>
+ */
+public final class RegexCache {
+    private static final int MAX_REGEXES = 2048;
+    private static final Cache<String, Pattern> PATTERNS = CacheBuilder.newBuilder().maximumSize(MAX_REGEXES).recordStats().build();
+    private static final Cache<String, RgxGen> GENERATORS = CacheBuilder.newBuilder().maximumSize(MAX_REGEXES).recordStats().build();
+
+    private RegexCache() {
+        //ntd
+    }
+
+    /**
+     * Returns the compiled pattern for the given regex.
+     *
+     * @param regex the regex
+     * @return a compiled pattern
+     */
+    public static Pattern compile(String regex) {
+        Pattern pattern = PATTERNS.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            PATTERNS.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Returns a generator of random values matching the given regex.
+     *
+     * @param regex the regex
+     * @return a generator for the given regex
+     */
+    public static RgxGen rgxGen(String regex) {
+        RgxGen rgxGen = GENERATORS.getIfPresent(regex);
+        if (rgxGen == null) {
+            rgxGen = new RgxGen(regex);
+            GENERATORS.put(regex, rgxGen);
+        }
+        return rgxGen;
+    }
+
+    /**
+     * Returns statistics about compiled patterns reuse.
+     *
+     * @return the compiled patterns cache statistics
+     */
+    public static CacheStats getPatternsStats() {
+        return PATTERNS.stats();
+    }
+
+    /**
+     * Returns statistics about regex generators reuse.
+     *
+     * @return the regex generators cache statistics
+     */
+    public static CacheStats getGeneratorsStats() {
+        return GENERATORS.stats();
+    }
+}
@@ -1,5 +1,7 @@
 package com.endava.cats.generator.simple;
 
+import com.endava.cats.util.CatsRandom;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -33,7 +35,7 @@ public class RegexGenerator {
         }
         List<Character> candidates = new ArrayList<>();
         generateCandidates(candidates, pattern, prefix);
-        Collections.shuffle(candidates);
+        Collections.shuffle(candidates, CatsRandom.instance());
         return verifyAndReturn(pattern, prefix, min, max, candidates);
     }
 
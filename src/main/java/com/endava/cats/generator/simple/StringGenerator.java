@@ -1,12 +1,13 @@
 package com.endava.cats.generator.simple;
 
-import com.github.curiousoddman.rgxgen.RgxGen;
+import com.endava.cats.model.RepeatedValue;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.CollectionUtils;
 
-import java.security.SecureRandom;
+import java.util.Random;
 import java.util.regex.Pattern;
 
 public class StringGenerator {
@@ -14,14 +15,13 @@ public class StringGenerator {
     public static final int DEFAULT_MAX_LENGTH = 10000;
     public static final String ALPHANUMERIC_PLUS = "[a-zA-Z0-9]+";
     public static final String ALPHANUMERIC = "[a-zA-Z0-9]";
-    private static final SecureRandom RANDOM = new SecureRandom();
 
     private StringGenerator() {
         //ntd
     }
 
     public static String generateRandomString() {
-        return FUZZ + RandomStringUtils.randomAlphabetic(4);
+        return FUZZ + RandomStringUtils.random(4, 0, 0, true, false, null, CatsRandom.instance());
     }
 
     public static String generateLargeString(int times) {
@@ -61,16 +61,17 @@ public class StringGenerator {
      */
     public static String generate(String pattern, int min, int max) {
         String initialVersion = generateUsingRgxGenerator(pattern, min, max);
-        if (initialVersion.matches(pattern)) {
+        Pattern compiledPattern = RegexCache.compile(pattern);
+        if (compiledPattern.matcher(initialVersion).matches()) {
             return initialVersion;
         }
 
-        String secondVersionBase = RegexGenerator.generate(Pattern.compile(pattern), "", 10, 15);
+        String secondVersionBase = RegexGenerator.generate(compiledPattern, "", 10, 15);
         return composeString(secondVersionBase, min, max);
     }
 
     private static String generateUsingRgxGenerator(String pattern, int min, int max) {
-        String generatedValue = new RgxGen(pattern).generate();
+        String generatedValue = RegexCache.rgxGen(pattern).generate(CatsRandom.instance());
         if (pattern.endsWith("}") || pattern.endsWith("}$")) {
             return generatedValue;
         }
@@ -85,7 +86,7 @@ public class StringGenerator {
         if (trimmed.length() < min) {
             return composeString(trimmed + trimmed, min, max);
         } else if (trimmed.length() > max) {
-            int random = max == min ? 0 : RANDOM.nextInt(max - min);
+            int random = max == min ? 0 : CatsRandom.instance().nextInt(max - min);
             return trimmed.substring(0, max - random);
         }
 
@@ -97,14 +98,15 @@ public class StringGenerator {
      * and {@code Integer.MAX_VALUE} (including), the generated String length will be {@code Integer.MAX_VALUE - 2}, which is the maximum length
      * allowed for a char array on most JVMs. If the maxLength is less than
      * {@code Integer.MAX_VALUE - 10}, then the generated value will have maxLength + 10 length. If the Schema has no maxLength
-     * defined, it will default to {@code DEFAULT_MAX_LENGTH}.
+     * defined, it will default to {@code DEFAULT_MAX_LENGTH}. Values longer than {@link RepeatedValue#STREAMING_THRESHOLD}
+     * are returned as a {@link RepeatedValue} token and streamed when sent to the service.
      *
      * @param schema the associated schema of current fuzzed field
      * @return a random String whose length is bigger than maxLength
      */
     public static String generateRightBoundString(Schema<?> schema) {
         long minLength = getRightBoundaryLength(schema);
-        return StringUtils.repeat('a', (int) minLength);
+        return RepeatedValue.of("a", minLength);
     }
 
     public static long getRightBoundaryLength(Schema<?> schema) {
@@ -124,24 +126,23 @@ public class StringGenerator {
         }
         String pattern = ALPHANUMERIC + "{" + (minLength - 1) + "," + minLength + "}";
 
-        return new RgxGen(pattern).generate();
+        return RegexCache.rgxGen(pattern).generate(CatsRandom.instance());
     }
 
+    /**
+     * Generates a string starting with {@link UnicodeGenerator#getBadPayload()} followed by 1000 random code points which are defined,
+     * excluding surrogates and private use code points.
+     *
+     * @return a random unicode string
+     */
     public static String generateRandomUnicode() {
-        StringBuilder builder = new StringBuilder(UnicodeGenerator.getBadPayload().length() + 1000);
-        builder.append(UnicodeGenerator.getBadPayload());
-
         int count = 1000;
-        while (count > 0) {
-            int codePoint = RANDOM.nextInt(Character.MAX_CODE_POINT + 1);
-            int type = Character.getType(codePoint);
-
-            if (!Character.isDefined(codePoint) || type == Character.PRIVATE_USE || type == Character.SURROGATE || type == Character.UNASSIGNED) {
-                continue;
-            }
+        /*supplementary code points take 2 chars, so the builder is sized for the worst case to avoid growing it*/
+        StringBuilder builder = UnicodeGenerator.appendBadPayload(new StringBuilder(UnicodeGenerator.getBadPayload().length() + 2 * count));
+        Random random = CatsRandom.instance();
 
-            builder.appendCodePoint(codePoint);
-            count--;
+        for (int i = 0; i < count; i++) {
+            builder.appendCodePoint(UnicodeCodePoints.random(random));
         }
 
         return builder.toString();
@@ -0,0 +1,86 @@
+package com.endava.cats.generator.simple;
+
+import java.util.Random;
+
+/**
+ * Table with all the code points which are defined, excluding surrogates and private use code points.
+ * <p>
+ * The table is built once, grouped by {@link Character#getType(int)} category, so that a random code point, either from
+ * the whole table or from a given category, is picked in constant time instead of drawing from the entire code point range
+ * until a valid one is found.
+ * </p>
+ */
+final class UnicodeCodePoints {
+    private static final int CATEGORIES = 32;
+    private static final int[] CODE_POINTS;
+    private static final int[] CATEGORY_OFFSETS = new int[CATEGORIES + 1];
+
+    static {
+        int[] categoryCounts = new int[CATEGORIES];
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            if (isValid(codePoint)) {
+                categoryCounts[Character.getType(codePoint)]++;
+            }
+        }
+        for (int category = 0; category < CATEGORIES; category++) {
+            CATEGORY_OFFSETS[category + 1] = CATEGORY_OFFSETS[category] + categoryCounts[category];
+        }
+        CODE_POINTS = new int[CATEGORY_OFFSETS[CATEGORIES]];
+        int[] nextIndex = new int[CATEGORIES];
+        System.arraycopy(CATEGORY_OFFSETS, 0, nextIndex, 0, CATEGORIES);
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            if (isValid(codePoint)) {
+                CODE_POINTS[nextIndex[Character.getType(codePoint)]++] = codePoint;
+            }
+        }
+    }
+
+    private UnicodeCodePoints() {
+        //ntd
+    }
+
+    private static boolean isValid(int codePoint) {
+        int type = Character.getType(codePoint);
+        return Character.isDefined(codePoint) && type != Character.PRIVATE_USE && type != Character.SURROGATE && type != Character.UNASSIGNED;
+    }
+
+    /**
+     * Returns the number of code points in the table.
+     *
+     * @return the number of valid code points
+     */
+    static int count() {
+        return CODE_POINTS.length;
+    }
+
+    /**
+     * Returns the number of code points in the table for the given category.
+     *
+     * @param category one of the {@link Character#getType(int)} categories
+     * @return the number of valid code points for the category
+     */
+    static int count(int category) {
+        return CATEGORY_OFFSETS[category + 1] - CATEGORY_OFFSETS[category];
+    }
+
+    /**
+     * Returns a random code point from the table.
+     *
+     * @param random the random source
+     * @return a random valid code point
+     */
+    static int random(Random random) {
+        return CODE_POINTS[random.nextInt(CODE_POINTS.length)];
+    }
+
+    /**
+     * Returns a random code point of the given category.
+     *
+     * @param random   the random source
+     * @param category one of the {@link Character#getType(int)} categories having at least one valid code point
+     * @return a random valid code point of the given category
+     */
+    static int random(Random random, int category) {
+        return CODE_POINTS[CATEGORY_OFFSETS[category] + random.nextInt(count(category))];
+    }
+}
@@ -124,6 +124,16 @@ public abstract class UnicodeGenerator {
         return BAD_PAYLOAD;
     }
 
+    /**
+     * Appends the bad payload to the given builder, so that callers building larger strings avoid intermediate copies.
+     *
+     * @param builder the builder to append to
+     * @return the same builder
+     */
+    public static StringBuilder appendBadPayload(StringBuilder builder) {
+        return builder.append(BAD_PAYLOAD);
+    }
+
     public static List<String> getInvalidReferences() {
         return INVALID_REFERENCES;
     }
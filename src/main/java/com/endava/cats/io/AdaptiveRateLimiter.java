@@ -0,0 +1,194 @@
+package com.endava.cats.io;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Controls the rate at which requests are sent to the service.
+ * <p>
+ * When not adaptive, the rate is fixed to {@code --maxRequestsPerMinute}. When adaptive, the rate is adjusted using
+ * an AIMD (additive increase, multiplicative decrease) algorithm, never exceeding {@code --maxRequestsPerMinute}:
+ * </p>
+ * <ul>
+ *     <li>the rate starts at 10% of the maximum and is increased with 1% of the maximum after each healthy response</li>
+ *     <li>the rate is halved when the service answers with 429 or 503 or when the call fails with an IO error</li>
+ *     <li>the rate is decreased by 10% when the smoothed latency grows over twice the baseline latency</li>
+ * </ul>
+ * Decreases are applied at most once per second so that a burst of throttled in-flight requests only counts once.
+ * <p>
+ * Latency is tracked separately for each endpoint and response code class, as fast errors like 400 or 404 would otherwise
+ * hide slowdowns of successful responses and slower endpoints would always look slow compared to faster ones.
+ * The baseline is the lowest latency observed in the current and previous {@value #BASELINE_WINDOW_IN_SECONDS} seconds
+ * window, so that it follows lasting changes in the service's latency instead of being pinned to a single fast response.
+ * </p>
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class AdaptiveRateLimiter {
+    private static final double THROTTLED_BACKOFF = 0.5;
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final double INITIAL_RATE_RATIO = 0.1;
+    private static final double INCREASE_RATIO = 0.01;
+    private static final double MIN_REQUESTS_PER_SECOND = 1;
+    private static final long MIN_LATENCY_IN_MS = 10;
+    private static final long DECREASE_COOLDOWN_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long BASELINE_WINDOW_IN_SECONDS = 30;
+    private static final long BASELINE_WINDOW_IN_NANOS = TimeUnit.SECONDS.toNanos(BASELINE_WINDOW_IN_SECONDS);
+    private static final int MAX_TRACKED_ENDPOINTS = 1000;
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private final RateLimiter rateLimiter;
+    private final boolean adaptive;
+    private final double maxRate;
+    private final double minRate;
+    private final IntConsumer limitListener;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, LatencyStats> latencies = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LatencyStats> eldest) {
+            return size() > MAX_TRACKED_ENDPOINTS;
+        }
+    };
+
+    private double currentRate;
+    private long lastDecrease;
+    private boolean decreasedBefore;
+
+    /**
+     * Creates a new rate limiter.
+     *
+     * @param maxRequestsPerMinute the maximum number of requests per minute
+     * @param adaptive             if the rate should adapt to the service's behaviour
+     * @param limitListener        notified with the new limit, in requests per minute, every time the limit changes
+     */
+    public AdaptiveRateLimiter(int maxRequestsPerMinute, boolean adaptive, IntConsumer limitListener) {
+        this(maxRequestsPerMinute, adaptive, limitListener, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(int maxRequestsPerMinute, boolean adaptive, IntConsumer limitListener, LongSupplier nanoClock) {
+        this.maxRate = 1.0 * maxRequestsPerMinute / 60;
+        this.minRate = Math.min(MIN_REQUESTS_PER_SECOND, maxRate);
+        this.adaptive = adaptive;
+        this.limitListener = limitListener;
+        this.nanoClock = nanoClock;
+        this.currentRate = adaptive ? Math.max(minRate, maxRate * INITIAL_RATE_RATIO) : maxRate;
+        this.rateLimiter = RateLimiter.create(currentRate);
+        if (adaptive) {
+            logger.info("Adaptive rate limiting enabled. Starting with {} requests/minute, max {} requests/minute", this.getRequestsPerMinute(), maxRequestsPerMinute);
+            limitListener.accept(this.getRequestsPerMinute());
+        }
+    }
+
+    /**
+     * Blocks until a request can be sent according to the current rate.
+     */
+    public void acquire() {
+        rateLimiter.acquire();
+    }
+
+    /**
+     * Records a response received from the service.
+     *
+     * @param endpoint         the endpoint which was called, typically the HTTP method and the contract path of the operation
+     * @param responseCode     the HTTP response code
+     * @param responseTimeInMs the time it took for the response to be received
+     */
+    public synchronized void recordResponse(String endpoint, int responseCode, long responseTimeInMs) {
+        if (!adaptive) {
+            return;
+        }
+        if (responseCode == 429 || responseCode == 503) {
+            this.decrease(THROTTLED_BACKOFF, "service answered with " + responseCode);
+            return;
+        }
+        LatencyStats stats = latencies.computeIfAbsent(endpoint + " " + responseCode / 100 + "xx", key -> new LatencyStats());
+        stats.record(responseTimeInMs, nanoClock.getAsLong());
+
+        if (stats.smoothedLatency > LATENCY_TOLERANCE * stats.getBaseline()) {
+            this.decrease(LATENCY_BACKOFF, "latency of " + endpoint + " increased to " + Math.round(stats.smoothedLatency) + "ms");
+        } else {
+            this.setRate(currentRate + maxRate * INCREASE_RATIO);
+        }
+    }
+
+    /**
+     * Records a call which failed due to an IO error like a timeout or a refused connection.
+     */
+    public synchronized void recordIoError() {
+        if (adaptive) {
+            this.decrease(THROTTLED_BACKOFF, "IO error");
+        }
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the current number of requests per minute allowed
+     */
+    public synchronized int getRequestsPerMinute() {
+        return (int) Math.round(currentRate * 60);
+    }
+
+    private void decrease(double backoffRatio, String reason) {
+        long now = nanoClock.getAsLong();
+        if (decreasedBefore && now - lastDecrease < DECREASE_COOLDOWN_IN_NANOS) {
+            return;
+        }
+        decreasedBefore = true;
+        lastDecrease = now;
+        this.setRate(currentRate * backoffRatio);
+        logger.info("Adaptive rate limit decreased to {} requests/minute as {}", this.getRequestsPerMinute(), reason);
+    }
+
+    private void setRate(double newRate) {
+        double boundedRate = Math.max(minRate, Math.min(maxRate, newRate));
+        if (boundedRate != currentRate) {
+            int previousLimit = this.getRequestsPerMinute();
+            currentRate = boundedRate;
+            rateLimiter.setRate(currentRate);
+            if (previousLimit != this.getRequestsPerMinute()) {
+                logger.debug("Adaptive rate limit set to {} requests/minute", this.getRequestsPerMinute());
+                limitListener.accept(this.getRequestsPerMinute());
+            }
+        }
+    }
+
+    /**
+     * Smoothed latency and rolling baseline of an endpoint and response code class.
+     */
+    private static final class LatencyStats {
+        private double smoothedLatency;
+        private long currentWindowLowest = Long.MAX_VALUE;
+        private long previousWindowLowest = Long.MAX_VALUE;
+        private long windowStart;
+        private boolean started;
+
+        void record(long responseTimeInMs, long now) {
+            if (!started || now - windowStart >= 2 * BASELINE_WINDOW_IN_NANOS) {
+                previousWindowLowest = Long.MAX_VALUE;
+                currentWindowLowest = Long.MAX_VALUE;
+                windowStart = now;
+                started = true;
+            } else if (now - windowStart >= BASELINE_WINDOW_IN_NANOS) {
+                previousWindowLowest = currentWindowLowest;
+                currentWindowLowest = Long.MAX_VALUE;
+                windowStart = now;
+            }
+            currentWindowLowest = Math.min(currentWindowLowest, Math.max(MIN_LATENCY_IN_MS, responseTimeInMs));
+            smoothedLatency = smoothedLatency == 0 ? responseTimeInMs : smoothedLatency + LATENCY_SMOOTHING * (responseTimeInMs - smoothedLatency);
+        }
+
+        long getBaseline() {
+            return Math.min(currentWindowLowest, previousWindowLowest);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.endava.cats.io;
+
+import com.endava.cats.report.ExecutionStatisticsListener;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+
+/**
+ * Records how many connections are opened and how many times a connection is used for a request,
+ * so that the connection reuse ratio can be reported at the end of the run.
+ */
+public class ConnectionReuseListener extends EventListener {
+    private final ExecutionStatisticsListener executionStatisticsListener;
+
+    public ConnectionReuseListener(ExecutionStatisticsListener executionStatisticsListener) {
+        this.executionStatisticsListener = executionStatisticsListener;
+    }
+
+    @Override
+    public void connectEnd(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy, @Nullable Protocol protocol) {
+        executionStatisticsListener.increaseConnectionsOpened();
+    }
+
+    @Override
+    public void connectionAcquired(@NotNull Call call, @NotNull Connection connection) {
+        executionStatisticsListener.increaseConnectionsAcquired();
+    }
+}
@@ -0,0 +1,70 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.RepeatedValue;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request body for payloads containing {@link RepeatedValue}s. The repeated values are written straight to the connection
+ * in chunks, so the full payload is never held in memory. The body can be written multiple times, which is needed for retries.
+ */
+class RepeatedValueRequestBody extends RequestBody {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final List<Object> parts = new ArrayList<>();
+    private final long contentLength;
+
+    RepeatedValueRequestBody(String payload) {
+        RepeatedValue.forEachPart(payload, literal -> parts.add(literal.getBytes(StandardCharsets.UTF_8)), parts::add);
+        contentLength = parts.stream().mapToLong(RepeatedValueRequestBody::lengthInBytes).sum();
+    }
+
+    private static long lengthInBytes(Object part) {
+        if (part instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        RepeatedValue repeated = (RepeatedValue) part;
+        return repeated.pattern().getBytes(StandardCharsets.UTF_8).length * repeated.times();
+    }
+
+    @Override
+    public MediaType contentType() {
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        for (Object part : parts) {
+            if (part instanceof byte[] bytes) {
+                sink.write(bytes);
+            } else {
+                writeRepeated(sink, (RepeatedValue) part);
+            }
+        }
+    }
+
+    private static void writeRepeated(BufferedSink sink, RepeatedValue repeated) throws IOException {
+        byte[] pattern = repeated.pattern().getBytes(StandardCharsets.UTF_8);
+        int patternsPerChunk = Math.max(1, CHUNK_SIZE / pattern.length);
+        byte[] chunk = repeated.pattern().repeat(patternsPerChunk).getBytes(StandardCharsets.UTF_8);
+
+        long remaining = repeated.times();
+        while (remaining >= patternsPerChunk) {
+            sink.write(chunk);
+            remaining -= patternsPerChunk;
+        }
+        sink.write(chunk, 0, (int) remaining * pattern.length);
+    }
+}
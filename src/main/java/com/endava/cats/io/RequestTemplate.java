@@ -0,0 +1,103 @@
+package com.endava.cats.io;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.dsl.CatsDSLParser;
+import com.endava.cats.model.KeyValuePair;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the parts of a request which are the same for all the tests targeting a given path: the URL with
+ * {@code --urlParams} and path reference data replaced, the reference data, the additional query parameters and
+ * the headers supplied in the {@code --headers} file.
+ * <p>
+ * Supplied headers which are plain values or environment variables are resolved once, when the template is compiled.
+ * Headers containing expressions or auth scripts are resolved every time {@link #resolveSuppliedHeaders(Map)} is called.
+ * </p>
+ */
+@Getter
+class RequestTemplate {
+    private final String relativePath;
+    /**
+     * Server and path with the {@code --urlParams} replaced.
+     */
+    private final String urlTemplate;
+    /**
+     * The {@link #urlTemplate} with the path reference data replaced.
+     */
+    private final String urlWithRefData;
+    private final Map<String, Object> refData;
+    private final List<KeyValuePair<String, String>> additionalQueryParams;
+    private final Map<String, String> suppliedHeaders;
+    private final Set<String> dynamicHeaders;
+
+    private RequestTemplate(String relativePath, String urlTemplate, String urlWithRefData, Map<String, Object> refData,
+                            List<KeyValuePair<String, String>> additionalQueryParams, Map<String, String> suppliedHeaders, Set<String> dynamicHeaders) {
+        this.relativePath = relativePath;
+        this.urlTemplate = urlTemplate;
+        this.urlWithRefData = urlWithRefData;
+        this.refData = refData;
+        this.additionalQueryParams = additionalQueryParams;
+        this.suppliedHeaders = suppliedHeaders;
+        this.dynamicHeaders = dynamicHeaders;
+    }
+
+    /**
+     * Compiles a template for the given path.
+     *
+     * @param server         the base URL of the service
+     * @param relativePath   the path being called
+     * @param filesArguments the files supplied as arguments
+     * @return a new template
+     */
+    static RequestTemplate compile(String server, String relativePath, FilesArguments filesArguments) {
+        String urlTemplate = filesArguments.replacePathWithUrlParams(server + relativePath);
+        Map<String, Object> refData = Collections.unmodifiableMap(filesArguments.getRefData(relativePath));
+
+        String urlWithRefData = urlTemplate;
+        for (Map.Entry<String, Object> entry : refData.entrySet()) {
+            urlWithRefData = urlWithRefData.replace("{" + entry.getKey() + "}", String.valueOf(entry.getValue()));
+        }
+
+        List<KeyValuePair<String, String>> additionalQueryParams = filesArguments.getAdditionalQueryParamsForPath(relativePath)
+                .entrySet().stream()
+                .map(entry -> new KeyValuePair<>(entry.getKey(), String.valueOf(entry.getValue())))
+                .toList();
+
+        Map<String, String> suppliedHeaders = new LinkedHashMap<>();
+        Set<String> dynamicHeaders = new HashSet<>();
+        for (Map.Entry<String, Object> header : filesArguments.getHeaders(relativePath).entrySet()) {
+            String value = String.valueOf(header.getValue());
+            if (CatsDSLParser.isStatic(value)) {
+                suppliedHeaders.put(header.getKey(), CatsDSLParser.parseAndGetResult(value, Collections.emptyMap()));
+            } else {
+                suppliedHeaders.put(header.getKey(), value);
+                dynamicHeaders.add(header.getKey());
+            }
+        }
+
+        return new RequestTemplate(relativePath, urlTemplate, urlWithRefData, refData, additionalQueryParams,
+                Collections.unmodifiableMap(suppliedHeaders), Collections.unmodifiableSet(dynamicHeaders));
+    }
+
+    /**
+     * Returns the supplied headers with the dynamic ones evaluated against the given context.
+     *
+     * @param context the context used to evaluate dynamic headers
+     * @return the supplied headers with their final values
+     */
+    Map<String, String> resolveSuppliedHeaders(Map<String, String> context) {
+        if (dynamicHeaders.isEmpty()) {
+            return suppliedHeaders;
+        }
+        Map<String, String> resolvedHeaders = new LinkedHashMap<>(suppliedHeaders);
+        dynamicHeaders.forEach(header -> resolvedHeaders.put(header, CatsDSLParser.parseAndGetResult(suppliedHeaders.get(header), context)));
+        return resolvedHeaders;
+    }
+}
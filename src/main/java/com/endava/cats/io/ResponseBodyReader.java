@@ -0,0 +1,115 @@
+package com.endava.cats.io;
+
+import okio.BufferedSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads a response body in a single streaming pass, computing the number of bytes, words and lines
+ * while keeping at most {@code --maxResponseBodySize} bytes of the body in memory.
+ * <p>
+ * Words are separated by whitespace, the same way {@link java.util.StringTokenizer} does it. Lines are separated
+ * by {@code \r} or {@code \n}, with trailing empty lines not being counted. The metrics are always computed for the entire
+ * body, even when the stored body is truncated.
+ * </p>
+ * <p>
+ * Words and lines are counted on the raw bytes, looking only for the ASCII delimiters {@code StringTokenizer} uses, so multi-byte
+ * whitespace like a non-breaking space does not separate words, just like with {@code StringTokenizer}. This gives the same
+ * counts as the decoded body for UTF-8 and other ASCII compatible charsets, where the bytes of multi-byte characters never match
+ * ASCII delimiters. Counts may differ for bodies encoded as UTF-16 or UTF-32.
+ * </p>
+ */
+class ResponseBodyReader {
+    static final String TRUNCATED_MARKER = "...[truncated %d bytes]";
+    private static final int CHUNK_SIZE = 8192;
+
+    private ResponseBodyReader() {
+        //ntd
+    }
+
+    /**
+     * Reads the entire body from the given source.
+     *
+     * @param source      the body source
+     * @param charset     the charset used to decode the body
+     * @param maxBodySize maximum number of bytes kept from the body; 0 or less means no limit
+     * @return the body along with its metrics
+     * @throws IOException if something goes wrong while reading the body
+     */
+    static ResponseBody read(BufferedSource source, Charset charset, long maxBodySize) throws IOException {
+        long limit = maxBodySize > 0 ? maxBodySize : Long.MAX_VALUE;
+        ByteArrayOutputStream storedBytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        long bytes = 0;
+        long words = 0;
+        long delimiters = 0;
+        long lines = 0;
+        boolean inWord = false;
+
+        int read;
+        while ((read = source.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte current = chunk[i];
+                if (isWhitespace(current)) {
+                    inWord = false;
+                } else if (!inWord) {
+                    inWord = true;
+                    words++;
+                }
+                if (current == '\r' || current == '\n') {
+                    delimiters++;
+                } else {
+                    lines = delimiters + 1;
+                }
+            }
+            if (bytes < limit) {
+                storedBytes.write(chunk, 0, (int) Math.min(read, limit - bytes));
+            }
+            bytes += read;
+        }
+
+        String body = decode(storedBytes.toByteArray(), charset, bytes);
+        return new ResponseBody(body, bytes, words, bytes == 0 ? 1 : lines, bytes > limit);
+    }
+
+    private static String decode(byte[] storedBytes, Charset charset, long totalBytes) {
+        if (storedBytes.length == totalBytes) {
+            return new String(storedBytes, charset);
+        }
+        int length = StandardCharsets.UTF_8.equals(charset) ? utf8Boundary(storedBytes) : storedBytes.length;
+        return new String(storedBytes, 0, length, charset) + TRUNCATED_MARKER.formatted(totalBytes - length);
+    }
+
+    /**
+     * Returns the length of the bytes without the last character, if that character was cut in half by the truncation.
+     * Only called for truncated bodies, which always keep at least one byte.
+     */
+    private static int utf8Boundary(byte[] bytes) {
+        int lastCharStart = bytes.length - 1;
+        while (lastCharStart > 0 && (bytes[lastCharStart] & 0xC0) == 0x80) {
+            lastCharStart--;
+        }
+        int lead = bytes[lastCharStart] & 0xFF;
+        int charLength = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        return lastCharStart + charLength > bytes.length ? lastCharStart : bytes.length;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\r' || value == '\f';
+    }
+
+    /**
+     * The body read from the response, possibly truncated, and the metrics computed for the entire body.
+     *
+     * @param body                 the body as string; ends with a truncation marker if truncated
+     * @param contentLengthInBytes the size of the entire body
+     * @param numberOfWords        the number of words in the entire body
+     * @param numberOfLines        the number of lines in the entire body
+     * @param truncated            true if the body exceeded the maximum size
+     */
+    record ResponseBody(String body, long contentLengthInBytes, long numberOfWords, long numberOfLines, boolean truncated) {
+    }
+}
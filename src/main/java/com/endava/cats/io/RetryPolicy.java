@@ -0,0 +1,107 @@
+package com.endava.cats.io;
+
+import com.endava.cats.util.CatsRandom;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides if and when requests answered with 429 or 503 are retried.
+ * <p>
+ * The delay before a retry is taken from the {@code Retry-After} header when present. Otherwise, it grows exponentially
+ * starting from {@code --retryDelay}, with a random jitter of up to half of the delay so that in-flight requests don't retry in sync.
+ * A throttled response pauses the whole host: all requests to that host, including the ones sent by other threads, wait until the pause ends.
+ * </p>
+ */
+public class RetryPolicy {
+    static final long MAX_DELAY_IN_MS = Duration.ofMinutes(5).toMillis();
+
+    private final int maxRetries;
+    private final long retryDelayInMs;
+    private final LongSupplier clock;
+    private final Map<String, Long> pausedHosts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new retry policy.
+     *
+     * @param maxRetries     the maximum number of retries for a request; 0 disables retries
+     * @param retryDelayInMs the initial delay used when the response doesn't contain a Retry-After header
+     */
+    public RetryPolicy(int maxRetries, long retryDelayInMs) {
+        this(maxRetries, retryDelayInMs, System::currentTimeMillis);
+    }
+
+    RetryPolicy(int maxRetries, long retryDelayInMs, LongSupplier clock) {
+        this.maxRetries = maxRetries;
+        this.retryDelayInMs = retryDelayInMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Checks if a request must be retried.
+     *
+     * @param responseCode    the response code received
+     * @param previousRetries how many times the request was already retried
+     * @return true if the response was throttled and retries are not exhausted, false otherwise
+     */
+    public boolean shouldRetry(int responseCode, int previousRetries) {
+        return (responseCode == 429 || responseCode == 503) && previousRetries < maxRetries;
+    }
+
+    /**
+     * Computes the delay before the next retry.
+     *
+     * @param previousRetries how many times the request was already retried
+     * @param retryAfter      the value of the Retry-After header, either delay-seconds or an HTTP date; can be null
+     * @return the delay in milliseconds
+     */
+    public long computeDelayInMs(int previousRetries, String retryAfter) {
+        long retryAfterInMs = this.parseRetryAfter(retryAfter);
+        if (retryAfterInMs >= 0) {
+            return Math.min(MAX_DELAY_IN_MS, retryAfterInMs);
+        }
+        long backoff = Math.min(MAX_DELAY_IN_MS, retryDelayInMs << Math.min(previousRetries, 20));
+        return backoff / 2 + CatsRandom.instance().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * Pauses all requests to the given host for the given time. An existing longer pause is kept.
+     *
+     * @param host      the host
+     * @param delayInMs the pause in milliseconds
+     */
+    public void pauseHost(String host, long delayInMs) {
+        pausedHosts.merge(host, clock.getAsLong() + delayInMs, Math::max);
+    }
+
+    /**
+     * Returns how long requests to the given host must still wait.
+     *
+     * @param host the host
+     * @return the remaining pause in milliseconds or 0 if the host is not paused
+     */
+    public long getRemainingPauseInMs(String host) {
+        return Math.max(0, pausedHosts.getOrDefault(host, 0L) - clock.getAsLong());
+    }
+
+    long parseRetryAfter(String retryAfter) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        if (StringUtils.isNumeric(value)) {
+            return value.length() > 9 ? MAX_DELAY_IN_MS : Duration.ofSeconds(Long.parseLong(value)).toMillis();
+        }
+        try {
+            return Math.max(0, ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() - clock.getAsLong());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -15,6 +15,9 @@ import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.KeyValuePair;
+import com.endava.cats.model.RepeatedValue;
+import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.TestCaseContext;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsDSLWords;
@@ -22,27 +25,35 @@ import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.WordUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.net.HttpHeaders;
-import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.jayway.jsonpath.PathNotFoundException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import net.minidev.json.JSONValue;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -52,7 +63,10 @@ import javax.net.ssl.X509TrustManager;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.ProtocolException;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
@@ -67,10 +81,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -81,9 +106,11 @@ import static com.endava.cats.util.CatsDSLWords.ADDITIONAL_PROPERTIES;
  * This class is responsible for the HTTP interaction with the target server supplied in the {@code --server} parameter
  */
 @ApplicationScoped
-@SuppressWarnings("UnstableApiUsage")
 public class ServiceCaller {
     public static final String CATS_REMOVE_FIELD = "cats_remove_field";
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+    private static final int MAX_REQUEST_TEMPLATES = 1000;
+    private static final Pattern REMAINING_PATH_PARAMS = Pattern.compile("\\{(.*?)}");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ServiceCaller.class);
     private static final List<String> AUTH_HEADERS = Arrays.asList("authorization", "jwt", "api-key", "api_key", "apikey",
             "secret", "secret-key", "secret_key", "api-secret", "api_secret", "apisecret", "api-token", "api_token", "apitoken");
@@ -94,13 +121,26 @@ public class ServiceCaller {
     private final ApiArguments apiArguments;
     private final ProcessingArguments processingArguments;
     private final CatsGlobalContext catsGlobalContext;
+    private final ExecutionStatisticsListener executionStatisticsListener;
     OkHttpClient okHttpClient;
 
-    private RateLimiter rateLimiter;
+    /**
+     * Bounded, as Fuzzers changing path parameters call a different path for each test.
+     */
+    private final Cache<String, RequestTemplate> requestTemplates = CacheBuilder.newBuilder().maximumSize(MAX_REQUEST_TEMPLATES).build();
+    private final Map<String, Semaphore> syncCallsPermits = new ConcurrentHashMap<>();
+    private AdaptiveRateLimiter rateLimiter;
+    private RetryPolicy retryPolicy;
+    /**
+     * Async calls wait for host pauses and rate limiter permits on this thread, never on the caller's or on OkHttp dispatcher threads.
+     * Created when the first async call is sent.
+     */
+    private ScheduledExecutorService asyncCallsScheduler;
 
     @Inject
-    public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, CatsUtil cu, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
+    public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, ExecutionStatisticsListener er, CatsUtil cu, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
         this.testCaseListener = lr;
+        this.executionStatisticsListener = er;
         this.catsUtil = cu;
         this.filesArguments = filesArguments;
         this.authArguments = authArguments;
@@ -111,7 +151,12 @@ public class ServiceCaller {
 
     @PostConstruct
     public void initRateLimiter() {
-        rateLimiter = RateLimiter.create(1.0 * apiArguments.getMaxRequestsPerMinute() / 60);
+        rateLimiter = new AdaptiveRateLimiter(apiArguments.getMaxRequestsPerMinute(), apiArguments.isAdaptiveRateLimit(), executionStatisticsListener::updateRequestsPerMinuteLimit);
+    }
+
+    @PostConstruct
+    public void initAuthScriptStatistics() {
+        CatsDSLParser.setAuthScriptRunListener(executionStatisticsListener::recordAuthScriptRun);
     }
 
     @PostConstruct
@@ -120,23 +165,60 @@ public class ServiceCaller {
             final TrustManager[] trustAllCerts = this.buildTrustAllManager();
             final SSLSocketFactory sslSocketFactory = this.buildSslSocketFactory(trustAllCerts);
 
+            retryPolicy = new RetryPolicy(apiArguments.getMaxRetries(), apiArguments.getRetryDelay());
+            Dispatcher dispatcher = new Dispatcher(this.createDispatcherExecutor());
+            dispatcher.setMaxRequests(Math.max(DEFAULT_MAX_REQUESTS, apiArguments.getMaxRequestsPerHost()));
+            dispatcher.setMaxRequestsPerHost(apiArguments.getMaxRequestsPerHost());
+
             okHttpClient = new OkHttpClient.Builder()
+                    .dispatcher(dispatcher)
                     .proxy(authArguments.getProxy())
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(apiArguments.getMaxIdleConnections(), apiArguments.getKeepAliveDuration(), TimeUnit.SECONDS))
+                    .protocols(this.getProtocols())
+                    .eventListener(new ConnectionReuseListener(executionStatisticsListener))
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .retryOnConnectionFailure(true)
                     .hostnameVerifier((hostname, session) -> true).build();
 
             logger.debug("Proxy configuration to be used: {}", authArguments.getProxy());
+            logger.debug("HTTP protocols to be used: {}", okHttpClient.protocols());
+            if (apiArguments.isHttp2OverCleartext(apiArguments.getServer())) {
+                logger.warning("--protocol=HTTP_2 is only negotiated over TLS and all calls to an http server will fail. Use --protocol=H2C for cleartext HTTP/2 with prior knowledge");
+            }
+            if (apiArguments.isH2cOverTls(apiArguments.getServer())) {
+                logger.warning("--protocol=H2C sends cleartext HTTP/2 and will fail against an https server. Use --protocol=HTTP_2 instead");
+            }
         } catch (GeneralSecurityException | IOException e) {
             logger.warning("Failed to configure HTTP CLIENT: {}", e.getMessage());
             logger.debug("Stacktrace", e);
         }
     }
 
+    /**
+     * OkHttp requires HTTP/1.1 to be listed when negotiating HTTP/2 over TLS, so {@code HTTP_2} is enforced
+     * by checking the negotiated protocol of each response in {@link #checkNegotiatedProtocol(Response)}.
+     */
+    private List<Protocol> getProtocols() {
+        return switch (apiArguments.getProtocol()) {
+            case HTTP_1_1 -> List.of(Protocol.HTTP_1_1);
+            case HTTP_2 -> List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+            case H2C -> List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+            case AUTO -> List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        };
+    }
+
+    private ExecutorService createDispatcherExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "cats-http-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -184,55 +266,151 @@ public class ServiceCaller {
      */
     @DryRun
     public CatsResponse call(ServiceData data) {
-        String processedPayload = this.replacePayloadWithRefData(data);
-        processedPayload = this.convertPayloadInSpecificContentType(processedPayload, data);
-        logger.debug("Payload replaced with ref data: {}", processedPayload);
-
-        List<KeyValuePair<String, Object>> headers = this.buildHeaders(data);
-        CatsRequest catsRequest = CatsRequest.builder()
-                .headers(headers).payload(processedPayload)
-                .httpMethod(data.getHttpMethod().name())
-                .build();
-
+        RequestTemplate template = this.getRequestTemplate(data.getRelativePath());
+        String payloadWithRefData = this.replacePayloadWithRefData(data, template);
+        CatsRequest catsRequest = this.createCatsRequest(data, template, payloadWithRefData);
         long startTime = System.currentTimeMillis();
         try {
-            String url = this.getPathWithRefDataReplacedForHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
-
-            if (!HttpMethod.requiresBody(data.getHttpMethod())) {
-                url = this.getPathWithRefDataReplacedForNonHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
-                url = this.addUriParams(processedPayload, data, url);
-            }
-            url = this.addAdditionalQueryParams(url, data.getRelativePath());
-
-            catsRequest.setUrl(url);
-
-            logger.note("Final list of request headers: {}", headers);
-            logger.note("Final payload: {}", processedPayload);
-            logger.note("Final url: {}", url);
+            this.resolveUrl(catsRequest, data, template, payloadWithRefData);
 
             startTime = System.currentTimeMillis();
-            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields());
+            CatsResponse response = this.callService(catsRequest, this.getContractPath(data), data.getFuzzedFields());
 
             this.recordRequestAndResponse(catsRequest, response, data);
             return response;
         } catch (IOException | IllegalStateException e) {
-            long duration = System.currentTimeMillis() - startTime;
-            this.recordRequestAndResponse(catsRequest, CatsResponse.builder()
-                    .body("empty response").httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(duration).withInvalidErrorCode()
-                    .jsonBody(new JsonPrimitive("empty response"))
-                    .fuzzedField(data.getFuzzedFields()
-                            .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build(), data);
+            this.recordRequestAndResponse(catsRequest, this.createEmptyResponse(catsRequest, data, startTime), data);
             throw new CatsException(e);
         }
     }
 
+    /**
+     * Non-blocking version of {@link #call(ServiceData)}. The request is prepared on the calling thread and then enqueued
+     * in the HTTP client's dispatcher, which keeps at most {@code --maxRequestsPerHost} requests in-flight for the target host.
+     * Request and response details are recorded on the test case supplied in {@link ServiceData#getTestCaseContext()}.
+     * <p>
+     * When in dryRun mode ServiceCaller won't do any actual calls.
+     * </p>
+     *
+     * @param data the current context data
+     * @return a future completed with the result of service invocation or completed exceptionally with a {@link CatsException}
+     */
+    @DryRun
+    public CompletableFuture<CatsResponse> callAsync(ServiceData data) {
+        RequestTemplate template = this.getRequestTemplate(data.getRelativePath());
+        String payloadWithRefData = this.replacePayloadWithRefData(data, template);
+        CatsRequest catsRequest = this.createCatsRequest(data, template, payloadWithRefData);
+        try {
+            this.resolveUrl(catsRequest, data, template, payloadWithRefData);
+        } catch (IllegalStateException e) {
+            this.recordRequestAndResponse(catsRequest, this.createEmptyResponse(catsRequest, data, System.currentTimeMillis()), data);
+            return CompletableFuture.failedFuture(new CatsException(e));
+        }
+
+        long startTime = System.currentTimeMillis();
+        return this.callServiceAsync(catsRequest, this.getContractPath(data), data.getFuzzedFields())
+                .handle((response, throwable) -> {
+                    if (throwable == null) {
+                        this.recordRequestAndResponse(catsRequest, response, data);
+                        return response;
+                    }
+                    this.recordRequestAndResponse(catsRequest, this.createEmptyResponse(catsRequest, data, startTime), data);
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    throw new CatsException(cause instanceof Exception exception ? exception : new IllegalStateException(cause));
+                });
+    }
+
+    /**
+     * Returns the maximum number of requests which are sent concurrently to the target host by {@link #callAsync(ServiceData)}.
+     * Fuzzers pipelining requests can use this as the size of their in-flight window.
+     *
+     * @return the maximum number of in-flight requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return apiArguments.getMaxRequestsPerHost();
+    }
+
+    /**
+     * Returns the request template for the given path. Templates are compiled the first time a path is called
+     * and then reused by all the tests targeting the same path, as long as the path is among the most recently called ones.
+     *
+     * @param relativePath the path being called
+     * @return the request template for the path
+     */
+    RequestTemplate getRequestTemplate(String relativePath) {
+        if (relativePath == null) {
+            return RequestTemplate.compile(apiArguments.getServer(), null, filesArguments);
+        }
+        RequestTemplate template = requestTemplates.getIfPresent(relativePath);
+        if (template == null) {
+            template = RequestTemplate.compile(apiArguments.getServer(), relativePath, filesArguments);
+            logger.debug("Path {} (including ALL headers) has the following headers: {}", relativePath, template.getSuppliedHeaders());
+            requestTemplates.put(relativePath, template);
+        }
+        return template;
+    }
+
+    private CatsRequest createCatsRequest(ServiceData data, RequestTemplate template, String payloadWithRefData) {
+        String processedPayload = this.convertPayloadInSpecificContentType(payloadWithRefData, data);
+        String streamedPayload = null;
+        if (RepeatedValue.isPresent(processedPayload)) {
+            if (HttpMethod.requiresBody(data.getHttpMethod())) {
+                streamedPayload = processedPayload;
+                processedPayload = RepeatedValue.truncate(processedPayload);
+            } else {
+                processedPayload = RepeatedValue.materialize(processedPayload);
+            }
+        }
+        logger.debug("Payload replaced with ref data: {}", processedPayload);
+
+        List<KeyValuePair<String, Object>> headers = this.buildHeaders(data, template);
+        return CatsRequest.builder()
+                .headers(headers).payload(processedPayload).streamedPayload(streamedPayload)
+                .httpMethod(data.getHttpMethod().name())
+                .build();
+    }
+
+    /**
+     * Builds the final URL starting from the path template and applying only what is specific to the current test:
+     * path parameters and query parameters taken from the payload for requests without a body.
+     */
+    private void resolveUrl(CatsRequest catsRequest, ServiceData data, RequestTemplate template, String payloadWithRefData) {
+        data.getPathParams().addAll(template.getRefData().keySet());
+        String url = template.getUrlWithRefData();
+        boolean hasBody = HttpMethod.requiresBody(data.getHttpMethod());
+
+        if (!hasBody && StringUtils.isNotEmpty(data.getPayload())) {
+            url = this.replaceRemovedParams(this.replacePathParams(template.getUrlTemplate(), payloadWithRefData, data));
+        }
+        HttpUrl.Builder httpUrl = HttpUrl.get(url).newBuilder();
+        if (!hasBody) {
+            this.addUriParams(catsRequest.getPayload(), data, httpUrl);
+        }
+        template.getAdditionalQueryParams().forEach(queryParam -> httpUrl.addQueryParameter(queryParam.getKey(), queryParam.getValue()));
+
+        url = httpUrl.build().toString();
+        catsRequest.setUrl(url);
+
+        logger.note("Final list of request headers: {}", catsRequest.getHeaders());
+        logger.note("Final payload: {}", catsRequest.getPayload());
+        logger.note("Final url: {}", url);
+    }
+
+    private CatsResponse createEmptyResponse(CatsRequest catsRequest, ServiceData data, long startTime) {
+        return CatsResponse.builder()
+                .body("empty response").httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(System.currentTimeMillis() - startTime).withInvalidErrorCode()
+                .jsonBody(new JsonPrimitive("empty response"))
+                .fuzzedField(data.getFuzzedFields()
+                        .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .build();
+    }
+
     String addAdditionalQueryParams(String startingUrl, String currentPath) {
         HttpUrl.Builder httpUrl = HttpUrl.get(startingUrl).newBuilder();
 
-        for (Map.Entry<String, Object> queryParamEntry : filesArguments.getAdditionalQueryParamsForPath(currentPath).entrySet()) {
-            httpUrl.addQueryParameter(queryParamEntry.getKey(), String.valueOf(queryParamEntry.getValue()));
+        for (KeyValuePair<String, String> queryParam : this.getRequestTemplate(currentPath).getAdditionalQueryParams()) {
+            httpUrl.addQueryParameter(queryParam.getKey(), queryParam.getValue());
         }
 
         return httpUrl.build().toString();
@@ -301,117 +479,292 @@ public class ServiceCaller {
 
 
     List<KeyValuePair<String, Object>> buildHeaders(ServiceData data) {
+        return this.buildHeaders(data, this.getRequestTemplate(data.getRelativePath()));
+    }
+
+    private List<KeyValuePair<String, Object>> buildHeaders(ServiceData data, RequestTemplate template) {
         List<KeyValuePair<String, Object>> headers = new ArrayList<>();
 
         this.addMandatoryHeaders(data, headers);
-        this.addSuppliedHeaders(data, headers);
+        this.addSuppliedHeaders(data, headers, template);
         this.removeSkippedHeaders(data, headers);
         this.addBasicAuth(headers);
 
         return Collections.unmodifiableList(headers);
     }
 
-    private String addUriParams(String processedPayload, ServiceData data, String currentUrl) {
+    private void addUriParams(String processedPayload, ServiceData data, HttpUrl.Builder httpUrl) {
         if (StringUtils.isNotEmpty(processedPayload) && !"null".equalsIgnoreCase(processedPayload)) {
-            HttpUrl.Builder httpUrl = HttpUrl.get(currentUrl).newBuilder();
             List<KeyValuePair<String, String>> queryParams = this.buildQueryParameters(processedPayload, data);
             for (KeyValuePair<String, String> param : queryParams) {
                 httpUrl.addQueryParameter(param.getKey(), param.getValue());
             }
-            return httpUrl.build().toString();
         }
+    }
+
+    private String replaceRemovedParams(String path) {
+        return REMAINING_PATH_PARAMS.matcher(path).replaceAll("");
+    }
+
+    /**
+     * Sends the given request and waits for the response, retrying it according to the retry policy.
+     *
+     * @param catsRequest  the request to send
+     * @param contractPath the contract path of the called operation; responses are grouped by it for adaptive rate limiting
+     * @param fuzzedFields the fields fuzzed within the request
+     * @return the service response
+     * @throws IOException if the call fails
+     */
+    public CatsResponse callService(CatsRequest catsRequest, String contractPath, Set<String> fuzzedFields) throws IOException {
+        Request request = this.createHttpRequest(catsRequest);
+        String endpoint = this.getEndpointKey(catsRequest, contractPath);
+        List<String> retries = new ArrayList<>();
+        while (true) {
+            this.waitForHostPause(request);
+            Semaphore hostPermits = this.acquireHostPermit(request);
+            try {
+                rateLimiter.acquire();
+                long startTime = System.currentTimeMillis();
+                try (Response response = okHttpClient.newCall(request).execute()) {
+                    if (!this.prepareRetry(request, endpoint, response, retries, startTime)) {
+                        return this.createCatsResponse(response, catsRequest, endpoint, fuzzedFields, startTime, retries);
+                    }
+                } catch (IOException e) {
+                    rateLimiter.recordIoError();
+                    throw e;
+                }
+            } finally {
+                hostPermits.release();
+            }
+        }
+    }
 
-        return currentUrl;
+    /**
+     * Synchronous calls bypass the HTTP client's dispatcher, so the {@code --maxRequestsPerHost} limit is enforced
+     * for them with a semaphore per host. This matters when Fuzzers are run concurrently with {@code --parallelism}.
+     */
+    private Semaphore acquireHostPermit(Request request) throws IOException {
+        Semaphore hostPermits = syncCallsPermits.computeIfAbsent(this.getHostKey(request), host -> new Semaphore(Math.max(1, apiArguments.getMaxRequestsPerHost()), true));
+        try {
+            hostPermits.acquire();
+            return hostPermits;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an in-flight request to the host to finish");
+        }
     }
 
     /**
-     * Parameters in the URL will be replaced with actual values supplied in the {@code --urlParams} and {@code filesArguments.getRefData()} file.
+     * Sends the given request asynchronously. The returned future is completed on one of the HTTP client's threads.
+     * Cancelling the returned future will also cancel the underlying HTTP call.
      *
-     * @param data        the service data
-     * @param startingUrl initial url constructed from contract
-     * @return the URL with variables replaced based on the supplied values
+     * @param catsRequest  the request to send
+     * @param contractPath the contract path of the called operation; responses are grouped by it for adaptive rate limiting
+     * @param fuzzedFields the fields fuzzed within the request
+     * @return a future completed with the service response or exceptionally with the {@code IOException} which made the call fail
      */
-    private String getPathWithRefDataReplacedForNonHttpEntityRequests(ServiceData data, String startingUrl) {
-        String actualUrl = this.filesArguments.replacePathWithUrlParams(startingUrl);
+    public CompletableFuture<CatsResponse> callServiceAsync(CatsRequest catsRequest, String contractPath, Set<String> fuzzedFields) {
+        CompletableFuture<CatsResponse> result = new CompletableFuture<>();
+        AsyncCall asyncCall = new AsyncCall(this.createHttpRequest(catsRequest), catsRequest, this.getEndpointKey(catsRequest, contractPath), fuzzedFields, result, new AtomicReference<>(),
+                new ArrayList<>(), Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of()));
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled() && asyncCall.currentCall().get() != null) {
+                asyncCall.currentCall().get().cancel();
+            }
+        });
+        this.resume(asyncCall, 0);
+        return result;
+    }
 
-        if (StringUtils.isNotEmpty(data.getPayload())) {
-            String processedPayload = this.replacePayloadWithRefData(data);
+    /**
+     * Sends the call once the target host is no longer paused and a rate limiter permit is available.
+     * This always runs on {@link #asyncCallsScheduler}, so callers are never blocked while waiting for a permit.
+     */
+    private void enqueue(AsyncCall asyncCall) {
+        long pause = retryPolicy.getRemainingPauseInMs(this.getHostKey(asyncCall.request()));
+        if (pause > 0) {
+            this.resume(asyncCall, pause);
+            return;
+        }
+        if (asyncCall.result().isDone()) {
+            return;
+        }
+        rateLimiter.acquire();
+        long startTime = System.currentTimeMillis();
+        Call call = okHttpClient.newCall(asyncCall.request());
+        asyncCall.currentCall().set(call);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call failedCall, @NotNull IOException e) {
+                asyncCall.runWithLoggingContext(() -> {
+                    rateLimiter.recordIoError();
+                    asyncCall.result().completeExceptionally(e);
+                });
+            }
 
-            actualUrl = this.replacePathParams(actualUrl, processedPayload, data);
-            actualUrl = this.replaceRemovedParams(actualUrl);
-        } else {
-            actualUrl = this.replacePathWithRefData(data, actualUrl);
+            @Override
+            public void onResponse(@NotNull Call completedCall, @NotNull Response response) {
+                asyncCall.runWithLoggingContext(() -> handleAsyncResponse(asyncCall, response, startTime));
+            }
+        });
+    }
+
+    private void handleAsyncResponse(AsyncCall asyncCall, Response response, long startTime) {
+        boolean retry;
+        try (response) {
+            retry = this.prepareRetry(asyncCall.request(), asyncCall.endpoint(), response, asyncCall.retries(), startTime);
+            if (!retry) {
+                asyncCall.result().complete(this.createCatsResponse(response, asyncCall.catsRequest(), asyncCall.endpoint(), asyncCall.fuzzedFields(), startTime, asyncCall.retries()));
+            }
+        } catch (IOException | RuntimeException e) {
+            asyncCall.result().completeExceptionally(e);
+            return;
         }
+        if (retry) {
+            this.resume(asyncCall, 0);
+        }
+    }
 
-        return actualUrl;
+    private void resume(AsyncCall asyncCall, long delayInMs) {
+        this.getAsyncCallsScheduler().schedule(() -> asyncCall.runWithLoggingContext(() -> {
+            try {
+                this.enqueue(asyncCall);
+            } catch (RuntimeException e) {
+                asyncCall.result().completeExceptionally(e);
+            }
+        }), delayInMs, TimeUnit.MILLISECONDS);
     }
 
-    private String getPathWithRefDataReplacedForHttpEntityRequests(ServiceData data, String startingUrl) {
-        String actualUrl = this.filesArguments.replacePathWithUrlParams(startingUrl);
-        return this.replacePathWithRefData(data, actualUrl);
+    private synchronized ScheduledExecutorService getAsyncCallsScheduler() {
+        if (asyncCallsScheduler == null) {
+            asyncCallsScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cats-http-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return asyncCallsScheduler;
     }
 
-    private String replaceRemovedParams(String path) {
-        return path.replaceAll("\\{(.*?)}", "");
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (asyncCallsScheduler != null) {
+            asyncCallsScheduler.shutdownNow();
+            asyncCallsScheduler = null;
+        }
     }
 
-    public CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
-        rateLimiter.acquire();
-        long startTime = System.currentTimeMillis();
+    /**
+     * Checks if the response must be retried according to the retry policy. When this is the case,
+     * the retry is recorded and the target host is paused until the retry is due.
+     */
+    private boolean prepareRetry(Request request, String endpoint, Response response, List<String> retries, long startTime) {
+        if (!retryPolicy.shouldRetry(response.code(), retries.size())) {
+            return false;
+        }
+        long responseTime = System.currentTimeMillis() - startTime;
+        rateLimiter.recordResponse(endpoint, response.code(), responseTime);
+        long delay = retryPolicy.computeDelayInMs(retries.size(), response.header(HttpHeaders.RETRY_AFTER));
+        retryPolicy.pauseHost(this.getHostKey(request), delay);
+        retries.add("Received %d after %dms, retried after %dms".formatted(response.code(), responseTime, delay));
+        logger.info("Service answered with {}. Retrying in {}ms, retry {} of {}", response.code(), delay, retries.size(), apiArguments.getMaxRetries());
+        return true;
+    }
+
+    private void waitForHostPause(Request request) throws IOException {
+        long pause = retryPolicy.getRemainingPauseInMs(this.getHostKey(request));
+        if (pause > 0) {
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the host to accept requests again");
+            }
+        }
+    }
+
+    private String getHostKey(Request request) {
+        return request.url().host() + ":" + request.url().port();
+    }
+
+    /**
+     * Concrete urls contain the fuzzed path parameters, so responses are grouped by HTTP method and contract path instead.
+     */
+    private String getEndpointKey(CatsRequest catsRequest, String contractPath) {
+        return catsRequest.getHttpMethod() + " " + Optional.ofNullable(contractPath).orElse(catsRequest.getUrl());
+    }
+
+    private String getContractPath(ServiceData data) {
+        return Optional.ofNullable(data.getContractPath()).orElse(data.getRelativePath());
+    }
+
+    private Request createHttpRequest(CatsRequest catsRequest) {
         RequestBody requestBody = null;
         Headers.Builder headers = new Headers.Builder();
         catsRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getKey(), String.valueOf(header.getValue())));
 
         if (HttpMethod.requiresBody(catsRequest.getHttpMethod())) {
-            requestBody = RequestBody.create(catsRequest.getPayload().getBytes(StandardCharsets.UTF_8));
+            requestBody = catsRequest.getStreamedPayload() != null ? new RepeatedValueRequestBody(catsRequest.getStreamedPayload())
+                    : RequestBody.create(catsRequest.getPayload().getBytes(StandardCharsets.UTF_8));
         } else {
             //for GET and HEAD we remove Content-Type as some servers don't like it
             headers.removeAll("Content-Type");
         }
-        try (Response response = okHttpClient.newCall(new Request.Builder()
+        return new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
                 .method(catsRequest.getHttpMethod(), requestBody)
-                .build()).execute()) {
-            long endTime = System.currentTimeMillis();
+                .build();
+    }
 
-            CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
-            CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(endTime - startTime)
-                    .path(catsRequest.getUrl())
-                    .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
+    private CatsResponse createCatsResponse(Response response, CatsRequest catsRequest, String endpoint, Set<String> fuzzedFields, long startTime, List<String> retries) throws IOException {
+        long endTime = System.currentTimeMillis();
+        this.checkNegotiatedProtocol(response);
 
-            logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
-                    response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
-                    catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+        CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
+        CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(endTime - startTime)
+                .path(catsRequest.getUrl())
+                .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .retries(retries.isEmpty() ? null : List.copyOf(retries))
+                .build();
+        rateLimiter.recordResponse(endpoint, response.code(), endTime - startTime);
+
+        logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
+                response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
+                catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
 
-            return catsResponse;
+        return catsResponse;
+    }
+
+    private void checkNegotiatedProtocol(Response response) throws ProtocolException {
+        if (apiArguments.getProtocol() == ApiArguments.HttpProtocol.HTTP_2 && response.protocol() != Protocol.HTTP_2) {
+            throw new ProtocolException("Service answered using %s, but --protocol=HTTP_2 requires HTTP/2".formatted(response.protocol()));
         }
     }
 
-    private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
+        private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
         List<KeyValuePair<String, String>> responseHeaders = response.headers()
                 .toMultimap()
                 .entrySet().stream()
                 .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().get(0))).toList();
 
-        String rawResponse = this.getAsRawString(response);
-        String jsonResponse = this.getAsJsonString(rawResponse);
-        int numberOfWords = new StringTokenizer(rawResponse).countTokens();
-        int numberOfLines = rawResponse.split("[\r|\n]").length;
+        ResponseBodyReader.ResponseBody responseBody = this.readResponseBody(response);
+        String rawResponse = responseBody.body();
 
         logger.debug("Raw response body: {}", rawResponse);
         logger.debug("Raw response headers: {}", response.headers());
+        if (responseBody.truncated()) {
+            logger.debug("Response body of {} bytes truncated to --maxResponseBodySize {}", responseBody.contentLengthInBytes(), apiArguments.getMaxResponseBodySize());
+        }
 
         return CatsResponse.builder()
                 .responseCode(response.code())
                 .headers(responseHeaders)
                 .body(rawResponse)
-                .jsonBody(JsonParser.parseString(jsonResponse))
-                .numberOfLinesInResponse(numberOfLines)
-                .contentLengthInBytes(rawResponse.getBytes(StandardCharsets.UTF_8).length)
-                .numberOfWordsInResponse(numberOfWords);
+                .numberOfLinesInResponse(responseBody.numberOfLines())
+                .contentLengthInBytes(responseBody.contentLengthInBytes())
+                .numberOfWordsInResponse(responseBody.numberOfWords());
     }
 
     private void addBasicAuth(List<KeyValuePair<String, Object>> headers) {
@@ -441,7 +794,7 @@ public class ServiceCaller {
                 } else {
                     toReplaceWith = URLEncoder.encode(child.getValue().getAsString(), StandardCharsets.UTF_8);
                 }
-                processedPath = processedPath.replaceAll("\\{" + child.getKey() + "}", toReplaceWith);
+                processedPath = processedPath.replace("{" + child.getKey() + "}", toReplaceWith);
                 data.getPathParams().add(child.getKey());
             }
         }
@@ -486,37 +839,31 @@ public class ServiceCaller {
         return queryParams;
     }
 
-    public String getAsJsonString(String rawResponse) {
-        if (JsonUtils.isValidJson(rawResponse)) {
-            return rawResponse;
-        }
-        return "{\"notAJson\": \"" + JSONValue.escape(rawResponse.substring(0, Math.min(500, rawResponse.length()))) + "\"}";
+    public String getAsRawString(Response response) throws IOException {
+        return this.readResponseBody(response).body();
     }
 
-    public String getAsRawString(Response response) throws IOException {
-        if (response.body() != null) {
-            return response.body().string();
+    private ResponseBodyReader.ResponseBody readResponseBody(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return ResponseBodyReader.read(new Buffer(), StandardCharsets.UTF_8, 0);
         }
-
-        return "";
+        Charset charset = Optional.ofNullable(body.contentType()).map(mediaType -> mediaType.charset(StandardCharsets.UTF_8)).orElse(StandardCharsets.UTF_8);
+        return ResponseBodyReader.read(body.source(), charset, apiArguments.getMaxResponseBodySize());
     }
 
     private void recordRequestAndResponse(CatsRequest catsRequest, CatsResponse catsResponse, ServiceData serviceData) {
-        testCaseListener.addPath(serviceData.getRelativePath());
-        testCaseListener.addContractPath(serviceData.getContractPath());
-        testCaseListener.addServer(apiArguments.getServer());
-        testCaseListener.addRequest(catsRequest);
-        testCaseListener.addResponse(catsResponse);
-        testCaseListener.addFullRequestPath(catsRequest.getUrl());
+        TestCaseContext context = serviceData.getTestCaseContext();
+        testCaseListener.addPath(context, serviceData.getRelativePath());
+        testCaseListener.addContractPath(context, serviceData.getContractPath());
+        testCaseListener.addServer(context, apiArguments.getServer());
+        testCaseListener.addRequest(context, catsRequest);
+        testCaseListener.addResponse(context, catsResponse);
+        testCaseListener.addFullRequestPath(context, catsRequest.getUrl());
     }
 
-    private void addSuppliedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(data.getRelativePath());
-        logger.debug("Path {} (including ALL headers) has the following headers: {}", data.getRelativePath(), userSuppliedHeaders);
-
-        Map<String, String> suppliedHeaders = userSuppliedHeaders.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> CatsDSLParser.parseAndGetResult(String.valueOf(entry.getValue()), authArguments.getAuthScriptAsMap())));
+    private void addSuppliedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers, RequestTemplate template) {
+        Map<String, String> suppliedHeaders = template.resolveSuppliedHeaders(authArguments.getAuthScriptAsMap());
 
         for (Map.Entry<String, String> suppliedHeader : suppliedHeaders.entrySet()) {
             if (data.isAddUserHeaders()) {
@@ -561,18 +908,6 @@ public class ServiceCaller {
         }
     }
 
-    private String replacePathWithRefData(ServiceData data, String currentUrl) {
-        Map<String, Object> currentPathRefData = filesArguments.getRefData(data.getRelativePath());
-        logger.debug("Path reference data replacement: path {} has the following reference data: {}", data.getRelativePath(), currentPathRefData);
-
-        for (Map.Entry<String, Object> entry : currentPathRefData.entrySet()) {
-            currentUrl = currentUrl.replace("{" + entry.getKey() + "}", String.valueOf(entry.getValue()));
-            data.getPathParams().add(entry.getKey());
-        }
-
-        return currentUrl;
-    }
-
     /**
      * Besides reading data from the {@code --refData} file, this method will aso try to
      * correlate POST recorded data with DELETE endpoints in order to maximize success rate of DELETE requests.
@@ -581,11 +916,15 @@ public class ServiceCaller {
      * @return the initial payload with reference data replaced and matching POST correlations for DELETE requests
      */
     String replacePayloadWithRefData(ServiceData data) {
+        return this.replacePayloadWithRefData(data, this.getRequestTemplate(data.getRelativePath()));
+    }
+
+    private String replacePayloadWithRefData(ServiceData data, RequestTemplate template) {
         if (!data.isReplaceRefData() || "null".equals(data.getPayload())) {
             logger.note("Bypassing reference data replacement for path {}!", data.getRelativePath());
             return data.getPayload();
         } else {
-            Map<String, Object> refDataForCurrentPath = filesArguments.getRefData(data.getRelativePath());
+            Map<String, Object> refDataForCurrentPath = template.getRefData();
             logger.debug("Payload reference data replacement: path {} has the following reference data: {}", data.getRelativePath(), refDataForCurrentPath);
 
             Map<String, Object> refDataWithoutAdditionalProperties = refDataForCurrentPath.entrySet().stream()
@@ -622,4 +961,23 @@ public class ServiceCaller {
             return payload;
         }
     }
+
+    /**
+     * State of a request sent by {@link #callServiceAsync(CatsRequest, String, Set)}, kept across retries.
+     *
+     * @param loggingContext the logging context of the caller, restored on the threads continuing the call
+     */
+    private record AsyncCall(Request request, CatsRequest catsRequest, String endpoint, Set<String> fuzzedFields, CompletableFuture<CatsResponse> result,
+                             AtomicReference<Call> currentCall, List<String> retries, Map<String, String> loggingContext) {
+
+        void runWithLoggingContext(Runnable logic) {
+            Map<String, String> previousLoggingContext = MDC.getCopyOfContextMap();
+            MDC.setContextMap(loggingContext);
+            try {
+                logic.run();
+            } finally {
+                MDC.setContextMap(Optional.ofNullable(previousLoggingContext).orElse(Map.of()));
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.endava.cats.io;
 
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
+import com.endava.cats.report.TestCaseContext;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Singular;
@@ -41,6 +42,10 @@ public class ServiceData {
     private final Set<String> pathParams = new HashSet<>();
     @Builder.Default
     private final Set<String> queryParams = new HashSet<>();
+    /**
+     * The test case for which the call is made. Request and response details are recorded on this test case.
+     */
+    private final TestCaseContext testCaseContext;
 
     public boolean isJsonContentType() {
         return this.contentType.toLowerCase(Locale.ROOT).matches("application/.*[+]?json;?.*");
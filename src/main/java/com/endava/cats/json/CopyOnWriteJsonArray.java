@@ -0,0 +1,69 @@
+package com.endava.cats.json;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONStreamAwareEx;
+import net.minidev.json.JSONStyle;
+import net.minidev.json.JSONValue;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A JSON array backed by a shared parsed JSON array which is never changed.
+ * Works the same way as {@link CopyOnWriteJsonObject}.
+ */
+final class CopyOnWriteJsonArray extends AbstractList<Object> implements RandomAccess, JSONStreamAwareEx {
+    private final List<Object> elements;
+
+    CopyOnWriteJsonArray(List<?> source) {
+        this.elements = new ArrayList<>(source);
+    }
+
+    @Override
+    public Object get(int index) {
+        Object value = elements.get(index);
+        Object wrapped = CopyOnWriteJsonObject.wrap(value);
+        if (wrapped != value) {
+            elements.set(index, wrapped);
+        }
+        return wrapped;
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    public Object remove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void writeJSONString(Appendable out, JSONStyle compression) throws IOException {
+        JSONArray.writeJSONString(elements, out, compression);
+    }
+
+    @Override
+    public void writeJSONString(Appendable out) throws IOException {
+        this.writeJSONString(out, JSONValue.COMPRESSION);
+    }
+
+    @Override
+    public String toString() {
+        return JSONArray.toJSONString(elements, JSONValue.COMPRESSION);
+    }
+}
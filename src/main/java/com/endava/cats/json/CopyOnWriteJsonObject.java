@@ -0,0 +1,137 @@
+package com.endava.cats.json;
+
+import net.minidev.json.JSONObject;
+import net.minidev.json.JSONStreamAwareEx;
+import net.minidev.json.JSONStyle;
+import net.minidev.json.JSONValue;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A JSON object backed by a shared parsed JSON object which is never changed.
+ * <p>
+ * Only the entries of this object are copied when the view is created. Nested objects and arrays are wrapped in their own
+ * views the first time they are accessed, so a change only copies the objects and arrays on the path towards the changed element.
+ * Elements which are never accessed are serialized straight from the shared tree.
+ * </p>
+ */
+final class CopyOnWriteJsonObject extends AbstractMap<String, Object> implements JSONStreamAwareEx {
+    private final Map<String, Object> entries;
+
+    CopyOnWriteJsonObject(Map<String, ?> source) {
+        this.entries = new LinkedHashMap<>(source);
+    }
+
+    /**
+     * Wraps the given element in a copy-on-write view if it's a JSON object or array.
+     *
+     * @param element the element from the shared tree
+     * @return a view of the element or the element itself if it's a primitive
+     */
+    @SuppressWarnings("unchecked")
+    static Object wrap(Object element) {
+        if (element instanceof CopyOnWriteJsonObject || element instanceof CopyOnWriteJsonArray) {
+            return element;
+        }
+        if (element instanceof Map<?, ?> map) {
+            return new CopyOnWriteJsonObject((Map<String, ?>) map);
+        }
+        if (element instanceof List<?> list) {
+            return new CopyOnWriteJsonArray(list);
+        }
+        return element;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = entries.get(key);
+        Object wrapped = wrap(value);
+        if (wrapped != value) {
+            entries.put((String) key, wrapped);
+        }
+        return wrapped;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return entries.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return entries.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return entries.keySet();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = entries.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = iterator.next();
+                        Object wrapped = wrap(entry.getValue());
+                        if (wrapped != entry.getValue()) {
+                            entry.setValue(wrapped);
+                        }
+                        return entry;
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    @Override
+    public void writeJSONString(Appendable out, JSONStyle compression) throws IOException {
+        JSONObject.writeJSON(entries, out, compression);
+    }
+
+    @Override
+    public void writeJSONString(Appendable out) throws IOException {
+        this.writeJSONString(out, JSONValue.COMPRESSION);
+    }
+
+    @Override
+    public String toString() {
+        return JSONObject.toJSONString(entries, JSONValue.COMPRESSION);
+    }
+}
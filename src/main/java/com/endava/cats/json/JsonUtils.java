@@ -2,33 +2,38 @@ package com.endava.cats.json;
 
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.endava.cats.model.util.LongTypeSerializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.Option;
-import com.jayway.jsonpath.ParseContext;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.internal.ParseContextImpl;
-import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
-import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import com.jayway.jsonpath.spi.json.GsonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.GsonMappingProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
-import net.minidev.json.JSONArray;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 public abstract class JsonUtils {
     public static final String NOT_SET = "NOT_SET";
@@ -43,15 +48,21 @@ public abstract class JsonUtils {
             .disableHtmlEscaping()
             .setExclusionStrategies(new ExcludeTestCaseStrategy())
             .registerTypeAdapter(Long.class, new LongTypeSerializer())
+            .registerTypeAdapterFactory(new CatsResponseTypeAdapterFactory())
             .serializeNulls()
             .create();
 
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(JsonUtils.class);
-    private static final Configuration JACKSON_JSON_NODE_CONFIGURATION = Configuration.builder()
-            .mappingProvider(new JacksonMappingProvider())
-            .jsonProvider(new JacksonJsonNodeJsonProvider())
+    private static final Configuration GSON_CONFIGURATION = Configuration.builder()
+            .mappingProvider(new GsonMappingProvider())
+            .jsonProvider(new GsonJsonProvider())
             .build();
-    private static final ParseContext PARSE_CONTEXT = new ParseContextImpl(JACKSON_JSON_NODE_CONFIGURATION);
+    private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+    private static final int MAX_PARSED_PAYLOADS = 64;
+    private static final Cache<String, Object> PARSED_PAYLOADS = CacheBuilder.newBuilder().maximumSize(MAX_PARSED_PAYLOADS).build();
+    private static final Configuration DELETE_CONFIGURATION = Configuration.defaultConfiguration().addOptions(Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS);
+    private static final int MAX_COMPILED_PATHS = 8192;
+    private static final Cache<String, JsonPath> COMPILED_PATHS = CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_PATHS).recordStats().build();
 
     private JsonUtils() {
         //ntd
@@ -65,6 +76,62 @@ public abstract class JsonUtils {
         return input.replace("#", ".");
     }
 
+    /**
+     * Returns the compiled JSON path for the given field. Paths are compiled once and shared, as the same
+     * fields are read and changed for every test.
+     *
+     * @param fieldName the field name, with {@code #} as separator
+     * @return the compiled JSON path
+     */
+    public static JsonPath compilePath(String fieldName) {
+        JsonPath path = COMPILED_PATHS.getIfPresent(fieldName);
+        if (path == null) {
+            path = JsonPath.compile(sanitizeToJsonPath(fieldName));
+            COMPILED_PATHS.put(fieldName, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the hit and miss counts of the compiled JSON paths cache.
+     *
+     * @return the statistics of the compiled paths cache
+     */
+    public static CacheStats getCompiledPathsStats() {
+        return COMPILED_PATHS.stats();
+    }
+
+    /**
+     * Returns a document for the given payload which can be read and changed without affecting other documents
+     * created for the same payload.
+     * <p>
+     * Each payload is parsed once into a tree shared by all the documents created for it. Documents are copy-on-write views
+     * of the shared tree: a change only copies the JSON objects and arrays on the path towards the changed element,
+     * which is much cheaper than parsing the payload again for each test.
+     * </p>
+     *
+     * @param payload the JSON payload
+     * @return a document for the payload
+     */
+    public static DocumentContext parse(String payload) {
+        return JsonPath.parse(CopyOnWriteJsonObject.wrap(parsedTree(payload)));
+    }
+
+    /**
+     * Returns the shared tree for the given payload. The tree must never be changed.
+     */
+    private static Object parsedTree(String payload) {
+        if (StringUtils.isEmpty(payload)) {
+            return JsonPath.parse(payload).json();
+        }
+        Object tree = PARSED_PAYLOADS.getIfPresent(payload);
+        if (tree == null) {
+            tree = Configuration.defaultConfiguration().jsonProvider().parse(payload);
+            PARSED_PAYLOADS.put(payload, tree);
+        }
+        return tree;
+    }
+
     public static boolean equalAsJson(String json1, String json2) {
         return JsonPath.parse(json1).jsonString().contentEquals(JsonPath.parse(json2).jsonString());
     }
@@ -75,6 +142,26 @@ public abstract class JsonUtils {
         return JsonParser.parseReader(reader);
     }
 
+    /**
+     * Parses the given text strictly following the JSON specification. Just like {@link #isValidJson(String)},
+     * the text is considered valid only if it contains an object or an array.
+     *
+     * @param text the text to parse
+     * @return the parsed JSON element or null if the text is not valid JSON
+     */
+    public static JsonElement parseAsStrictJsonElement(String text) {
+        if (text == null || !(text.contains("{") || text.contains("]"))) {
+            return null;
+        }
+        try {
+            JsonReader reader = new JsonReader(new StringReader(text));
+            JsonElement element = JSON_ELEMENT_ADAPTER.read(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? element : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
     public static boolean isValidJson(String text) {
         try {
             JSON_STRICT_PARSER.parse(text);
@@ -84,51 +171,71 @@ public abstract class JsonUtils {
         return text.contains("{") || text.contains("]");
     }
 
-    private static boolean testForPrimitiveOrThrow(String payload, String property) {
-        return testForPredicateOrThrow(payload, property, JsonNode::isValueNode);
-    }
-
-    private static boolean testForPredicateOrThrow(String payload, String property, Predicate<JsonNode> testFunction) {
-        if (isJsonArray(payload)) {
+    /**
+     * Returns the kind of JSON node the given property has in the payload.
+     *
+     * @param payload  the JSON payload
+     * @param property the property path, with {@code #} as separator
+     * @return the kind of node or {@link NodeKind#MISSING} if the property is not in the payload
+     */
+    public static NodeKind getNodeKind(String payload, String property) {
+        Object tree = parsedTree(payload);
+        if (tree instanceof List) {
             property = FIRST_ELEMENT_FROM_ROOT_ARRAY + property;
         }
-
-        JsonNode jsonNode = PARSE_CONTEXT.parse(payload).read(JsonUtils.sanitizeToJsonPath(property));
-        return testFunction.test(jsonNode);
+        try {
+            Object node = JsonPath.parse(tree).read(compilePath(property));
+            if (node instanceof Map) {
+                return NodeKind.OBJECT;
+            }
+            return node instanceof List ? NodeKind.ARRAY : NodeKind.PRIMITIVE;
+        } catch (InvalidPathException e) {
+            return NodeKind.MISSING;
+        }
     }
 
     public static boolean isPrimitive(String payload, String property) {
-        try {
-            return testForPrimitiveOrThrow(payload, property);
-        } catch (PathNotFoundException e) {
-            return false;
-        }
+        return getNodeKind(payload, property).isPrimitive();
     }
 
     public static boolean isObject(String payload, String property) {
-        try {
-            return !testForPrimitiveOrThrow(payload, property);
-        } catch (InvalidPathException e) {
-            return false;
-        }
+        return getNodeKind(payload, property).isObject();
     }
 
     public static boolean isArray(String payload, String property) {
-        try {
-            return testForPredicateOrThrow(payload, property, JsonNode::isArray);
-        } catch (InvalidPathException e) {
-            return false;
-        }
+        return getNodeKind(payload, property).isArray();
     }
 
     public static boolean isJsonArray(String payload) {
-        return JsonPath.parse(payload).read("$") instanceof JSONArray;
+        return parsedTree(payload) instanceof List;
+    }
+
+    /**
+     * Removes all the given nodes from the payload in a single pass over the parsed tree. For root arrays the nodes
+     * are removed from all the elements.
+     *
+     * @param payload the JSON payload
+     * @param nodes   the nodes to remove, with {@code #} as separator
+     * @return the payload without the nodes or empty if none of the nodes was present in the payload
+     */
+    public static Optional<String> deleteNodes(String payload, Collection<String> nodes) {
+        if (StringUtils.isBlank(payload)) {
+            return Optional.empty();
+        }
+        Object tree = CopyOnWriteJsonObject.wrap(parsedTree(payload));
+        String prefix = tree instanceof List ? ALL_ELEMENTS_ROOT_ARRAY : "";
+        boolean removed = false;
+        for (String node : nodes) {
+            List<?> removedPaths = compilePath(prefix + node).delete(tree, DELETE_CONFIGURATION);
+            removed |= !removedPaths.isEmpty();
+        }
+        return removed ? Optional.of(JsonPath.parse(tree).jsonString()) : Optional.empty();
     }
 
     public static String deleteNode(String payload, String node) {
         if (StringUtils.isNotBlank(payload)) {
             try {
-                return JsonPath.parse(payload).delete(JsonUtils.sanitizeToJsonPath(node)).jsonString();
+                return parse(payload).delete(compilePath(node)).jsonString();
             } catch (PathNotFoundException e) {
                 return payload;
             }
@@ -153,7 +260,7 @@ public abstract class JsonUtils {
             if ("$".equals(nodeKey)) {
                 return nodeValue;
             }
-            return JsonPath.parse(payload).set(nodeKey, GENERIC_PERMISSIVE_PARSER.parse(nodeValue)).jsonString();
+            return parse(payload).set(nodeKey, GENERIC_PERMISSIVE_PARSER.parse(nodeValue)).jsonString();
         } catch (ParseException e) {
             LOGGER.debug("Could not add node {}", nodeKey);
             return payload;
@@ -180,14 +287,42 @@ public abstract class JsonUtils {
 
     public static Object getVariableFromJson(String jsonPayload, String value) {
         try {
-            DocumentContext jsonDoc = JsonPath.parse(jsonPayload);
-            return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
+            DocumentContext jsonDoc = parse(jsonPayload);
+            return jsonDoc.read(compilePath(value));
         } catch (JsonPathException | IllegalArgumentException e) {
             LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
             return NOT_SET;
         }
     }
 
+    /**
+     * Same as {@link #getVariableFromJson(String, String)}, but reads the variable from an already parsed JSON.
+     * The value is returned as the same type as when reading it from a JSON string.
+     *
+     * @param json  the parsed JSON
+     * @param value the path of the variable
+     * @return the value of the variable or {@link #NOT_SET} if the variable is not present
+     */
+    public static Object getVariableFromJson(JsonElement json, String value) {
+        try {
+            Object result = JsonPath.using(GSON_CONFIGURATION).parse(json).read(compilePath(value));
+            return result instanceof JsonElement element ? toPlainValue(element) : result;
+        } catch (JsonPathException | IllegalArgumentException e) {
+            LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
+            return NOT_SET;
+        }
+    }
+
+    private static Object toPlainValue(JsonElement element) {
+        if (element.isJsonNull()) {
+            return null;
+        }
+        if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
+            return element.getAsString();
+        }
+        return Configuration.defaultConfiguration().jsonProvider().parse(element.toString());
+    }
+
     public static boolean isFieldInJson(String jsonPayload, String field) {
         return !NOT_SET.equalsIgnoreCase(String.valueOf(getVariableFromJson(jsonPayload, field)));
     }
@@ -214,4 +349,28 @@ public abstract class JsonUtils {
 
         return false;
     }
+
+    /**
+     * The kinds of JSON nodes a property can have in a payload.
+     */
+    public enum NodeKind {
+        PRIMITIVE, OBJECT, ARRAY, MISSING;
+
+        public boolean isPrimitive() {
+            return this == PRIMITIVE;
+        }
+
+        /**
+         * Arrays are also considered objects, as opposed to primitives.
+         *
+         * @return true if the node is an object or an array
+         */
+        public boolean isObject() {
+            return this == OBJECT || this == ARRAY;
+        }
+
+        public boolean isArray() {
+            return this == ARRAY;
+        }
+    }
 }
@@ -20,6 +20,11 @@ public class CatsRequest {
     String payload;
     String httpMethod;
     String url;
+    /**
+     * The payload sent to the service when it contains {@link RepeatedValue}s. In this case {@link #payload} holds the truncated form.
+     * It's kept in the token form in reports, so that replaying the test sends the same body.
+     */
+    String streamedPayload;
 
     @Builder.Default
     String timestamp = DateTimeFormatter.RFC_1123_DATE_TIME.format(OffsetDateTime.now());
@@ -1,14 +1,18 @@
 package com.endava.cats.model;
 
+import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.ann.Exclude;
 import com.endava.cats.util.WordUtils;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonObject;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Model class used to hold http response details.
@@ -17,13 +21,15 @@ import java.util.List;
 @Getter
 public class CatsResponse {
     private static final int INVALID_ERROR_CODE = 999;
+    private static final int MAX_NOT_A_JSON_LENGTH = 500;
     private final int responseCode;
     private final String httpMethod;
     private final long responseTimeInMs;
     private final long numberOfWordsInResponse;
     private final long numberOfLinesInResponse;
     private final long contentLengthInBytes;
-    private final JsonElement jsonBody;
+    @Getter(AccessLevel.NONE)
+    private volatile JsonElement jsonBody;
     private final List<KeyValuePair<String, String>> headers;
 
     @Exclude
@@ -32,10 +38,15 @@ public class CatsResponse {
     private final String body;
     @Exclude
     private final String fuzzedField;
+    @Exclude
+    private final List<String> retries;
+    @Exclude
+    @Getter(AccessLevel.NONE)
+    private volatile boolean validJson;
 
     public static CatsResponse from(int code, String body, String methodType, long ms) {
         return CatsResponse.builder().responseCode(code).body(body)
-                .jsonBody(JsonParser.parseString(body)).httpMethod(methodType)
+                .httpMethod(methodType)
                 .headers(Collections.emptyList()).responseTimeInMs(ms).build();
     }
 
@@ -49,6 +60,47 @@ public class CatsResponse {
         return CatsResponse.from(INVALID_ERROR_CODE, "{}", "", 0);
     }
 
+    /**
+     * Returns the body as a JSON tree. The body is parsed the first time this method is called, and the same tree
+     * is then returned to all callers. Bodies which are not valid JSON are returned as {@code {"notAJson": "first 500 chars"}}.
+     *
+     * @return the response body as JSON
+     */
+    public JsonElement getJsonBody() {
+        JsonElement result = jsonBody;
+        if (result == null) {
+            synchronized (this) {
+                result = jsonBody;
+                if (result == null) {
+                    result = this.parseBody();
+                    jsonBody = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the body is a valid JSON object or array. When true, {@link #getJsonBody()} is the body itself parsed.
+     *
+     * @return true if the body is valid JSON, false otherwise
+     */
+    public boolean isValidJson() {
+        this.getJsonBody();
+        return validJson;
+    }
+
+    private JsonElement parseBody() {
+        JsonElement parsed = JsonUtils.parseAsStrictJsonElement(body);
+        if (parsed != null) {
+            validJson = true;
+            return parsed;
+        }
+        JsonObject notAJson = new JsonObject();
+        notAJson.addProperty("notAJson", StringUtils.substring(Optional.ofNullable(body).orElse(""), 0, MAX_NOT_A_JSON_LENGTH));
+        return notAJson;
+    }
+
     public String responseCodeAsString() {
         return String.valueOf(this.responseCode);
     }
@@ -61,6 +61,14 @@ public class CatsTestCase {
         return response.isValidErrorCode();
     }
 
+    public boolean hasRetries() {
+        return response.getRetries() != null;
+    }
+
+    public String getRetries() {
+        return hasRetries() ? String.join("; ", response.getRetries()) : "";
+    }
+
     public String getHeaders() {
         return JsonUtils.GSON.toJson(request.getHeaders());
     }
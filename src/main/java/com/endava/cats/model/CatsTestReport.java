@@ -16,5 +16,12 @@ public class CatsTestReport {
     private final long executionTime;
     private final String timestamp;
     private final String catsVersion;
+    private final Integer requestsPerMinuteLimit;
+    private final Integer connectionsOpened;
+    private final Integer requestsSent;
+    private final Integer connectionReusePercentage;
+    private final Integer authScriptRuns;
+    private final Long authScriptAverageDurationInMs;
+    private final Long authScriptMaxDurationInMs;
 
 }
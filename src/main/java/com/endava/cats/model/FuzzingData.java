@@ -2,23 +2,24 @@ package com.endava.cats.model;
 
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.json.JsonUtils;
+import com.endava.cats.model.util.Subsets;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Builder(toBuilder = true)
@@ -26,7 +27,6 @@ import java.util.stream.Collectors;
 @ToString
 public class FuzzingData {
     public static final String EMPTY = "";
-    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(FuzzingData.class);
     private final HttpMethod method;
     private final String contractPath;
     private final String path;
@@ -44,14 +44,16 @@ public class FuzzingData {
     private final OpenAPI openApi;
     private final List<String> tags;
     private final String reqSchemaName;
-    /*these are cached after the first computation*/
-    private Set<String> allFields;
-    private Set<Set<String>> allFieldsSetOfSets;
-    private List<String> allRequiredFields;
-    private Set<CatsField> allFieldsAsCatsFields;
-    private Set<String> allReadOnlyFields;
-    private Set<String> allWriteOnlyFields;
-    private String processedPayload;
+    /*these are cached after the first computation; volatile as the same data is shared by fuzzers running concurrently*/
+    private volatile Set<String> allFields;
+    private volatile List<String> allRequiredFields;
+    private volatile Set<CatsField> allFieldsAsCatsFields;
+    private volatile Set<String> allReadOnlyFields;
+    private volatile Set<String> allWriteOnlyFields;
+    private volatile Set<String> allFieldsByHttpMethod;
+    private volatile Map<String, CatsField> catsFieldsByName;
+    private volatile Map<String, JsonUtils.NodeKind> payloadNodeKinds;
+    private volatile String processedPayload;
     private Set<String> targetFields;
     private int selfReferenceDepth;
 
@@ -98,44 +100,6 @@ public class FuzzingData {
         return result;
     }
 
-    private Set<CatsField> getFields(Schema schema, String prefix) {
-        logger.trace("Getting fields for prefix: {}", prefix);
-        if (JsonUtils.isCyclicReference(prefix, selfReferenceDepth)) {
-            return Collections.emptySet();
-        }
-        Set<CatsField> catsFields = new HashSet<>();
-        if (schema.get$ref() != null) {
-            schema = schemaMap.get(this.getDefinitionNameFromRef(schema.get$ref()));
-        }
-        List<String> required = Optional.ofNullable(schema.getRequired()).orElseGet(Collections::emptyList);
-
-        if (schema.getProperties() != null) {
-            for (Map.Entry<String, Schema> prop : (Set<Map.Entry<String, Schema>>) schema.getProperties().entrySet()) {
-                catsFields.add(CatsField.builder()
-                        .name(prefix.isEmpty() ? prop.getKey() : prefix + "#" + prop.getKey())
-                        .schema(prop.getValue())
-                        .required(required.contains(prop.getKey()))
-                        .readOnly(Optional.ofNullable(prop.getValue().getReadOnly()).orElse(false))
-                        .writeOnly(Optional.ofNullable(prop.getValue().getWriteOnly()).orElse(false))
-                        .build());
-                catsFields.addAll(this.getFields(prop.getValue(), prefix.isEmpty() ? prop.getKey() : prefix + "#" + prop.getKey()));
-            }
-        } else if (schema instanceof ComposedSchema composedSchema) {
-            Optional.ofNullable(composedSchema.getAllOf()).ifPresent(allOf -> allOf.forEach(item -> catsFields.addAll(this.getFields(item, prefix))));
-            Optional.ofNullable(composedSchema.getAnyOf()).ifPresent(anyOf -> anyOf.forEach(item -> catsFields.addAll(this.getFields(item, prefix))));
-            Optional.ofNullable(composedSchema.getOneOf()).ifPresent(oneOf -> oneOf.forEach(item -> catsFields.addAll(this.getFields(item, prefix))));
-        }
-
-        return catsFields.stream()
-                .filter(catsField -> this.getRequestPropertyTypes().get(catsField.getName()) != null)
-                .collect(Collectors.toSet());
-    }
-
-
-    private String getDefinitionNameFromRef(String ref) {
-        return ref.substring(ref.lastIndexOf('/') + 1);
-    }
-
     public Set<String> getAllReadOnlyFields() {
         if (allReadOnlyFields == null) {
             allReadOnlyFields = this.getAllFieldsAsCatsFields().stream().filter(CatsField::isReadOnly).map(CatsField::getName).collect(Collectors.toSet());
@@ -159,26 +123,78 @@ public class FuzzingData {
 
     public Set<CatsField> getAllFieldsAsCatsFields() {
         if (allFieldsAsCatsFields == null) {
-            allFieldsAsCatsFields = this.getFields(reqSchema, EMPTY);
+            Set<CatsField> fields = SchemaFields.of(reqSchema, schemaMap, selfReferenceDepth).stream()
+                    .filter(catsField -> this.getRequestPropertyTypes().get(catsField.getName()) != null)
+                    .collect(Collectors.toSet());
             if (!includeFieldTypes.isEmpty()) {
-                allFieldsAsCatsFields.removeIf(catsField -> !includeFieldTypes.contains(Optional.ofNullable(catsField.getSchema().getType()).orElse(EMPTY)));
+                fields.removeIf(catsField -> !includeFieldTypes.contains(Optional.ofNullable(catsField.getSchema().getType()).orElse(EMPTY)));
             }
             if (!includeFieldFormats.isEmpty()) {
-                allFieldsAsCatsFields.removeIf(catsField -> !includeFieldFormats.contains(Optional.ofNullable(catsField.getSchema().getFormat()).orElse(EMPTY)));
+                fields.removeIf(catsField -> !includeFieldFormats.contains(Optional.ofNullable(catsField.getSchema().getFormat()).orElse(EMPTY)));
             }
-            allFieldsAsCatsFields.removeIf(catsField -> skipFieldTypes.contains(Optional.ofNullable(catsField.getSchema().getType()).orElse(EMPTY)));
-            allFieldsAsCatsFields.removeIf(catsField -> skipFieldFormats.contains(Optional.ofNullable(catsField.getSchema().getFormat()).orElse(EMPTY)));
+            fields.removeIf(catsField -> skipFieldTypes.contains(Optional.ofNullable(catsField.getSchema().getType()).orElse(EMPTY)));
+            fields.removeIf(catsField -> skipFieldFormats.contains(Optional.ofNullable(catsField.getSchema().getFormat()).orElse(EMPTY)));
+            allFieldsAsCatsFields = fields;
         }
 
         return allFieldsAsCatsFields;
     }
 
     public Set<String> getAllFieldsByHttpMethod() {
-        if (HttpMethod.requiresBody(method)) {
-            return getAllFields().stream().filter(field -> !this.getAllReadOnlyFields().contains(field)).collect(Collectors.toSet());
+        if (allFieldsByHttpMethod == null) {
+            Set<String> fieldsToExclude = HttpMethod.requiresBody(method) ? this.getAllReadOnlyFields() : this.getAllWriteOnlyFields();
+            allFieldsByHttpMethod = Collections.unmodifiableSet(getAllFields().stream().filter(field -> !fieldsToExclude.contains(field)).collect(Collectors.toSet()));
         }
 
-        return getAllFields().stream().filter(field -> !this.getAllWriteOnlyFields().contains(field)).collect(Collectors.toSet());
+        return allFieldsByHttpMethod;
+    }
+
+    /**
+     * Returns the OpenAPI details of the given request field.
+     *
+     * @param fieldName the fully qualified name of the field
+     * @return the field or null if it's not a request field
+     */
+    public CatsField getCatsField(String fieldName) {
+        if (catsFieldsByName == null) {
+            catsFieldsByName = this.getAllFieldsAsCatsFields().stream().collect(Collectors.toUnmodifiableMap(CatsField::getName, Function.identity()));
+        }
+
+        return catsFieldsByName.get(fieldName);
+    }
+
+    public boolean isRequired(String fieldName) {
+        CatsField catsField = this.getCatsField(fieldName);
+        return catsField != null && catsField.isRequired();
+    }
+
+    /**
+     * Returns the kind of JSON node the given field has in the payload. The node kinds of all the request
+     * fields are computed once, against the payload returned by {@link #getPayload()}.
+     *
+     * @param fieldName the fully qualified name of the field
+     * @return the kind of node the field has in the payload
+     */
+    public JsonUtils.NodeKind getPayloadNodeKind(String fieldName) {
+        if (payloadNodeKinds == null) {
+            Map<String, JsonUtils.NodeKind> nodeKinds = new ConcurrentHashMap<>();
+            this.getAllFields().forEach(field -> nodeKinds.put(field, JsonUtils.getNodeKind(this.getPayload(), field)));
+            payloadNodeKinds = nodeKinds;
+        }
+
+        return payloadNodeKinds.computeIfAbsent(fieldName, field -> JsonUtils.getNodeKind(this.getPayload(), field));
+    }
+
+    public boolean isPrimitive(String fieldName) {
+        return this.getPayloadNodeKind(fieldName).isPrimitive();
+    }
+
+    public boolean isObject(String fieldName) {
+        return this.getPayloadNodeKind(fieldName).isObject();
+    }
+
+    public boolean isArray(String fieldName) {
+        return this.getPayloadNodeKind(fieldName).isArray();
     }
 
     private Set<String> getAllFields() {
@@ -189,18 +205,20 @@ public class FuzzingData {
         return allFields;
     }
 
-    public Set<Set<String>> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
-        if (allFieldsSetOfSets == null) {
-
-            Set<Set<String>> sets = switch (setFuzzingStrategy) {
-                case POWERSET -> SetFuzzingStrategy.powerSet(this.getAllFields());
-                case SIZE -> SetFuzzingStrategy.getAllSetsWithMinSize(this.getAllFields(), maxFieldsToRemove);
-                default -> SetFuzzingStrategy.removeOneByOne(this.getAllFields());
-            };
-            sets.remove(Collections.emptySet());
-            allFieldsSetOfSets = sets;
-        }
-        return allFieldsSetOfSets;
+    /**
+     * Returns the subsets of fields to be removed from the payload according to the given strategy.
+     * Subsets are generated lazily while iterating.
+     *
+     * @param setFuzzingStrategy the strategy used to build the subsets
+     * @param maxFieldsToRemove  the maximum size of a subset when using {@link SetFuzzingStrategy#SIZE}
+     * @return the subsets of fields
+     */
+    public Subsets<String> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
+        return switch (setFuzzingStrategy) {
+            case POWERSET -> Subsets.of(this.getAllFields(), 1, this.getAllFields().size());
+            case SIZE -> SetFuzzingStrategy.getAllSetsWithMinSize(this.getAllFields(), maxFieldsToRemove);
+            default -> SetFuzzingStrategy.removeOneByOne(this.getAllFields());
+        };
     }
 
     public String getFirstRequestContentType() {
@@ -213,74 +231,25 @@ public class FuzzingData {
         private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(SetFuzzingStrategy.class);
 
         /**
-         * Returns all possible subsets of the given set
+         * Returns all possible subsets of the given set, including the empty set.
          *
          * @param originalSet initial set
          * @param <T>         type of data within the set
-         * @return a set of sets with all possible combinations
-         */
-        public static <T> Set<Set<T>> powerSet(Set<T> originalSet) {
-            Set<Set<T>> sets = new HashSet<>();
-            if (originalSet.isEmpty()) {
-                sets.add(new HashSet<>());
-                return sets;
-            }
-            List<T> list = new ArrayList<>(originalSet);
-            T head = list.get(0);
-            Set<T> rest = new HashSet<>(list.subList(1, list.size()));
-            for (Set<T> set : powerSet(rest)) {
-                Set<T> newSet = new HashSet<>();
-                newSet.add(head);
-                newSet.addAll(set);
-                sets.add(newSet);
-                sets.add(set);
-            }
-            return sets;
-        }
-
-
-        /**
-         * Returns all possible subsets of size K of the given list
-         *
-         * @param elements list of elements to accumulate
-         * @param k        size
-         * @return a set of sets
+         * @return all possible combinations, generated lazily
          */
-        private static Set<Set<String>> getAllSubsetsOfSize(List<String> elements, int k) {
-            List<List<String>> result = new ArrayList<>();
-            backtrack(elements, k, 0, result, new ArrayList<>());
-            return result.stream().map(HashSet::new).collect(Collectors.toSet());
+        public static <T> Subsets<T> powerSet(Set<T> originalSet) {
+            return Subsets.of(originalSet, 0, originalSet.size());
         }
 
-        private static void backtrack(List<String> elements, int k, int startIndex, List<List<String>> result,
-                                      List<String> partialList) {
-            if (k == partialList.size()) {
-                result.add(new ArrayList<>(partialList));
-                return;
-            }
-            for (int i = startIndex; i < elements.size(); i++) {
-                partialList.add(elements.get(i));
-                backtrack(elements, k, i + 1, result, partialList);
-                partialList.remove(partialList.size() - 1);
-            }
-        }
-
-
         /**
-         * Returns a Set of sets with possibilities of removing one field at a time form the original set.
+         * Returns the sets with one element for each element of the original set.
          *
          * @param elements a given Set
          * @param <T>      the type of the elements
-         * @return a Set of incremental Sets obtained by removing one element at a time from the original Set
+         * @return the Sets obtained by removing one element at a time from the original Set
          */
-        public static <T> Set<Set<T>> removeOneByOne(Set<T> elements) {
-            Set<Set<T>> result = new HashSet<>();
-            for (T t : elements) {
-                Set<T> subset = new HashSet<>();
-                subset.add(t);
-                result.add(subset);
-            }
-            return result;
+        public static <T> Subsets<T> removeOneByOne(Set<T> elements) {
+            return Subsets.of(elements, 1, 1);
         }
 
         /**
@@ -288,20 +257,16 @@ public class FuzzingData {
          *
          * @param allFields         all fields from the request, including fully qualified fields
          * @param maxFieldsToRemove number of max fields to remove
-         * @return a Set of Sets with all fields combinations
+         * @return all fields combinations, generated lazily
          */
-        public static Set<Set<String>> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
-            Set<Set<String>> sets = new HashSet<>();
+        public static Subsets<String> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
             if (maxFieldsToRemove == 0) {
                 LOGGER.note("fieldsSubsetMinSize is ZERO, the value will be changed to {}", allFields.size() / 2);
                 maxFieldsToRemove = allFields.size() / 2;
             } else if (allFields.size() < maxFieldsToRemove) {
                 LOGGER.note("fieldsSubsetMinSize is bigger than the number of fields, the value will be changed to {}", allFields.size());
             }
-            for (int i = maxFieldsToRemove; i >= 1; i--) {
-                sets.addAll(getAllSubsetsOfSize(new ArrayList<>(allFields), i));
-            }
-            return sets;
+            return Subsets.of(allFields, 1, maxFieldsToRemove);
         }
     }
 }
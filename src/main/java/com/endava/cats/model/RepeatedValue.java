@@ -0,0 +1,146 @@
+package com.endava.cats.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A very large value made of a pattern repeated a number of times.
+ * <p>
+ * Values larger than {@link #STREAMING_THRESHOLD} characters are not materialized. They are placed in payloads as a
+ * short token, which survives JSON manipulation and content type conversions, and are expanded only while the request
+ * body is written to the service. Reports show a truncated form of such payloads and keep the token form for replaying.
+ * </p>
+ *
+ * @param pattern the repeated pattern; only alphanumeric patterns can be streamed
+ * @param times   how many times the pattern is repeated
+ */
+public record RepeatedValue(String pattern, long times) {
+    /**
+     * Values with more characters than this are streamed instead of being materialized.
+     */
+    public static final long STREAMING_THRESHOLD = 1024 * 1024L;
+    private static final Pattern TOKEN = Pattern.compile("carepeat_(\\d+)_([0-9a-f]+)_ts");
+    private static final Pattern STREAMABLE_PATTERN = Pattern.compile("[a-zA-Z0-9]+");
+    private static final int DISPLAYED_CHARACTERS = 100;
+    private static final int SAMPLE_PERIOD = 60;
+
+    /**
+     * Returns the given pattern repeated the given number of times. If the result would exceed {@link #STREAMING_THRESHOLD}
+     * characters, a token standing for the repeated value is returned instead.
+     *
+     * @param pattern the pattern to repeat
+     * @param times   how many times to repeat the pattern
+     * @return the repeated value or a token standing for it
+     */
+    public static String of(String pattern, long times) {
+        if (pattern.length() * times <= STREAMING_THRESHOLD || !STREAMABLE_PATTERN.matcher(pattern).matches()) {
+            return pattern.repeat(Math.toIntExact(times));
+        }
+        return new RepeatedValue(pattern, times).asToken();
+    }
+
+    /**
+     * Checks if the given payload contains tokens standing for repeated values.
+     *
+     * @param payload the payload
+     * @return true if the payload must be streamed, false otherwise
+     */
+    public static boolean isPresent(String payload) {
+        return payload != null && payload.contains("carepeat_") && TOKEN.matcher(payload).find();
+    }
+
+    /**
+     * Replaces the tokens from the given payload with the full repeated values.
+     *
+     * @param payload the payload
+     * @return the payload with all the repeated values materialized
+     */
+    public static String materialize(String payload) {
+        StringBuilder builder = new StringBuilder();
+        forEachPart(payload, builder::append, repeated -> builder.append(repeated.pattern().repeat(Math.toIntExact(repeated.times()))));
+        return builder.toString();
+    }
+
+    /**
+     * Replaces the tokens from the given payload with the first characters of the repeated values
+     * followed by the total number of characters.
+     *
+     * @param payload the payload
+     * @return the payload suitable for displaying and reporting
+     */
+    public static String truncate(String payload) {
+        StringBuilder builder = new StringBuilder();
+        forEachPart(payload, builder::append, repeated -> builder.append(repeated.truncated()));
+        return builder.toString();
+    }
+
+    /**
+     * Replaces the tokens from the given value with shorter values made of the same patterns, so that the value can be checked against regexes.
+     * <p>
+     * Each repeated value is cut to at most {@link #STREAMING_THRESHOLD} characters, keeping the number of repetitions modulo {@value #SAMPLE_PERIOD}.
+     * As the value is a single pattern repeated many times, the sample matches a regex exactly when the full value does, unless the regex
+     * has bounded quantifiers larger than {@link #STREAMING_THRESHOLD} or only matches a number of repetitions which is a multiple
+     * of a period not dividing {@value #SAMPLE_PERIOD}.
+     * </p>
+     *
+     * @param value the value
+     * @return the value with repeated values cut to a bounded length
+     */
+    public static String sample(String value) {
+        if (!isPresent(value)) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder();
+        forEachPart(value, builder::append, repeated -> builder.append(repeated.pattern().repeat(Math.toIntExact(repeated.sampleTimes()))));
+        return builder.toString();
+    }
+
+    /**
+     * Splits the given payload into literal parts and repeated values, in order.
+     *
+     * @param payload  the payload
+     * @param literal  called with each literal part
+     * @param repeated called with each repeated value
+     */
+    public static void forEachPart(String payload, Consumer<String> literal, Consumer<RepeatedValue> repeated) {
+        Matcher matcher = TOKEN.matcher(payload);
+        int start = 0;
+        while (matcher.find()) {
+            literal.accept(payload.substring(start, matcher.start()));
+            String pattern = new String(HexFormat.of().parseHex(matcher.group(2)), StandardCharsets.UTF_8);
+            repeated.accept(new RepeatedValue(pattern, Long.parseLong(matcher.group(1))));
+            start = matcher.end();
+        }
+        literal.accept(payload.substring(start));
+    }
+
+    /**
+     * Returns the total number of characters of this value.
+     *
+     * @return the length of the repeated value
+     */
+    public long length() {
+        return pattern.length() * times;
+    }
+
+    private long sampleTimes() {
+        long minTimes = STREAMING_THRESHOLD / pattern.length();
+        if (times <= minTimes) {
+            return times;
+        }
+        long base = Math.max(minTimes - SAMPLE_PERIOD, 0);
+        return base + Math.floorMod(times - base, SAMPLE_PERIOD);
+    }
+
+    private String asToken() {
+        return "carepeat_" + times + "_" + HexFormat.of().formatHex(pattern.getBytes(StandardCharsets.UTF_8)) + "_ts";
+    }
+
+    private String truncated() {
+        String start = pattern.repeat(DISPLAYED_CHARACTERS / pattern.length() + 1).substring(0, DISPLAYED_CHARACTERS);
+        return start + "...[truncated, %d characters in total]".formatted(this.length());
+    }
+}
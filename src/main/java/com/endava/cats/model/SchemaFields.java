@@ -0,0 +1,116 @@
+package com.endava.cats.model;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes all the fields of a request schema, including the fields of child schemas, as fully qualified {@link CatsField}s.
+ * <p>
+ * The fields of a schema are computed once for each self reference depth and shared by all the {@link FuzzingData} objects
+ * using the same schema, across payload variants, HTTP methods and paths. The shared sets must never be changed.
+ * </p>
+ */
+final class SchemaFields {
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(SchemaFields.class);
+    private static final int MAX_SCHEMAS = 2048;
+    private static final Cache<Key, Set<CatsField>> FIELDS = CacheBuilder.newBuilder().maximumSize(MAX_SCHEMAS).build();
+
+    private final Map<String, Schema> schemaMap;
+    private final int selfReferenceDepth;
+    private final Map<String, Integer> ancestors = new HashMap<>();
+    private final Set<CatsField> fields = new HashSet<>();
+
+    private SchemaFields(Map<String, Schema> schemaMap, int selfReferenceDepth) {
+        this.schemaMap = schemaMap;
+        this.selfReferenceDepth = selfReferenceDepth;
+    }
+
+    /**
+     * Returns all the fields of the given schema. When the same field name is reached through multiple composed schemas,
+     * the first one found is kept.
+     *
+     * @param schema             the request schema
+     * @param schemaMap          the schemas used to resolve references
+     * @param selfReferenceDepth the depth after which repeated field names are considered cyclic references
+     * @return an unmodifiable set with all the fields
+     */
+    static Set<CatsField> of(Schema<?> schema, Map<String, Schema> schemaMap, int selfReferenceDepth) {
+        Key key = new Key(schema, schemaMap, selfReferenceDepth);
+        Set<CatsField> result = FIELDS.getIfPresent(key);
+        if (result == null) {
+            SchemaFields schemaFields = new SchemaFields(schemaMap, selfReferenceDepth);
+            schemaFields.collect(schema, "", 0, false);
+            result = Collections.unmodifiableSet(schemaFields.fields);
+            FIELDS.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Walks the schema depth first. Cyclic references are detected the same way as {@code JsonUtils.isCyclicReference}: once the
+     * prefix has at least {@code selfReferenceDepth} levels and any field name repeats within it. Instead of splitting the prefix,
+     * the names of the ancestors are tracked while descending.
+     */
+    private void collect(Schema schema, String prefix, int levels, boolean repeatedName) {
+        LOGGER.trace("Getting fields for prefix: {}", prefix);
+        if (repeatedName && Math.max(1, levels) >= selfReferenceDepth) {
+            LOGGER.trace("Found cyclic dependencies for {}", prefix);
+            return;
+        }
+        if (schema.get$ref() != null) {
+            schema = schemaMap.get(schema.get$ref().substring(schema.get$ref().lastIndexOf('/') + 1));
+        }
+        List<String> required = Optional.ofNullable(schema.getRequired()).orElseGet(Collections::emptyList);
+
+        if (schema.getProperties() != null) {
+            for (Map.Entry<String, Schema> prop : (Set<Map.Entry<String, Schema>>) schema.getProperties().entrySet()) {
+                String name = prefix.isEmpty() ? prop.getKey() : prefix + "#" + prop.getKey();
+                fields.add(CatsField.builder()
+                        .name(name)
+                        .schema(prop.getValue())
+                        .required(required.contains(prop.getKey()))
+                        .readOnly(Optional.ofNullable(prop.getValue().getReadOnly()).orElse(false))
+                        .writeOnly(Optional.ofNullable(prop.getValue().getWriteOnly()).orElse(false))
+                        .build());
+
+                String ancestor = prop.getKey().toLowerCase(Locale.ROOT);
+                boolean repeated = repeatedName || ancestors.containsKey(ancestor);
+                ancestors.merge(ancestor, 1, Integer::sum);
+                this.collect(prop.getValue(), name, levels + 1, repeated);
+                ancestors.computeIfPresent(ancestor, (key, count) -> count == 1 ? null : count - 1);
+            }
+        } else if (schema instanceof ComposedSchema composedSchema) {
+            Optional.ofNullable(composedSchema.getAllOf()).ifPresent(allOf -> allOf.forEach(item -> this.collect(item, prefix, levels, repeatedName)));
+            Optional.ofNullable(composedSchema.getAnyOf()).ifPresent(anyOf -> anyOf.forEach(item -> this.collect(item, prefix, levels, repeatedName)));
+            Optional.ofNullable(composedSchema.getOneOf()).ifPresent(oneOf -> oneOf.forEach(item -> this.collect(item, prefix, levels, repeatedName)));
+        }
+    }
+
+    /**
+     * Schemas and schema maps are compared by identity, as they are shared for the whole run and deep comparisons would be expensive.
+     */
+    private record Key(Schema<?> schema, Map<String, Schema> schemaMap, int selfReferenceDepth) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && key.schema == schema && key.schemaMap == schemaMap && key.selfReferenceDepth == selfReferenceDepth;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(schema) + System.identityHashCode(schemaMap)) + selfReferenceDepth;
+        }
+    }
+}
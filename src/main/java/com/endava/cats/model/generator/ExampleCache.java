@@ -0,0 +1,123 @@
+package com.endava.cats.model.generator;
+
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.util.CatsRandom;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.swagger.v3.oas.models.media.Schema;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the examples generated for schemas during a run, so that schemas shared by multiple request or response bodies,
+ * like components referenced from many paths, are not generated again for every {@link OpenAPIModelGenerator}.
+ * <p>
+ * Examples are stored by schema identity, model name and the property path at which the schema is used, as cyclic references
+ * are detected based on the property path. Each example is stored together with the data types recorded while generating it,
+ * so that they can be recorded again each time the example is reused. Up to {@code --exampleVariants} examples are generated
+ * for each key, after which one of them is reused. When {@code --exampleVariants} is 0, examples are always generated and never stored.
+ * </p>
+ */
+@Singleton
+public class ExampleCache {
+    private static final int MAX_EXAMPLES = 10000;
+
+    private final ProcessingArguments processingArguments;
+    private final Cache<Key, List<GeneratedExample>> examples = CacheBuilder.newBuilder().maximumSize(MAX_EXAMPLES).recordStats().build();
+
+    @Inject
+    public ExampleCache(ProcessingArguments processingArguments) {
+        this.processingArguments = processingArguments;
+    }
+
+    /**
+     * Returns a cached example for the given schema or generates a new one if there are not enough variants yet.
+     *
+     * @param schema       the schema
+     * @param name         the name of the model
+     * @param propertyPath the property path at which the schema is used
+     * @param generator    generates a new example
+     * @return an immutable example for the given schema or a freshly generated one when examples are not reused
+     */
+    GeneratedExample getOrGenerate(Schema<?> schema, String name, String propertyPath, Supplier<GeneratedExample> generator) {
+        int variants = processingArguments.getExampleVariants();
+        if (variants < 1) {
+            return generator.get();
+        }
+        Key key = new Key(schema, name, propertyPath);
+        List<GeneratedExample> cached = examples.getIfPresent(key);
+        if (cached != null && cached.size() >= variants) {
+            return cached.get(CatsRandom.instance().nextInt(cached.size()));
+        }
+        GeneratedExample example = generator.get().immutableCopy();
+        List<GeneratedExample> updated = new ArrayList<>(cached != null ? cached : List.of());
+        updated.add(example);
+        examples.put(key, List.copyOf(updated));
+
+        return example;
+    }
+
+    /**
+     * Returns statistics about examples reuse.
+     *
+     * @return the examples cache statistics
+     */
+    public CacheStats getStats() {
+        return examples.stats();
+    }
+
+    /**
+     * An example generated for a schema, along with the data types recorded for each property path while generating it.
+     *
+     * @param example   the generated example
+     * @param dataTypes the data types recorded while generating the example, in the order they were recorded
+     */
+    record GeneratedExample(Object example, Map<String, Schema> dataTypes) {
+
+        /**
+         * Examples are handed to several parent examples, so both maps and arrays are copied into unmodifiable collections.
+         */
+        GeneratedExample immutableCopy() {
+            return new GeneratedExample(copyOf(example), Collections.unmodifiableMap(new LinkedHashMap<>(dataTypes)));
+        }
+
+        private static Object copyOf(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                map.forEach((key, entry) -> copy.put(key, copyOf(entry)));
+                return Collections.unmodifiableMap(copy);
+            }
+            if (value instanceof Object[] array) {
+                return Arrays.stream(array).map(GeneratedExample::copyOf).toList();
+            }
+            if (value instanceof List<?> list) {
+                return list.stream().map(GeneratedExample::copyOf).toList();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Schemas are compared by identity, as {@link Schema#equals(Object)} and {@link Schema#hashCode()} walk the entire schema tree.
+     */
+    private record Key(Schema<?> schema, String name, String propertyPath) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && schema == key.schema && name.equals(key.name) && propertyPath.equals(key.propertyPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(schema) + name.hashCode()) + propertyPath.hashCode();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.generator.format.api.ValidDataFormat;
 import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.json.JsonUtils;
+import com.endava.cats.util.CatsRandom;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -29,21 +30,21 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 
 import static com.endava.cats.generator.simple.StringGenerator.generateValueBasedOnMinMax;
 
@@ -71,17 +72,18 @@ public class OpenAPIModelGenerator {
     private static final String EXAMPLE = "example";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(OpenAPIModelGenerator.class);
-    private final Set<Schema<?>> catsGeneratedExamples = new HashSet<>();
-    private final Random random;
+    private final Set<Schema<?>> catsGeneratedExamples = Collections.newSetFromMap(new IdentityHashMap<>());
     private final boolean useExamples;
     private final CatsGlobalContext globalContext;
     private final ValidDataFormat validDataFormat;
+    private final ExampleCache exampleCache;
     private final int selfReferenceDepth;
+    private final Deque<Map<String, Schema>> recordedDataTypes = new ArrayDeque<>();
     private String currentProperty = "";
 
-    public OpenAPIModelGenerator(CatsGlobalContext catsGlobalContext, ValidDataFormat validDataFormat, boolean useExamplesArgument, int selfReferenceDepth) {
+    public OpenAPIModelGenerator(CatsGlobalContext catsGlobalContext, ValidDataFormat validDataFormat, ExampleCache exampleCache, boolean useExamplesArgument, int selfReferenceDepth) {
         this.globalContext = catsGlobalContext;
-        this.random = ThreadLocalRandom.current();
+        this.exampleCache = exampleCache;
         this.useExamples = useExamplesArgument;
         this.selfReferenceDepth = selfReferenceDepth;
         this.validDataFormat = validDataFormat;
@@ -208,7 +210,7 @@ public class OpenAPIModelGenerator {
         Double min = property.getMinimum() == null ? null : property.getMinimum().doubleValue();
         Double max = property.getMaximum() == null ? null : property.getMaximum().doubleValue();
         if (property.getEnum() != null) {
-            return property.getEnum().get(random.nextInt(0, property.getEnum().size()));
+            return property.getEnum().get(CatsRandom.instance().nextInt(0, property.getEnum().size()));
         }
         if (property.getDefault() != null) {
             return property.getDefault();
@@ -244,8 +246,9 @@ public class OpenAPIModelGenerator {
             arrayLength = null == property.getMinItems() ? arrayLength : property.getMinItems();
             Object[] objectProperties = new Object[arrayLength];
 
+            //only the first item can be reused, otherwise arrays would end up with duplicate items
             for (int i = 0; i < arrayLength; i++) {
-                objectProperties[i] = resolveModelToExample(propertyName, innerType);
+                objectProperties[i] = i == 0 ? resolveModelToExample(propertyName, innerType) : generateModelExample(propertyName, innerType);
             }
             return objectProperties;
         }
@@ -255,17 +258,47 @@ public class OpenAPIModelGenerator {
     double randomNumber(Double min, Double max) {
         if (min != null && max != null) {
             double range = max - min;
-            return random.nextDouble() * range + min;
+            return CatsRandom.instance().nextDouble() * range + min;
         } else if (min != null) {
-            return random.nextDouble() + min;
+            return CatsRandom.instance().nextDouble() + min;
         } else if (max != null) {
-            return random.nextDouble() * max;
+            return CatsRandom.instance().nextDouble() * max;
         } else {
-            return random.nextDouble() * 10;
+            return CatsRandom.instance().nextDouble() * 10;
         }
     }
 
     private Object resolveModelToExample(String name, Schema schema) {
+        if (schema.getProperties() == null && !(schema instanceof ComposedSchema)) {
+            return generateModelExample(name, schema);
+        }
+        ExampleCache.GeneratedExample generatedExample = exampleCache.getOrGenerate(schema, name, currentProperty, () -> this.generateRecordingDataTypes(name, schema));
+        generatedExample.dataTypes().forEach(this::recordDataType);
+        if (schema.getProperties() != null) {
+            catsGeneratedExamples.add(schema);
+        }
+        return generatedExample.example();
+    }
+
+    private ExampleCache.GeneratedExample generateRecordingDataTypes(String name, Schema schema) {
+        recordedDataTypes.push(new LinkedHashMap<>());
+        try {
+            Object example = this.generateModelExample(name, schema);
+            return new ExampleCache.GeneratedExample(example, recordedDataTypes.peek());
+        } finally {
+            recordedDataTypes.pop();
+        }
+    }
+
+    /**
+     * Data types are also recorded for the example currently being generated, so that they can be recorded again when the example is reused.
+     */
+    private void recordDataType(String propertyPath, Schema schema) {
+        globalContext.getRequestDataTypes().put(propertyPath, schema);
+        Optional.ofNullable(recordedDataTypes.peek()).ifPresent(dataTypes -> dataTypes.put(propertyPath, schema));
+    }
+
+    private Object generateModelExample(String name, Schema schema) {
         Map<String, Object> values = new HashMap<>();
         logger.trace("Resolving model '{}' to example", name);
         schema = normalizeDiscriminatorMappingsToOneOf(name, schema);
@@ -281,7 +314,7 @@ public class OpenAPIModelGenerator {
         if (schema instanceof ComposedSchema composedSchema) {
             this.populateWithComposedSchema(values, name, composedSchema);
         } else {
-            globalContext.getRequestDataTypes().put(currentProperty, schema);
+            this.recordDataType(currentProperty, schema);
             return this.resolvePropertyToExample(name, schema);
         }
         return values;
@@ -353,12 +386,12 @@ public class OpenAPIModelGenerator {
             this.populateWithComposedSchema(values, propertyName.toString(), composedSchema);
         } else if (schema.getDiscriminator() != null && schema.getDiscriminator().getPropertyName().equalsIgnoreCase(propertyName.toString())) {
             values.put(propertyName.toString(), this.matchToEnumOrEmpty(name, innerSchema, propertyName.toString()));
-            globalContext.getRequestDataTypes().put(currentProperty, innerSchema);
+            this.recordDataType(currentProperty, innerSchema);
         } else {//maybe here a check for array schema
             logger.trace("Resolving {}", propertyName);
             Object example = this.resolvePropertyToExample(propertyName.toString(), innerSchema);
             values.put(propertyName.toString(), example);
-            globalContext.getRequestDataTypes().put(currentProperty, innerSchema);
+            this.recordDataType(currentProperty, innerSchema);
         }
     }
 
@@ -0,0 +1,145 @@
+package com.endava.cats.model.util;
+
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * All the subsets of a collection having a size within a given range. Subsets are generated one by one while iterating,
+ * smallest ones first, so they are never all held in memory. The number of subsets can be computed upfront without iterating them.
+ *
+ * @param <T> the type of the elements
+ */
+public final class Subsets<T> implements Iterable<Set<T>> {
+    private final List<T> elements;
+    private final int minSize;
+    private final int maxSize;
+    private final long limit;
+
+    private Subsets(List<T> elements, int minSize, int maxSize, long limit) {
+        this.elements = elements;
+        this.minSize = Math.max(0, minSize);
+        this.maxSize = Math.min(elements.size(), maxSize);
+        this.limit = limit;
+    }
+
+    /**
+     * Creates the subsets of the given elements having at least {@code minSize} and at most {@code maxSize} elements.
+     *
+     * @param elements the elements
+     * @param minSize  the minimum size of a subset
+     * @param maxSize  the maximum size of a subset; sizes bigger than the number of elements are ignored
+     * @param <T>      the type of the elements
+     * @return the subsets
+     */
+    public static <T> Subsets<T> of(Collection<T> elements, int minSize, int maxSize) {
+        return new Subsets<>(new ArrayList<>(elements), minSize, maxSize, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the same subsets, but stops after the given number of subsets.
+     *
+     * @param maxSubsets the maximum number of subsets to generate
+     * @return the limited subsets
+     */
+    public Subsets<T> limit(long maxSubsets) {
+        return new Subsets<>(elements, minSize, maxSize, Math.min(limit, maxSubsets));
+    }
+
+    /**
+     * Returns the number of subsets which will be generated, taking into account the limit.
+     *
+     * @return the number of subsets generated when iterating
+     */
+    public long count() {
+        return Math.min(limit, this.possibleCount());
+    }
+
+    /**
+     * Returns the number of possible subsets, regardless of the limit. The result is {@link Long#MAX_VALUE} if it doesn't fit a long.
+     *
+     * @return the number of possible subsets
+     */
+    public long possibleCount() {
+        long count = 0;
+        for (int size = minSize; size <= maxSize; size++) {
+            count = LongMath.saturatedAdd(count, LongMath.binomial(elements.size(), size));
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the limit prevents some of the possible subsets from being generated.
+     *
+     * @return true if not all possible subsets will be generated, false otherwise
+     */
+    public boolean isLimited() {
+        return this.count() < this.possibleCount();
+    }
+
+    @Override
+    public Iterator<Set<T>> iterator() {
+        return new SubsetsIterator();
+    }
+
+    /**
+     * Goes through the combinations of each size in lexicographic order of the element indexes.
+     */
+    private final class SubsetsIterator implements Iterator<Set<T>> {
+        private int size = minSize;
+        private int[] indexes = firstCombination(minSize);
+        private long generated;
+
+        @Override
+        public boolean hasNext() {
+            return indexes != null && generated < limit;
+        }
+
+        @Override
+        public Set<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Set<T> subset = new HashSet<>();
+            for (int index : indexes) {
+                subset.add(elements.get(index));
+            }
+            generated++;
+            this.advance();
+            return subset;
+        }
+
+        private void advance() {
+            int position = size - 1;
+            while (position >= 0 && indexes[position] == elements.size() - size + position) {
+                position--;
+            }
+            if (position >= 0) {
+                indexes[position]++;
+                for (int i = position + 1; i < size; i++) {
+                    indexes[i] = indexes[i - 1] + 1;
+                }
+            } else {
+                size++;
+                indexes = firstCombination(size);
+            }
+        }
+
+        private int[] firstCombination(int combinationSize) {
+            if (combinationSize > maxSize) {
+                return null;
+            }
+            int[] combination = new int[combinationSize];
+            for (int i = 0; i < combinationSize; i++) {
+                combination[i] = i;
+            }
+            return combination;
+        }
+    }
+}
@@ -2,38 +2,132 @@ package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.Getter;
 import org.fusesource.jansi.Ansi;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @ApplicationScoped
 @DryRun
 public class ExecutionStatisticsListener {
 
-    private final Map<String, Integer> errors = new HashMap<>();
-    private final Map<String, Integer> warns = new HashMap<>();
-    private final Map<String, Integer> success = new HashMap<>();
+    private final Map<String, Integer> errors = new ConcurrentHashMap<>();
+    private final Map<String, Integer> warns = new ConcurrentHashMap<>();
+    private final Map<String, Integer> success = new ConcurrentHashMap<>();
 
-    @Getter
-    private int skipped;
-
-    @Getter
-    private int authErrors;
-    @Getter
-    private int ioErrors;
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger authErrors = new AtomicInteger();
+    private final AtomicInteger ioErrors = new AtomicInteger();
+    private final AtomicInteger requestsPerMinuteLimit = new AtomicInteger();
+    private final AtomicInteger connectionsOpened = new AtomicInteger();
+    private final AtomicInteger connectionsAcquired = new AtomicInteger();
+    private final AtomicInteger authScriptRuns = new AtomicInteger();
+    private final AtomicLong authScriptTotalDurationInMs = new AtomicLong();
+    private final AtomicLong authScriptMaxDurationInMs = new AtomicLong();
 
     public void increaseAuthErrors() {
-        this.authErrors++;
+        this.authErrors.incrementAndGet();
     }
 
     public void increaseIoErrors() {
-        this.ioErrors++;
+        this.ioErrors.incrementAndGet();
+    }
+
+    /**
+     * Records the current adaptive rate limit.
+     *
+     * @param requestsPerMinute the number of requests per minute currently allowed
+     */
+    public void updateRequestsPerMinuteLimit(int requestsPerMinute) {
+        this.requestsPerMinuteLimit.set(requestsPerMinute);
+    }
+
+    /**
+     * Returns the last recorded adaptive rate limit.
+     *
+     * @return the number of requests per minute or 0 if adaptive rate limiting is not enabled
+     */
+    public int getRequestsPerMinuteLimit() {
+        return this.requestsPerMinuteLimit.get();
+    }
+
+    public void increaseConnectionsOpened() {
+        this.connectionsOpened.incrementAndGet();
+    }
+
+    public void increaseConnectionsAcquired() {
+        this.connectionsAcquired.incrementAndGet();
+    }
+
+    public int getConnectionsOpened() {
+        return this.connectionsOpened.get();
+    }
+
+    public int getConnectionsAcquired() {
+        return this.connectionsAcquired.get();
+    }
+
+    /**
+     * Returns the percentage of requests which were sent over an already opened connection.
+     *
+     * @return the connection reuse percentage
+     */
+    public int getConnectionReusePercentage() {
+        int acquired = this.getConnectionsAcquired();
+        if (acquired == 0) {
+            return 0;
+        }
+        return Math.max(0, (acquired - this.getConnectionsOpened()) * 100 / acquired);
+    }
+
+    /**
+     * Records a run of the {@code --authRefreshScript}.
+     *
+     * @param durationInMs how long the script took to run
+     */
+    public void recordAuthScriptRun(long durationInMs) {
+        this.authScriptRuns.incrementAndGet();
+        this.authScriptTotalDurationInMs.addAndGet(durationInMs);
+        this.authScriptMaxDurationInMs.accumulateAndGet(durationInMs, Math::max);
+    }
+
+    public int getAuthScriptRuns() {
+        return this.authScriptRuns.get();
+    }
+
+    public long getAuthScriptMaxDurationInMs() {
+        return this.authScriptMaxDurationInMs.get();
+    }
+
+    /**
+     * Returns the average time it took to run the {@code --authRefreshScript}.
+     *
+     * @return the average duration in milliseconds or 0 if the script didn't run
+     */
+    public long getAuthScriptAverageDurationInMs() {
+        int runs = this.getAuthScriptRuns();
+        if (runs == 0) {
+            return 0;
+        }
+        return this.authScriptTotalDurationInMs.get() / runs;
     }
 
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
+    }
+
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    public int getAuthErrors() {
+        return this.authErrors.get();
+    }
+
+    public int getIoErrors() {
+        return this.ioErrors.get();
     }
 
     public void increaseErrors(String path) {
@@ -65,11 +159,11 @@ public class ExecutionStatisticsListener {
     }
 
     public boolean areManyAuthErrors() {
-        return authErrors > this.getAll() / 2;
+        return this.getAuthErrors() > this.getAll() / 2;
     }
 
     public boolean areManyIoErrors() {
-        return ioErrors > this.getAll() / 2;
+        return this.getIoErrors() > this.getAll() / 2;
     }
 
     public String resultAsStringPerPath(String path) {
@@ -0,0 +1,19 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCase;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Holds the state of a running test case. Contexts are created by {@link TestCaseListener#createAndExecuteTest(io.github.ludovicianul.prettylogger.PrettyLogger, com.endava.cats.fuzzer.api.Fuzzer, java.util.function.Consumer)}
+ * and are meant to be passed explicitly to the components participating in the test execution, so that a test case is no longer tied
+ * to the thread that started it.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class TestCaseContext {
+    private final String testId;
+    private final String fuzzerKey;
+    private final CatsTestCase testCase;
+}
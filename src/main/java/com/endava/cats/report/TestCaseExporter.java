@@ -181,6 +181,17 @@ public abstract class TestCaseExporter {
 
         ConsoleUtils.emptyLine();
         logger.star(finalMessage, duration, executionStatisticsListener.getAll(), executionStatisticsListener.getSuccess(), executionStatisticsListener.getWarns(), executionStatisticsListener.getErrors(), executionStatisticsListener.getSkipped());
+        if (executionStatisticsListener.getConnectionsAcquired() > 0) {
+            logger.star("Connections opened {}, requests sent {}, connection reuse {}%", executionStatisticsListener.getConnectionsOpened(),
+                    executionStatisticsListener.getConnectionsAcquired(), executionStatisticsListener.getConnectionReusePercentage());
+        }
+        if (executionStatisticsListener.getAuthScriptRuns() > 0) {
+            logger.star("Auth script runs {}, average run time {}ms, longest run time {}ms", executionStatisticsListener.getAuthScriptRuns(),
+                    executionStatisticsListener.getAuthScriptAverageDurationInMs(), executionStatisticsListener.getAuthScriptMaxDurationInMs());
+        }
+        if (executionStatisticsListener.getRequestsPerMinuteLimit() > 0) {
+            logger.star("Adaptive rate limit at the end of the run: {} requests/minute", executionStatisticsListener.getRequestsPerMinuteLimit());
+        }
     }
 
 
@@ -196,6 +207,13 @@ public abstract class TestCaseExporter {
         context.put("TEST_CASES", report.getTestCases());
         context.put("EXECUTION", Duration.ofSeconds(report.getExecutionTime()).toString().toLowerCase(Locale.ROOT).substring(2));
         context.put("VERSION", report.getCatsVersion());
+        context.put("RATE_LIMIT", report.getRequestsPerMinuteLimit());
+        context.put("CONNECTIONS_OPENED", report.getConnectionsOpened());
+        context.put("REQUESTS_SENT", report.getRequestsSent());
+        context.put("CONNECTION_REUSE", report.getConnectionReusePercentage());
+        context.put("AUTH_SCRIPT_RUNS", report.getAuthScriptRuns());
+        context.put("AUTH_SCRIPT_AVERAGE", report.getAuthScriptAverageDurationInMs());
+        context.put("AUTH_SCRIPT_MAX", report.getAuthScriptMaxDurationInMs());
         context.put("JS", this.isJavascript());
         Writer writer = this.getSummaryTemplate().execute(new StringWriter(), context);
 
@@ -216,11 +234,20 @@ public abstract class TestCaseExporter {
                 .map(CatsTestCaseSummary::fromCatsTestCase)
                 .sorted()
                 .toList();
+        boolean connectionsUsed = executionStatisticsListener.getConnectionsAcquired() > 0;
+        boolean authScriptUsed = executionStatisticsListener.getAuthScriptRuns() > 0;
 
         return CatsTestReport.builder().testCases(summaries).errors(executionStatisticsListener.getErrors())
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
                 .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
                 .executionTime(((System.currentTimeMillis() - t0) / 1000))
+                .requestsPerMinuteLimit(executionStatisticsListener.getRequestsPerMinuteLimit() > 0 ? executionStatisticsListener.getRequestsPerMinuteLimit() : null)
+                .connectionsOpened(connectionsUsed ? executionStatisticsListener.getConnectionsOpened() : null)
+                .requestsSent(connectionsUsed ? executionStatisticsListener.getConnectionsAcquired() : null)
+                .connectionReusePercentage(connectionsUsed ? executionStatisticsListener.getConnectionReusePercentage() : null)
+                .authScriptRuns(authScriptUsed ? executionStatisticsListener.getAuthScriptRuns() : null)
+                .authScriptAverageDurationInMs(authScriptUsed ? executionStatisticsListener.getAuthScriptAverageDurationInMs() : null)
+                .authScriptMaxDurationInMs(authScriptUsed ? executionStatisticsListener.getAuthScriptMaxDurationInMs() : null)
                 .catsVersion(this.version).build();
     }
 
@@ -7,6 +7,7 @@ import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
+import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsResultFactory;
@@ -17,7 +18,6 @@ import com.endava.cats.util.ConsoleUtils;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
-import com.google.gson.stream.JsonReader;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -30,17 +30,21 @@ import org.slf4j.event.Level;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -53,15 +57,14 @@ import static org.fusesource.jansi.Ansi.ansi;
 @ApplicationScoped
 @DryRun
 public class TestCaseListener {
-    public static final String ID = "id";
     public static final String FUZZER_KEY = "fuzzerKey";
     public static final String FUZZER = "fuzzer";
     protected static final String ID_ANSI = "id_ansi";
-    protected static final AtomicInteger TEST = new AtomicInteger(0);
     private static final String DEFAULT_ERROR = "####";
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414", "501");
     public static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
-    protected final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    protected final Map<String, CatsTestCase> testCaseMap = new ConcurrentHashMap<>();
+    private final AtomicInteger testIdSequence = new AtomicInteger(0);
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutionStatisticsListener executionStatisticsListener;
@@ -77,8 +80,8 @@ public class TestCaseListener {
     @ConfigProperty(name = "app.timestamp", defaultValue = "1-1-1")
     String appBuildTime;
 
-    private final Map<String, Double> runPerPathListener = new HashMap<>();
-    private final Map<String, Integer> runTotals = new HashMap<>();
+    private final Map<String, Double> runPerPathListener = new ConcurrentHashMap<>();
+    private final Map<String, Integer> runTotals = new ConcurrentHashMap<>();
 
     public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, Instance<TestCaseExporter> exporters, IgnoreArguments filterArguments, ReportingArguments reportingArguments) {
         this.executionStatisticsListener = er;
@@ -113,79 +116,138 @@ public class TestCaseListener {
         MDC.put(FUZZER_KEY, CatsUtil.FUZZER_KEY_DEFAULT);
     }
 
-    public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
-        this.startTestCase();
+    /**
+     * Creates a new test case and executes the given logic. The created {@code TestCaseContext} is passed to the test logic
+     * so that it can be supplied explicitly to all the components recording details about the test case.
+     *
+     * @param externalLogger the logger of the caller
+     * @param fuzzer         the current fuzzer
+     * @param testLogic      the logic of the test case
+     */
+    public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Consumer<TestCaseContext> testLogic) {
+        TestCaseContext context = this.startTestCase();
+        try {
+            testLogic.accept(context);
+        } catch (Exception e) {
+            this.handleUnexpectedException(context, externalLogger, fuzzer, e);
+        }
+        this.endTestCase(context);
+    }
+
+    /**
+     * Creates a new test case whose execution completes asynchronously. The given logic is started on the calling thread
+     * and must return a future which completes when the test case has finished reporting its result.
+     * The test case is ended, and written to the report, when the returned future completes.
+     * <p>
+     * The logic completing the future usually runs on a different thread, which is why all the reporting methods
+     * receive the {@code TestCaseContext} explicitly.
+     * </p>
+     *
+     * @param externalLogger the logger of the caller
+     * @param fuzzer         the current fuzzer
+     * @param testLogic      the logic of the test case
+     * @return a future completing when the test case ended; the future never completes exceptionally
+     */
+    public CompletableFuture<Void> createAndExecuteTestAsync(PrettyLogger externalLogger, Fuzzer fuzzer, Function<TestCaseContext, CompletableFuture<?>> testLogic) {
+        TestCaseContext context = this.startTestCase();
+        Map<String, String> loggingContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+        CompletableFuture<?> execution;
         try {
-            s.run();
+            execution = testLogic.apply(context);
         } catch (Exception e) {
-            CatsResultFactory.CatsResult catsResult = CatsResultFactory.createUnexpectedException(fuzzer.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
-            this.reportResultError(externalLogger, FuzzingData.builder().path(DEFAULT_ERROR).contractPath(DEFAULT_ERROR).build(), catsResult.reason(), catsResult.message());
-            externalLogger.error("Exception while processing: {}", e.getMessage());
-            externalLogger.debug("Detailed stacktrace", e);
-            this.checkForIOErrors(e);
+            execution = CompletableFuture.failedFuture(e);
+        } finally {
+            MDC.put(ID_ANSI, CatsUtil.TEST_KEY_DEFAULT);
         }
-        this.endTestCase();
+
+        return execution.handle((result, throwable) -> {
+            Map<String, String> previousLoggingContext = MDC.getCopyOfContextMap();
+            MDC.setContextMap(loggingContext);
+            try {
+                if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    this.handleUnexpectedException(context, externalLogger, fuzzer, cause);
+                }
+                this.endTestCase(context);
+            } finally {
+                MDC.setContextMap(Optional.ofNullable(previousLoggingContext).orElse(Map.of()));
+            }
+            return null;
+        });
+    }
+
+    private void handleUnexpectedException(TestCaseContext context, PrettyLogger externalLogger, Fuzzer fuzzer, Throwable e) {
+        CatsResultFactory.CatsResult catsResult = CatsResultFactory.createUnexpectedException(fuzzer.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
+        this.reportResultError(context, externalLogger, FuzzingData.builder().path(DEFAULT_ERROR).contractPath(DEFAULT_ERROR).build(), catsResult.reason(), catsResult.message());
+        externalLogger.error("Exception while processing: {}", e.getMessage());
+        externalLogger.debug("Detailed stacktrace", e);
+        this.checkForIOErrors(e);
     }
 
-    private void startTestCase() {
-        String testId = String.valueOf(TEST.incrementAndGet());
-        MDC.put(ID, testId);
+    private TestCaseContext startTestCase() {
+        String testId = String.valueOf(testIdSequence.incrementAndGet());
         MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 6, Ansi.Color.MAGENTA));
 
-        testCaseMap.put(testId, new CatsTestCase());
-        testCaseMap.get(testId).setTestId("Test " + testId);
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test " + testId);
+        testCaseMap.put(testId, testCase);
+
+        return new TestCaseContext(testId, MDC.get(FUZZER_KEY), testCase);
+    }
+
+    private CatsTestCase resolveTestCase(TestCaseContext context) {
+        return Objects.requireNonNull(context, "No test case context supplied").getTestCase();
     }
 
     public void setTotalRunsPerPath(String path, Integer totalToBeRun) {
         this.runTotals.put(path, totalToBeRun);
     }
 
-    public void addScenario(PrettyLogger logger, String scenario, Object... params) {
+    public void addScenario(TestCaseContext context, PrettyLogger logger, String scenario, Object... params) {
         logger.info(scenario, params);
-        testCaseMap.get(MDC.get(ID)).setScenario(replaceBrackets(scenario, params));
+        this.resolveTestCase(context).setScenario(replaceBrackets(scenario, params));
     }
 
-    public void addExpectedResult(PrettyLogger logger, String expectedResult, Object... params) {
+    public void addExpectedResult(TestCaseContext context, PrettyLogger logger, String expectedResult, Object... params) {
         logger.note(expectedResult, params);
-        testCaseMap.get(MDC.get(ID)).setExpectedResult(replaceBrackets(expectedResult, params));
+        this.resolveTestCase(context).setExpectedResult(replaceBrackets(expectedResult, params));
     }
 
-    public void addPath(String path) {
-        testCaseMap.get(MDC.get(ID)).setPath(path);
+    public void addPath(TestCaseContext context, String path) {
+        this.resolveTestCase(context).setPath(path);
     }
 
-    public void addContractPath(String path) {
-        testCaseMap.get(MDC.get(ID)).setContractPath(path);
+    public void addContractPath(TestCaseContext context, String path) {
+        this.resolveTestCase(context).setContractPath(path);
     }
 
-    public void addServer(String server) {
-        testCaseMap.get(MDC.get(ID)).setServer(server);
+    public void addServer(TestCaseContext context, String server) {
+        this.resolveTestCase(context).setServer(server);
     }
 
-    public void addRequest(CatsRequest request) {
-        testCaseMap.get(MDC.get(ID)).setRequest(request);
+    public void addRequest(TestCaseContext context, CatsRequest request) {
+        this.resolveTestCase(context).setRequest(request);
     }
 
-    public void addResponse(CatsResponse response) {
-        testCaseMap.get(MDC.get(ID)).setResponse(response);
+    public void addResponse(TestCaseContext context, CatsResponse response) {
+        this.resolveTestCase(context).setResponse(response);
     }
 
-    public void addFullRequestPath(String fullRequestPath) {
-        testCaseMap.get(MDC.get(ID)).setFullRequestPath(fullRequestPath);
+    public void addFullRequestPath(TestCaseContext context, String fullRequestPath) {
+        this.resolveTestCase(context).setFullRequestPath(fullRequestPath);
     }
 
-    private void endTestCase() {
-        testCaseMap.get(MDC.get(ID)).setFuzzer(MDC.get(FUZZER_KEY));
-        if (testCaseMap.get(MDC.get(ID)).isNotSkipped()) {
-            CatsTestCase testCase = testCaseMap.get(MDC.get(ID));
+    private void endTestCase(TestCaseContext context) {
+        CatsTestCase testCase = context.getTestCase();
+        testCase.setFuzzer(context.getFuzzerKey());
+        if (testCase.isNotSkipped()) {
             testCaseExporter.writeTestCase(testCase);
         }
-        MDC.remove(ID);
         MDC.put(ID_ANSI, CatsUtil.TEST_KEY_DEFAULT);
         logger.info(SEPARATOR);
     }
 
-    public void notifySummaryObservers(String path, String method, double chunkSize) {
+    public synchronized void notifySummaryObservers(String path, String method, double chunkSize) {
         if (reportingArguments.isSummaryInConsole()) {
             double percentage = runPerPathListener.getOrDefault(path, 0d) + chunkSize;
             String printPath = path + "  " + (percentage >= 100 ? executionStatisticsListener.resultAsStringPerPath(path) : method);
@@ -237,14 +299,12 @@ public class TestCaseListener {
         testCaseExporter.printExecutionDetails(executionStatisticsListener);
     }
 
-    private void setResultReason(CatsResultFactory.CatsResult catsResult) {
-        CatsTestCase testCase = testCaseMap.get(MDC.get(ID));
-        testCase.setResultReason(catsResult.reason());
+    private void setResultReason(TestCaseContext context, CatsResultFactory.CatsResult catsResult) {
+        this.setResultReason(context, catsResult.reason());
     }
 
-    private void setResultReason(String reason) {
-        CatsTestCase testCase = testCaseMap.get(MDC.get(ID));
-        testCase.setResultReason(reason);
+    private void setResultReason(TestCaseContext context, String reason) {
+        this.resolveTestCase(context).setResultReason(reason);
     }
 
     /**
@@ -252,50 +312,51 @@ public class TestCaseListener {
      * is in the ignored list, the method will actually report INFO instead of WARN.
      * If {@code --skipReportingForIgnoredCodes} is also enabled, the reporting for these ignored codes will be skipped entirely.
      *
+     * @param context the test case context
      * @param logger  the current logger
      * @param message message to be logged
      * @param params  params needed by the message
      */
-    void reportWarn(PrettyLogger logger, String message, Object... params) {
+    void reportWarn(TestCaseContext context, PrettyLogger logger, String message, Object... params) {
         this.logger.debug("Reporting warn with message: {}", replaceBrackets(message, params));
-        CatsTestCase testCase = testCaseMap.get(MDC.get(TestCaseListener.ID));
+        CatsTestCase testCase = this.resolveTestCase(context);
         CatsResponse catsResponse = Optional.ofNullable(testCase.getResponse()).orElse(CatsResponse.empty());
         if (ignoreArguments.isSkipReportingForWarnings()) {
             this.logger.debug(RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING);
-            this.skipTest(logger, replaceBrackets("Skip reporting as --skipReportingForWarnings is enabled"));
-            this.recordResult(message, params, SKIP_REPORTING, logger);
+            this.skipTest(context, logger, replaceBrackets("Skip reporting as --skipReportingForWarnings is enabled"));
+            this.recordResult(context, message, params, SKIP_REPORTING, logger);
         } else if (ignoreArguments.isNotIgnoredResponse(catsResponse)) {
             this.logger.debug("Received response is not marked as ignored... reporting warn!");
             executionStatisticsListener.increaseWarns(testCase.getContractPath());
             logger.warning(message, params);
-            this.recordResult(message, params, Level.WARN.toString().toLowerCase(), logger);
+            this.recordResult(context, message, params, Level.WARN.toString().toLowerCase(), logger);
         } else if (ignoreArguments.isSkipReportingForIgnoredCodes()) {
             this.logger.debug(RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING);
-            this.skipTest(logger, replaceBrackets("Some response elements were marked as ignored and --skipReportingForIgnoredCodes is enabled."));
-            this.recordResult(message, params, SKIP_REPORTING, logger);
+            this.skipTest(context, logger, replaceBrackets("Some response elements were marked as ignored and --skipReportingForIgnoredCodes is enabled."));
+            this.recordResult(context, message, params, SKIP_REPORTING, logger);
         } else {
             this.logger.debug("Received response is marked as ignored... reporting info!");
-            this.reportInfo(logger, message, params);
+            this.reportInfo(context, logger, message, params);
         }
     }
 
-    private void reportWarnOrInfoBasedOnCheck(PrettyLogger logger, FuzzingData data, CatsResultFactory.CatsResult catsResult, boolean ignoreCheck, Object... params) {
+    private void reportWarnOrInfoBasedOnCheck(TestCaseContext context, PrettyLogger logger, FuzzingData data, CatsResultFactory.CatsResult catsResult, boolean ignoreCheck, Object... params) {
         if (ignoreCheck) {
-            this.reportInfo(logger, catsResult, params);
-            setResultReason(catsResult);
+            this.reportInfo(context, logger, catsResult, params);
+            this.setResultReason(context, catsResult);
         } else {
-            this.reportResultWarn(logger, data, catsResult.reason(), catsResult.message(), params);
+            this.reportResultWarn(context, logger, data, catsResult.reason(), catsResult.message(), params);
         }
     }
 
-    public void reportResultWarn(PrettyLogger logger, FuzzingData data, String reason, String message, Object... params) {
-        this.reportWarn(logger, message, params);
-        setResultReason(reason);
+    public void reportResultWarn(TestCaseContext context, PrettyLogger logger, FuzzingData data, String reason, String message, Object... params) {
+        this.reportWarn(context, logger, message, params);
+        this.setResultReason(context, reason);
     }
 
-    private void reportError(PrettyLogger logger, CatsResultFactory.CatsResult catsResult, Object... params) {
-        this.reportError(logger, catsResult.message(), params);
-        setResultReason(catsResult);
+    private void reportError(TestCaseContext context, PrettyLogger logger, CatsResultFactory.CatsResult catsResult, Object... params) {
+        this.reportError(context, logger, catsResult.message(), params);
+        this.setResultReason(context, catsResult);
     }
 
     /**
@@ -303,26 +364,27 @@ public class TestCaseListener {
      * is in the ignored list, the method will actually report INFO instead of ERROR.
      * If {@code --skipReportingForIgnoredCodes} is also enabled, the reporting for these ignored codes will be skipped entirely.
      *
+     * @param context the test case context
      * @param logger  the current logger
      * @param message message to be logged
      * @param params  params needed by the message
      */
-    void reportError(PrettyLogger logger, String message, Object... params) {
+    void reportError(TestCaseContext context, PrettyLogger logger, String message, Object... params) {
         this.logger.debug("Reporting error with message: {}", replaceBrackets(message, params));
-        CatsTestCase testCase = testCaseMap.get(MDC.get(TestCaseListener.ID));
+        CatsTestCase testCase = this.resolveTestCase(context);
         CatsResponse catsResponse = Optional.ofNullable(testCase.getResponse()).orElse(CatsResponse.empty());
         if (ignoreArguments.isNotIgnoredResponse(catsResponse) || catsResponse.exceedsExpectedResponseTime(reportingArguments.getMaxResponseTime())) {
             this.logger.debug("Received response is not marked as ignored... reporting error!");
             executionStatisticsListener.increaseErrors(testCase.getPath());
             logger.error(message, params);
-            this.recordResult(message, params, Level.ERROR.toString().toLowerCase(), logger);
+            this.recordResult(context, message, params, Level.ERROR.toString().toLowerCase(), logger);
         } else if (ignoreArguments.isSkipReportingForIgnoredCodes()) {
             this.logger.debug(RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING);
-            this.skipTest(logger, "Some response elements were was marked as ignored and --skipReportingForIgnoredCodes is enabled.");
-            this.recordResult(message, params, SKIP_REPORTING, logger);
+            this.skipTest(context, logger, "Some response elements were was marked as ignored and --skipReportingForIgnoredCodes is enabled.");
+            this.recordResult(context, message, params, SKIP_REPORTING, logger);
         } else {
             this.logger.debug("Received response is marked as ignored... reporting info!");
-            this.reportInfo(logger, message, params);
+            this.reportInfo(context, logger, message, params);
         }
         recordAuthErrors(catsResponse);
     }
@@ -333,61 +395,70 @@ public class TestCaseListener {
         }
     }
 
-    private void checkForIOErrors(Exception e) {
+    private void checkForIOErrors(Throwable e) {
         if (e.getCause() instanceof IOException) {
             executionStatisticsListener.increaseIoErrors();
         }
     }
 
-    public void reportResultError(PrettyLogger logger, FuzzingData data, String reason, String message, Object... params) {
-        this.reportError(logger, message, params);
-        setResultReason(reason);
+    public void reportResultError(TestCaseContext context, PrettyLogger logger, FuzzingData data, String reason, String message, Object... params) {
+        this.reportError(context, logger, message, params);
+        this.setResultReason(context, reason);
     }
 
-    private void reportSkipped(PrettyLogger logger, Object... params) {
+    private void reportSkipped(TestCaseContext context, PrettyLogger logger, Object... params) {
         executionStatisticsListener.increaseSkipped();
         logger.skip("Skipped due to: {}", params);
-        CatsTestCase testCase = testCaseMap.get(MDC.get(ID));
+        CatsTestCase testCase = this.resolveTestCase(context);
         testCase.setResultSkipped();
         testCase.setResultDetails(replaceBrackets("Skipped due to: {}", params));
     }
 
-    void reportInfo(PrettyLogger logger, String message, Object... params) {
-        CatsTestCase testCase = testCaseMap.get(MDC.get(TestCaseListener.ID));
+    void reportInfo(TestCaseContext context, PrettyLogger logger, String message, Object... params) {
+        CatsTestCase testCase = this.resolveTestCase(context);
         CatsResponse catsResponse = Optional.ofNullable(testCase.getResponse()).orElse(CatsResponse.empty());
         if (ignoreArguments.isSkipReportingForSuccess()) {
             this.logger.debug(RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING);
-            this.skipTest(logger, replaceBrackets("Skip reporting as --skipReportingForSuccess is enabled"));
-            this.recordResult(message, params, SKIP_REPORTING, logger);
+            this.skipTest(context, logger, replaceBrackets("Skip reporting as --skipReportingForSuccess is enabled"));
+            this.recordResult(context, message, params, SKIP_REPORTING, logger);
         } else if (ignoreArguments.isIgnoredResponse(catsResponse) && ignoreArguments.isSkipReportingForIgnoredCodes()) {
             this.logger.debug(RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING);
-            this.skipTest(logger, "Some response elements were was marked as ignored and --skipReportingForIgnoredCodes is enabled.");
-            this.recordResult(message, params, SKIP_REPORTING, logger);
+            this.skipTest(context, logger, "Some response elements were was marked as ignored and --skipReportingForIgnoredCodes is enabled.");
+            this.recordResult(context, message, params, SKIP_REPORTING, logger);
         } else if (catsResponse.exceedsExpectedResponseTime(reportingArguments.getMaxResponseTime())) {
             this.logger.debug("Received response time exceeds --maxResponseTimeInMs: actual {}, max {}",
                     catsResponse.getResponseTimeInMs(), reportingArguments.getMaxResponseTime());
-            this.reportError(logger, CatsResultFactory.createResponseTimeExceedsMax(catsResponse.getResponseTimeInMs(), reportingArguments.getMaxResponseTime()));
+            this.reportError(context, logger, CatsResultFactory.createResponseTimeExceedsMax(catsResponse.getResponseTimeInMs(), reportingArguments.getMaxResponseTime()));
         } else {
             executionStatisticsListener.increaseSuccess(testCase.getContractPath());
             logger.success(message, params);
-            this.recordResult(message, params, "success", logger);
+            this.recordResult(context, message, params, "success", logger);
         }
     }
 
-    private void reportInfo(PrettyLogger logger, CatsResultFactory.CatsResult catsResult, Object... params) {
-        this.reportInfo(logger, catsResult.message(), params);
+    private void reportInfo(TestCaseContext context, PrettyLogger logger, CatsResultFactory.CatsResult catsResult, Object... params) {
+        this.reportInfo(context, logger, catsResult.message(), params);
     }
 
-    public void reportResultInfo(PrettyLogger logger, FuzzingData data, String message, Object... params) {
-        this.reportInfo(logger, message, params);
+    public void reportResultInfo(TestCaseContext context, PrettyLogger logger, FuzzingData data, String message, Object... params) {
+        this.reportInfo(context, logger, message, params);
     }
 
-
-    public void reportResult(PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode) {
-        this.reportResult(logger, data, response, expectedResultCode, true);
+    public void reportResult(TestCaseContext context, PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode) {
+        this.reportResult(context, logger, data, response, expectedResultCode, true);
     }
 
-    public void reportResult(PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode, boolean shouldMatchToResponseSchema) {
+    /**
+     * Reports the result of the given test case based on the received response and the expected response code.
+     *
+     * @param context                     the test case context
+     * @param logger                      the logger of the caller
+     * @param data                        the current fuzzing data
+     * @param response                    the response received from the service
+     * @param expectedResultCode          the expected response code family
+     * @param shouldMatchToResponseSchema whether the response body must match the documented response schema
+     */
+    public void reportResult(TestCaseContext context, PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode, boolean shouldMatchToResponseSchema) {
         boolean matchesResponseSchema = !shouldMatchToResponseSchema || this.matchesResponseSchema(response, data);
         boolean responseCodeExpected = this.isResponseCodeExpected(response, expectedResultCode);
         boolean responseCodeDocumented = this.isResponseCodeDocumented(data, response);
@@ -401,37 +472,35 @@ public class TestCaseListener {
 
         if (assertions.isResponseCodeExpectedAndDocumentedAndMatchesResponseSchema()) {
             this.logger.debug("Response code expected and documented and matches response schema");
-            this.reportInfo(logger, CatsResultFactory.createExpectedResponse(response.responseCodeAsString()));
+            this.reportInfo(context, logger, CatsResultFactory.createExpectedResponse(response.responseCodeAsString()));
         } else if (isNotFound(response)) {
             this.logger.debug("NOT_FOUND response");
-            this.reportError(logger, CatsResultFactory.createNotFound());
+            this.reportError(context, logger, CatsResultFactory.createNotFound());
         } else if (assertions.isResponseCodeUnimplemented()) {
             this.logger.debug("Response code unimplemented");
             CatsResultFactory.CatsResult notImplementedResult = CatsResultFactory.createNotImplemented();
-            this.reportResultWarn(logger, data, notImplementedResult.reason(), notImplementedResult.message());
+            this.reportResultWarn(context, logger, data, notImplementedResult.reason(), notImplementedResult.message());
         } else if (assertions.isResponseCodeExpectedAndDocumentedButDoesntMatchResponseSchema()) {
             this.logger.debug("Response code expected and documented and but doesn't match response schema");
-            this.reportWarnOrInfoBasedOnCheck(logger, data, CatsResultFactory.createNotMatchingResponseSchema(response.responseCodeAsString()), ignoreArguments.isIgnoreResponseBodyCheck());
+            this.reportWarnOrInfoBasedOnCheck(context, logger, data, CatsResultFactory.createNotMatchingResponseSchema(response.responseCodeAsString()), ignoreArguments.isIgnoreResponseBodyCheck());
         } else if (assertions.isResponseCodeExpectedButNotDocumented()) {
             this.logger.debug("Response code expected but not documented");
-            this.reportWarnOrInfoBasedOnCheck(logger, data,
+            this.reportWarnOrInfoBasedOnCheck(context, logger, data,
                     CatsResultFactory.createUndocumentedResponseCode(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString(), data.getResponseCodes().toString()),
                     ignoreArguments.isIgnoreResponseCodeUndocumentedCheck());
         } else if (assertions.isResponseCodeDocumentedButNotExpected()) {
             this.logger.debug("Response code documented but not expected");
-            this.reportError(logger, CatsResultFactory.createUnexpectedResponseCode(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
+            this.reportError(context, logger, CatsResultFactory.createUnexpectedResponseCode(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
         } else {
             this.logger.debug("Unexpected behaviour");
-            this.reportError(logger, CatsResultFactory.createUnexpectedBehaviour(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
+            this.reportError(context, logger, CatsResultFactory.createUnexpectedBehaviour(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
         }
     }
 
     private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses().computeIfAbsent(data.getPath(), key -> new ConcurrentLinkedDeque<>()).add(response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("Successful DELETE. Removing top POST request from the store...");
             globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
@@ -452,17 +521,17 @@ public class TestCaseListener {
         return documentedResponseCodes.stream().anyMatch(code -> code.equalsIgnoreCase(receivedResponseCode));
     }
 
-    public void skipTest(PrettyLogger logger, String skipReason) {
-        this.addExpectedResult(logger, skipReason);
-        this.reportSkipped(logger, skipReason);
+    public void skipTest(TestCaseContext context, PrettyLogger logger, String skipReason) {
+        this.addExpectedResult(context, logger, skipReason);
+        this.reportSkipped(context, logger, skipReason);
     }
 
     public boolean isFieldNotADiscriminator(String fuzzedField) {
         return globalContext.getDiscriminators().stream().noneMatch(discriminator -> fuzzedField.endsWith(discriminator.getPropertyName()));
     }
 
-    private void recordResult(String message, Object[] params, String result, PrettyLogger logger) {
-        CatsTestCase testCase = testCaseMap.get(MDC.get(ID));
+    private void recordResult(TestCaseContext context, String message, Object[] params, String result, PrettyLogger logger) {
+        CatsTestCase testCase = this.resolveTestCase(context);
         testCase.setResult(result);
         testCase.setResultDetails(replaceBrackets(message, params));
         logger.star("{}, Path {}, HttpMethod {}, Result {}", testCase.getTestId(), testCase.getPath(), Optional.ofNullable(testCase.getRequest()).orElse(CatsRequest.empty()).getHttpMethod(), result);
@@ -489,9 +558,7 @@ public class TestCaseListener {
     }
 
     private boolean matchesResponseSchema(CatsResponse response, FuzzingData data) {
-        JsonReader reader = new JsonReader(new StringReader(response.getBody()));
-        reader.setLenient(true);
-        JsonElement jsonElement = JsonParser.parseReader(reader);
+        JsonElement jsonElement = response.isValidJson() ? response.getJsonBody() : JsonUtils.parseAsJsonElement(response.getBody());
         List<String> responses = this.getExpectedResponsesByResponseCode(response, data);
         return isActualResponseMatchingDocumentedResponses(response, jsonElement, responses)
                 || isResponseEmpty(response, responses)
@@ -0,0 +1,120 @@
+package com.endava.cats.util;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Source of randomness used when generating data.
+ * <p>
+ * Each thread draws from its own {@link SplittableRandom}, so generation doesn't contend on a shared generator when fuzzers run in parallel.
+ * All streams are derived from a global seed, which can be supplied using {@code --seed} in order to replay a run. Each unit of work,
+ * such as creating the fuzzing data for a path or running a fuzzer for an HTTP method, starts its own stream derived from the seed
+ * and the unit name, so that the generated values don't depend on which thread runs the unit or in which order units are run.
+ * </p>
+ * <p>
+ * Values generated here are not meant for security purposes; use {@link java.security.SecureRandom} for those.
+ * </p>
+ */
+public final class CatsRandom {
+    private static volatile long seed = new SplittableRandom().nextLong();
+    private static final ThreadLocal<Random> CURRENT = ThreadLocal.withInitial(() -> new SplittableRandomAdapter(newStream(Thread.currentThread().getName())));
+
+    private CatsRandom() {
+        //ntd
+    }
+
+    /**
+     * Sets the global seed. When no seed is supplied, the randomly chosen seed of the current run is kept.
+     * The stream of the calling thread is restarted from the new seed.
+     *
+     * @param suppliedSeed the seed supplied by the user or null
+     */
+    public static void initRandom(Long suppliedSeed) {
+        seed = Optional.ofNullable(suppliedSeed).orElse(seed);
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the seed of the current run. Supplying it using {@code --seed} replays the generated values.
+     *
+     * @return the global seed
+     */
+    public static long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Starts a new random stream for the given unit of work on the current thread.
+     *
+     * @param unitName a name identifying the unit of work within a run
+     */
+    public static void startWorkUnit(String unitName) {
+        CURRENT.set(new SplittableRandomAdapter(newStream(unitName)));
+    }
+
+    /**
+     * Returns the random generator of the current thread. The returned instance must not be shared with other threads.
+     *
+     * @return the random generator of the current thread
+     */
+    public static Random instance() {
+        return CURRENT.get();
+    }
+
+    private static SplittableRandom newStream(String name) {
+        return new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * name.hashCode()));
+    }
+
+    /**
+     * Exposes a {@link SplittableRandom} as a {@link Random} for APIs which only accept the latter, such as regex generators or shuffling.
+     * Unlike {@link Random}, this is not thread safe.
+     */
+    private static final class SplittableRandomAdapter extends Random {
+        private final transient SplittableRandom splittableRandom;
+
+        SplittableRandomAdapter(SplittableRandom splittableRandom) {
+            this.splittableRandom = splittableRandom;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return splittableRandom.nextInt() >>> (32 - bits);
+        }
+
+        @Override
+        public int nextInt() {
+            return splittableRandom.nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return splittableRandom.nextInt(bound);
+        }
+
+        @Override
+        public int nextInt(int origin, int bound) {
+            return splittableRandom.nextInt(origin, bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return splittableRandom.nextLong();
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            return splittableRandom.nextLong(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return splittableRandom.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return splittableRandom.nextBoolean();
+        }
+    }
+}
@@ -11,7 +11,6 @@ import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import jakarta.enterprise.context.ApplicationScoped;
-import net.minidev.json.JSONArray;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.jboss.logmanager.LogContext;
@@ -79,7 +78,7 @@ public class CatsUtil {
         if (JsonUtils.isJsonArray(payload)) {
             jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
         }
-        DocumentContext jsonDocument = JsonPath.parse(payload);
+        DocumentContext jsonDocument = JsonUtils.parse(payload);
         replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, with);
 
         return new FuzzingResult(jsonDocument.jsonString(), with);
@@ -92,9 +91,9 @@ public class CatsUtil {
                 jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
                 jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
             }
-            DocumentContext jsonDocument = JsonPath.parse(payload);
-            Object oldValue = jsonDocument.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
-            if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
+            DocumentContext jsonDocument = JsonUtils.parse(payload);
+            Object oldValue = jsonDocument.read(JsonUtils.compilePath(jsonPropToGetValue));
+            if (oldValue instanceof List && !jsonPropToGetValue.contains("[*]")) {
                 oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
                 jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
             }
@@ -115,12 +114,12 @@ public class CatsUtil {
                 jsonPropertyForReplacement = removeArrayTermination(jsonPropertyForReplacement);
             }
             try {
-                jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), JsonUtils.GENERIC_PERMISSIVE_PARSER.parse(String.valueOf(valueToSet)));
+                jsonDocument.set(JsonUtils.compilePath(jsonPropertyForReplacement), JsonUtils.GENERIC_PERMISSIVE_PARSER.parse(String.valueOf(valueToSet)));
             } catch (ParseException e) {
                 throw new CatsException(e);
             }
         } else {
-            jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), valueToSet);
+            jsonDocument.set(JsonUtils.compilePath(jsonPropertyForReplacement), valueToSet);
         }
     }
 
@@ -144,7 +143,7 @@ public class CatsUtil {
     public String setAdditionalPropertiesToPayload(Map<String, Object> currentPathValues, String payload) {
         String additionalProperties = WordUtils.nullOrValueOf(currentPathValues.get(ADDITIONAL_PROPERTIES));
         if (additionalProperties != null && StringUtils.isNotBlank(payload)) {
-            DocumentContext jsonDoc = JsonPath.parse(payload);
+            DocumentContext jsonDoc = JsonUtils.parse(payload);
             String mapValues = additionalProperties;
             String prefix = "$";
             if (additionalProperties.contains(ELEMENT)) {
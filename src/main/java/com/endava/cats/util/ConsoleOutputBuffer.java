@@ -0,0 +1,99 @@
+package com.endava.cats.util;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Filter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Holds back the log records of a unit of work running concurrently with other units and publishes them all at once when
+ * the unit finishes, so that the console lines of different Fuzzers are not interleaved.
+ * <p>
+ * Records are captured by a filter installed on the root log handlers, only for threads running a buffered unit.
+ * Log lines written from other threads, like the ones completing asynchronous calls, are still published as they happen.
+ * The filters are installed by {@link #install()} when a concurrent run starts and the original filters are restored
+ * by {@link #uninstall()} once the last concurrent run ends.
+ * </p>
+ */
+final class ConsoleOutputBuffer {
+    private static final ThreadLocal<List<Runnable>> BUFFERED_RECORDS = new ThreadLocal<>();
+    private static final Object PUBLISH_LOCK = new Object();
+    private static final List<BufferingFilter> INSTALLED_FILTERS = new ArrayList<>();
+    private static int activeRuns;
+
+    private ConsoleOutputBuffer() {
+        //ntd
+    }
+
+    /**
+     * Runs the given unit while buffering all its log records and publishes them once the unit finishes, even if it fails.
+     * Records are only buffered between {@link #install()} and {@link #uninstall()}.
+     *
+     * @param unit the unit of work
+     */
+    static void runBuffered(Runnable unit) {
+        List<Runnable> records = new ArrayList<>();
+        BUFFERED_RECORDS.set(records);
+        try {
+            unit.run();
+        } finally {
+            BUFFERED_RECORDS.remove();
+            synchronized (PUBLISH_LOCK) {
+                records.forEach(Runnable::run);
+            }
+        }
+    }
+
+    /**
+     * Installs the buffering filter on the root log handlers. Calls can be nested, the filters being installed only once.
+     */
+    static synchronized void install() {
+        activeRuns++;
+        if (activeRuns > 1) {
+            return;
+        }
+        for (Handler handler : LogContext.getLogContext().getLogger("").getHandlers()) {
+            BufferingFilter filter = new BufferingFilter(handler, handler.getFilter());
+            handler.setFilter(filter);
+            INSTALLED_FILTERS.add(filter);
+        }
+    }
+
+    /**
+     * Restores the original filters of the root log handlers once the last run which called {@link #install()} ends.
+     * Filters replaced in the meantime by other components are left untouched.
+     */
+    static synchronized void uninstall() {
+        if (activeRuns == 0 || --activeRuns > 0) {
+            return;
+        }
+        for (BufferingFilter filter : INSTALLED_FILTERS) {
+            if (filter.handler().getFilter() == filter) {
+                filter.handler().setFilter(filter.delegate());
+            }
+        }
+        INSTALLED_FILTERS.clear();
+    }
+
+    private record BufferingFilter(Handler handler, Filter delegate) implements Filter {
+        @Override
+        public boolean isLoggable(LogRecord logRecord) {
+            if (delegate != null && !delegate.isLoggable(logRecord)) {
+                return false;
+            }
+            List<Runnable> records = BUFFERED_RECORDS.get();
+            if (records == null) {
+                return true;
+            }
+            if (logRecord instanceof ExtLogRecord extLogRecord) {
+                extLogRecord.copyAll();
+            }
+            records.add(() -> handler.publish(logRecord));
+            return false;
+        }
+    }
+}
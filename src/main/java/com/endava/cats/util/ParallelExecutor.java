@@ -0,0 +1,125 @@
+package com.endava.cats.util;
+
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.exception.CatsException;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent units of work using at most {@code --parallelism} threads.
+ * When parallelism is 1 the units are run sequentially on the calling thread, preserving the classic CATS behaviour.
+ * <p>
+ * Logging context (MDC) from the calling thread is propagated to each unit so that log lines keep their test and fuzzer prefixes.
+ * When running concurrently, the log lines of each unit are buffered and printed together once the unit finishes, so that
+ * the output of different units is not interleaved.
+ * </p>
+ */
+@ApplicationScoped
+public class ParallelExecutor {
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ParallelExecutor.class);
+    private final ProcessingArguments processingArguments;
+    private ExecutorService executorService;
+
+    @Inject
+    public ParallelExecutor(ProcessingArguments processingArguments) {
+        this.processingArguments = processingArguments;
+    }
+
+    /**
+     * Runs all the given units and waits for all of them to complete.
+     * Exceptions thrown by any of the units are re-thrown after all units finished.
+     *
+     * @param units the units of work to run
+     */
+    public void runAll(List<Runnable> units) {
+        if (!isParallel() || units.size() <= 1) {
+            units.forEach(Runnable::run);
+            return;
+        }
+        Map<String, String> callerContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+        List<Future<?>> futures = new ArrayList<>();
+        ConsoleOutputBuffer.install();
+        try {
+            for (Runnable unit : units) {
+                futures.add(this.getExecutorService().submit(() -> runWithContext(unit, callerContext)));
+            }
+            this.waitForAll(futures);
+        } finally {
+            ConsoleOutputBuffer.uninstall();
+        }
+    }
+
+    private static void runWithContext(Runnable unit, Map<String, String> context) {
+        MDC.setContextMap(context);
+        try {
+            ConsoleOutputBuffer.runBuffered(unit);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void waitForAll(List<Future<?>> futures) {
+        RuntimeException firstFailure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(remaining -> remaining.cancel(true));
+                return;
+            } catch (ExecutionException e) {
+                logger.debug("Unit of work failed", e.getCause());
+                if (firstFailure == null) {
+                    firstFailure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new CatsException(e);
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    /**
+     * Checks if units will be run concurrently.
+     *
+     * @return true if {@code --parallelism} is greater than 1, false otherwise
+     */
+    public boolean isParallel() {
+        return processingArguments.getParallelism() > 1;
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executorService = Executors.newFixedThreadPool(processingArguments.getParallelism(), runnable -> {
+                Thread thread = new Thread(runnable, "cats-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            logger.debug("Started worker pool with {} threads", processingArguments.getParallelism());
+        }
+        return executorService;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+}
@@ -50,4 +50,43 @@ class ApiArgumentsTest {
         Assertions.assertThatThrownBy(() -> apiArguments.validateRequired(spec))
                 .isInstanceOf(CommandLine.ParameterException.class).hasMessageContaining("contract");
     }
+
+    @Test
+    void shouldThrowExceptionWhenH2cUsedWithHttpsServer() {
+        CommandLine.Model.CommandSpec spec = Mockito.mock(CommandLine.Model.CommandSpec.class);
+        Mockito.when(spec.commandLine()).thenReturn(Mockito.mock(CommandLine.class));
+        ApiArguments apiArguments = new ApiArguments();
+        ReflectionTestUtils.setField(apiArguments, "contract", "contract");
+        ReflectionTestUtils.setField(apiArguments, "server", "https://localhost:8443");
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.H2C);
+
+        Assertions.assertThatThrownBy(() -> apiArguments.validateRequired(spec))
+                .isInstanceOf(CommandLine.ParameterException.class).hasMessageContaining("--protocol=H2C");
+    }
+
+    @Test
+    void shouldAcceptH2cWithHttpServer() {
+        CommandLine.Model.CommandSpec spec = Mockito.mock(CommandLine.Model.CommandSpec.class);
+        ApiArguments apiArguments = new ApiArguments();
+        ReflectionTestUtils.setField(apiArguments, "contract", "contract");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.H2C);
+
+        Assertions.assertThatNoException().isThrownBy(() -> apiArguments.validateRequired(spec));
+        Assertions.assertThat(apiArguments.isH2cOverTls("https://localhost:8443")).isTrue();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenHttp2UsedWithHttpServer() {
+        CommandLine.Model.CommandSpec spec = Mockito.mock(CommandLine.Model.CommandSpec.class);
+        Mockito.when(spec.commandLine()).thenReturn(Mockito.mock(CommandLine.class));
+        ApiArguments apiArguments = new ApiArguments();
+        ReflectionTestUtils.setField(apiArguments, "contract", "contract");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.HTTP_2);
+
+        Assertions.assertThatThrownBy(() -> apiArguments.validateRequired(spec))
+                .isInstanceOf(CommandLine.ParameterException.class).hasMessageContaining("--protocol=HTTP_2");
+        Assertions.assertThat(apiArguments.isHttp2OverCleartext("https://localhost:8443")).isFalse();
+    }
 }
@@ -0,0 +1,141 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.generator.format.api.FormatGeneratorRegistry;
+import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.generator.format.impl.Bcp47Generator;
+import com.endava.cats.generator.format.impl.BinaryGenerator;
+import com.endava.cats.generator.format.impl.CardNumberGenerator;
+import com.endava.cats.generator.format.impl.CountryCodeAlpha2Generator;
+import com.endava.cats.generator.format.impl.CountryCodeAlpha3Generator;
+import com.endava.cats.generator.format.impl.CountryCodeGenerator;
+import com.endava.cats.generator.format.impl.CurrencyCodeGenerator;
+import com.endava.cats.generator.format.impl.DateGenerator;
+import com.endava.cats.generator.format.impl.DateTimeGenerator;
+import com.endava.cats.generator.format.impl.DurationGenerator;
+import com.endava.cats.generator.format.impl.EmailGenerator;
+import com.endava.cats.generator.format.impl.Gtin13Generator;
+import com.endava.cats.generator.format.impl.Gtin8Generator;
+import com.endava.cats.generator.format.impl.HostnameGenerator;
+import com.endava.cats.generator.format.impl.IPV4Generator;
+import com.endava.cats.generator.format.impl.IPV6Generator;
+import com.endava.cats.generator.format.impl.IRIGenerator;
+import com.endava.cats.generator.format.impl.IRIReferenceGenerator;
+import com.endava.cats.generator.format.impl.ISBN10Generator;
+import com.endava.cats.generator.format.impl.ISBN13Generator;
+import com.endava.cats.generator.format.impl.IdnEmailGenerator;
+import com.endava.cats.generator.format.impl.IdnHostnameGenerator;
+import com.endava.cats.generator.format.impl.JsonPointerGenerator;
+import com.endava.cats.generator.format.impl.KvPairsGenerator;
+import com.endava.cats.generator.format.impl.PasswordGenerator;
+import com.endava.cats.generator.format.impl.PeriodGenerator;
+import com.endava.cats.generator.format.impl.RegexGenerator;
+import com.endava.cats.generator.format.impl.RelativeJsonPointerGenerator;
+import com.endava.cats.generator.format.impl.TimeGenerator;
+import com.endava.cats.generator.format.impl.URIGenerator;
+import com.endava.cats.generator.format.impl.URIReferenceGenerator;
+import com.endava.cats.generator.format.impl.URITemplateGenerator;
+import com.endava.cats.generator.format.impl.UUIDGenerator;
+import com.endava.cats.generator.format.impl.UnixtimeGenerator;
+import com.endava.cats.generator.format.impl.VoidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares probing every format generator for each property with looking up the generator in the {@link FormatGeneratorRegistry},
+ * for a mix of properties matched by format, by property name or not matched at all.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=com.endava.cats.benchmark.FormatGeneratorBenchmark -Dexec.classpathScope=test}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatGeneratorBenchmark {
+    private static final List<ValidDataFormatGenerator> GENERATORS = List.of(
+            new Bcp47Generator(),
+            new BinaryGenerator(),
+            new CardNumberGenerator(),
+            new CountryCodeAlpha2Generator(),
+            new CountryCodeAlpha3Generator(),
+            new CountryCodeGenerator(),
+            new CurrencyCodeGenerator(),
+            new DateGenerator(),
+            new DateTimeGenerator(),
+            new DurationGenerator(),
+            new EmailGenerator(),
+            new Gtin13Generator(),
+            new Gtin8Generator(),
+            new HostnameGenerator(),
+            new IPV4Generator(),
+            new IPV6Generator(),
+            new IRIGenerator(),
+            new IRIReferenceGenerator(),
+            new ISBN10Generator(),
+            new ISBN13Generator(),
+            new IdnEmailGenerator(),
+            new IdnHostnameGenerator(),
+            new JsonPointerGenerator(),
+            new KvPairsGenerator(),
+            new PasswordGenerator(),
+            new PeriodGenerator(),
+            new RegexGenerator(),
+            new RelativeJsonPointerGenerator(),
+            new TimeGenerator(),
+            new URIGenerator(),
+            new URIReferenceGenerator(),
+            new URITemplateGenerator(),
+            new UUIDGenerator(),
+            new UnixtimeGenerator(),
+            new VoidGenerator());
+
+    private static final List<String[]> PROPERTIES = List.of(
+            new String[]{"", "id"}, new String[]{"", "name"}, new String[]{"", "description"},
+            new String[]{"date-time", "createdAt"}, new String[]{"uuid", "orderId"}, new String[]{"", "customer_email"},
+            new String[]{"", "billingCountryCode"}, new String[]{"", "currency-code"}, new String[]{"int64", "quantity"},
+            new String[]{"", "server_ip"}, new String[]{"uri", "callbackUrl"}, new String[]{"", "isbn"});
+
+    private FormatGeneratorRegistry<ValidDataFormatGenerator> registry;
+
+    @Setup
+    public void setup() {
+        registry = new FormatGeneratorRegistry<>(GENERATORS);
+    }
+
+    @Benchmark
+    public void probeAllGenerators(Blackhole blackhole) {
+        for (String[] property : PROPERTIES) {
+            blackhole.consume(GENERATORS.stream()
+                    .filter(generator -> generator.appliesTo(property[0], property[1]))
+                    .findFirst());
+        }
+    }
+
+    @Benchmark
+    public void lookupInRegistry(Blackhole blackhole) {
+        for (String[] property : PROPERTIES) {
+            blackhole.consume(registry.find(property[0], property[1]));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FormatGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,89 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.json.JsonUtils;
+import com.endava.cats.model.CatsResponse;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import net.minidev.json.JSONValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a response body once per consumer (validation, report, schema matching and each custom fuzzer variable)
+ * with parsing it once into the tree shared through {@link CatsResponse#getJsonBody()}.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=com.endava.cats.benchmark.ResponseParsingBenchmark -Dexec.classpathScope=test}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+    private static final List<String> VARIABLES = List.of("id", "name", "items#0#value", "meta#total");
+
+    @Param({"10", "1000"})
+    private int items;
+
+    private String body;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("{\"id\": 1, \"name\": \"cats\", \"meta\": {\"total\": ").append(items).append("}, \"items\": [");
+        for (int i = 0; i < items; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"value\": \"item").append(i).append("\", \"index\": ").append(i).append('}');
+        }
+        body = builder.append("]}").toString();
+    }
+
+    @Benchmark
+    public void parsePerConsumer(Blackhole blackhole) {
+        boolean validJson = JSONValue.isValidJson(body);
+        blackhole.consume(validJson);
+        blackhole.consume(JsonParser.parseString(body));
+
+        JsonReader reader = new JsonReader(new StringReader(body));
+        reader.setLenient(true);
+        blackhole.consume(JsonParser.parseReader(reader));
+
+        for (String variable : VARIABLES) {
+            blackhole.consume(JsonUtils.getVariableFromJson(body, variable));
+        }
+    }
+
+    @Benchmark
+    public void parseOnceShared(Blackhole blackhole) {
+        CatsResponse response = CatsResponse.builder().body(body).build();
+        blackhole.consume(response.isValidJson());
+        JsonElement jsonBody = response.getJsonBody();
+        blackhole.consume(jsonBody);
+
+        for (String variable : VARIABLES) {
+            blackhole.consume(JsonUtils.getVariableFromJson(jsonBody, variable));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResponseParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
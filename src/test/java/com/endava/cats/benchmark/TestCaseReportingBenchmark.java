@@ -0,0 +1,114 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.args.IgnoreArguments;
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.TestCaseContext;
+import com.endava.cats.report.TestCaseExporter;
+import com.endava.cats.report.TestCaseExporterHtmlJs;
+import com.endava.cats.report.TestCaseListener;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.enterprise.inject.Instance;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Compares recording the details and the result of a test case by passing the {@link TestCaseContext} explicitly
+ * with the previous mechanism, which stored the test id in the {@link MDC} and resolved the test case from a {@code HashMap}
+ * keyed by that id on every reporting call. The baseline does one lookup per reporting call, while the previous
+ * implementation did it for every field being read or written, so the measured difference is a lower bound.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=com.endava.cats.benchmark.TestCaseReportingBenchmark -Dexec.classpathScope=test}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestCaseReportingBenchmark {
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseReportingBenchmark.class);
+    private final CatsRequest request = CatsRequest.builder().httpMethod("POST").url("http://localhost/pets").build();
+    private final CatsResponse response = CatsResponse.builder().responseCode(200).body("{}").build();
+    private final FuzzingData data = FuzzingData.builder().path("/pets").responseCodes(Set.of("200")).build();
+
+    private static final String ID = "id";
+    private final Map<String, TestCaseContext> testCaseMap = new HashMap<>();
+
+    private TestCaseListener testCaseListener;
+    private TestCaseContext context;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
+        Mockito.when(exporters.stream()).thenReturn(Stream.of(new TestCaseExporterHtmlJs()));
+        testCaseListener = new TestCaseListener(new CatsGlobalContext(), new ExecutionStatisticsListener(), exporters, new IgnoreArguments(), new ReportingArguments());
+
+        AtomicReference<TestCaseContext> started = new AtomicReference<>();
+        testCaseListener.createAndExecuteTestAsync(logger, Mockito.mock(Fuzzer.class), testCaseContext -> {
+            started.set(testCaseContext);
+            return new CompletableFuture<>();
+        });
+        context = started.get();
+        testCaseListener.addPath(context, "/pets");
+        testCaseListener.addContractPath(context, "/pets");
+
+        MDC.put(ID, context.getTestId());
+        testCaseMap.put(context.getTestId(), context);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.remove(ID);
+    }
+
+    @Benchmark
+    public TestCaseContext reportWithExplicitContext() {
+        testCaseListener.addRequest(context, request);
+        testCaseListener.addResponse(context, response);
+        testCaseListener.reportResultInfo(context, logger, data, "Response code {}", "200");
+        return context;
+    }
+
+    @Benchmark
+    public TestCaseContext reportWithMdcTestCaseLookup() {
+        testCaseListener.addRequest(testCaseMap.get(MDC.get(ID)), request);
+        testCaseListener.addResponse(testCaseMap.get(MDC.get(ID)), response);
+        testCaseListener.reportResultInfo(testCaseMap.get(MDC.get(ID)), logger, data, "Response code {}", "200");
+        return context;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TestCaseReportingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
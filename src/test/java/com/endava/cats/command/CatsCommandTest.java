@@ -3,6 +3,7 @@ package com.endava.cats.command;
 import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.CheckArguments;
 import com.endava.cats.args.FilterArguments;
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
@@ -38,6 +39,8 @@ class CatsCommandTest {
     ReportingArguments reportingArguments;
     @Inject
     ApiArguments apiArguments;
+    @Inject
+    ProcessingArguments processingArguments;
     @InjectSpy
     FuzzingDataFactory fuzzingDataFactory;
     @InjectSpy
@@ -137,8 +140,8 @@ class CatsCommandTest {
         Mockito.verify(spyMain).startFuzzing(Mockito.any());
         Mockito.verify(testCaseListener, Mockito.times(1)).startSession();
         Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
-        Mockito.verify(testCaseListener, Mockito.times(20)).afterFuzz(Mockito.any(), Mockito.any());
-        Mockito.verify(testCaseListener, Mockito.times(10)).beforeFuzz(PathTagsLinterFuzzer.class);
+        Mockito.verify(testCaseListener, Mockito.times(12)).afterFuzz(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(6)).beforeFuzz(PathTagsLinterFuzzer.class);
 
         ReflectionTestUtils.setField(apiArguments, "contract", "empty");
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
@@ -176,6 +179,26 @@ class CatsCommandTest {
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldRunFirstPhaseFuzzersConcurrentlyAndSecondPhaseAfterwards() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        processingArguments.setParallelism(4);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersAsFuzzers()).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener), new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(Mockito.mock(CheckDeletedResourcesNotAvailableFuzzer.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pets", "/pets/{id}"));
+
+        catsMain.run();
+        processingArguments.setParallelism(1);
+
+        Mockito.verify(testCaseListener, Mockito.times(9)).afterFuzz(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(6)).beforeFuzz(PathTagsLinterFuzzer.class);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
     @Test
     void shouldReturnErrorsExitCode() {
         Mockito.when(executionStatisticsListener.getErrors()).thenReturn(190);
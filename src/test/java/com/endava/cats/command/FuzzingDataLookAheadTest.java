@@ -0,0 +1,101 @@
+package com.endava.cats.command;
+
+import com.endava.cats.model.FuzzingData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.PathItem;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class FuzzingDataLookAheadTest {
+
+    @Test
+    void shouldReturnFuzzingDataInPathsOrder() {
+        List<Map.Entry<String, PathItem>> paths = createPaths(5);
+
+        try (FuzzingDataLookAhead lookAhead = new FuzzingDataLookAhead(paths, FuzzingDataLookAheadTest::createFuzzingData, 2)) {
+            List<String> fuzzedPaths = IntStream.range(0, 5).mapToObj(i -> lookAhead.next().get(0).getPath()).toList();
+
+            Assertions.assertThat(fuzzedPaths).containsExactly("/path0", "/path1", "/path2", "/path3", "/path4");
+        }
+    }
+
+    @Test
+    void shouldPrepareAtMostLookAheadPaths() throws Exception {
+        List<Map.Entry<String, PathItem>> paths = createPaths(10);
+        Set<String> producedPaths = ConcurrentHashMap.newKeySet();
+        CountDownLatch lookAheadPrepared = new CountDownLatch(3);
+
+        try (FuzzingDataLookAhead lookAhead = new FuzzingDataLookAhead(paths, path -> {
+            producedPaths.add(path.getKey());
+            lookAheadPrepared.countDown();
+            return createFuzzingData(path);
+        }, 2)) {
+            lookAhead.next();
+            Assertions.assertThat(lookAheadPrepared.await(5, TimeUnit.SECONDS)).isTrue();
+            TimeUnit.MILLISECONDS.sleep(100);
+
+            Assertions.assertThat(producedPaths).containsOnly("/path0", "/path1", "/path2");
+        }
+    }
+
+    @Test
+    void shouldPrepareOnCallingThreadWhenNoLookAhead() {
+        List<Map.Entry<String, PathItem>> paths = createPaths(2);
+        Thread caller = Thread.currentThread();
+
+        try (FuzzingDataLookAhead lookAhead = new FuzzingDataLookAhead(paths, path -> {
+            Assertions.assertThat(Thread.currentThread()).isSameAs(caller);
+            return createFuzzingData(path);
+        }, 0)) {
+            Assertions.assertThat(lookAhead.next().get(0).getPath()).isEqualTo("/path0");
+            Assertions.assertThat(lookAhead.next().get(0).getPath()).isEqualTo("/path1");
+        }
+    }
+
+    @Test
+    void shouldPrepareAllPathsOnTheSameWorkerThread() {
+        List<Map.Entry<String, PathItem>> paths = createPaths(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        try (FuzzingDataLookAhead lookAhead = new FuzzingDataLookAhead(paths, path -> {
+            threads.add(Thread.currentThread().getName());
+            return createFuzzingData(path);
+        }, 3)) {
+            IntStream.range(0, 4).forEach(i -> lookAhead.next());
+
+            Assertions.assertThat(threads).containsOnly("cats-fuzzing-data");
+        }
+    }
+
+    @Test
+    void shouldRethrowExceptionAndContinueWithNextPaths() {
+        List<Map.Entry<String, PathItem>> paths = createPaths(2);
+
+        try (FuzzingDataLookAhead lookAhead = new FuzzingDataLookAhead(paths, path -> {
+            if ("/path0".equals(path.getKey())) {
+                throw new IllegalStateException("cannot create data");
+            }
+            return createFuzzingData(path);
+        }, 1)) {
+            Assertions.assertThatThrownBy(lookAhead::next).isInstanceOf(IllegalStateException.class).hasMessage("cannot create data");
+            Assertions.assertThat(lookAhead.next().get(0).getPath()).isEqualTo("/path1");
+        }
+    }
+
+    private static List<Map.Entry<String, PathItem>> createPaths(int size) {
+        return IntStream.range(0, size).mapToObj(i -> Map.entry("/path" + i, new PathItem())).toList();
+    }
+
+    private static List<FuzzingData> createFuzzingData(Map.Entry<String, PathItem> path) {
+        return List.of(FuzzingData.builder().path(path.getKey()).build());
+    }
+}
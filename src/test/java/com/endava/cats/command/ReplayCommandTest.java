@@ -49,9 +49,9 @@ class ReplayCommandTest {
         ReflectionTestUtils.setField(replayCommand, "debug", debug);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("");
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenReturn(response);
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any(), Mockito.anySet())).thenReturn(response);
         replayCommand.run();
-        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.any(), Mockito.eq(Collections.emptySet()));
+        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.any(), Mockito.any(), Mockito.eq(Collections.emptySet()));
         Mockito.verifyNoInteractions(testCaseListener);
     }
 
@@ -61,9 +61,9 @@ class ReplayCommandTest {
         ReflectionTestUtils.setField(replayCommand, "outputReportFolder", "replay-report");
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("");
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenReturn(response);
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any(), Mockito.anySet())).thenReturn(response);
         replayCommand.run();
-        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.any(), Mockito.eq(Collections.emptySet()));
+        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.any(), Mockito.any(), Mockito.eq(Collections.emptySet()));
         Mockito.verify(testCaseListener).writeHelperFiles();
         Mockito.verify(testCaseListener).writeIndividualTestCase(Mockito.any());
     }
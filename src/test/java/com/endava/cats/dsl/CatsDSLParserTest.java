@@ -85,4 +85,10 @@ class CatsDSLParserTest {
         String actual = CatsDSLParser.parseAndGetResult(input, Map.of("name", "john"));
         Assertions.assertThat(actual).isEqualTo(parsedOutput);
     }
+
+    @ParameterizedTest
+    @CsvSource({"test,true", "$$PATH,true", "T(java.time.OffsetDateTime).now(),false", "${request.field},false", "$request.field,false", "auth_script,false"})
+    void shouldCheckIfValueIsStatic(String value, boolean expected) {
+        Assertions.assertThat(CatsDSLParser.isStatic(value)).isEqualTo(expected);
+    }
 }
@@ -8,20 +8,31 @@ import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 @QuarkusTest
 class AuthScriptProviderParserTest {
     private AuthScriptProviderParser authScriptProviderParser;
 
     private PrettyLogger prettyLogger;
+    private ScheduledExecutorService scheduler;
 
     @BeforeEach
     void setup() {
-        authScriptProviderParser = new AuthScriptProviderParser();
+        scheduler = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.doReturn(Mockito.mock(ScheduledFuture.class)).when(scheduler).schedule(Mockito.any(Runnable.class), Mockito.anyLong(), Mockito.any());
+        authScriptProviderParser = new AuthScriptProviderParser(scheduler);
         prettyLogger = Mockito.mock(PrettyLogger.class);
         ReflectionTestUtils.setField(authScriptProviderParser, "logger", prettyLogger);
     }
@@ -39,25 +50,83 @@ class AuthScriptProviderParserTest {
         authScriptProviderParser.parse(null, context);
         Mockito.verify(prettyLogger, Mockito.times(0)).debug("Refresh interval passed.");
         Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
+        Mockito.verifyNoInteractions(scheduler);
     }
 
     @Test
-    void shouldRefreshOnInterval() throws Exception {
+    void shouldRefreshOnInterval() {
         Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, "hostname", Parser.AUTH_REFRESH, "1");
 
         Assertions.assertThat(authScriptProviderParser.parse(null, context)).isNotBlank();
-        Mockito.verify(prettyLogger, Mockito.times(0)).debug("Refresh interval passed.");
-        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
-
-        Thread.sleep(500);
         Assertions.assertThat(authScriptProviderParser.parse(null, context)).isNotBlank();
         Mockito.verify(prettyLogger, Mockito.times(0)).debug("Refresh interval passed.");
         Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
+        Mockito.verify(scheduler).schedule(Mockito.any(Runnable.class), Mockito.longThat(delay -> delay >= 500 && delay <= 1000), Mockito.eq(TimeUnit.MILLISECONDS));
 
-        Thread.sleep(600);
+        this.runScheduledRefresh();
         Assertions.assertThat(authScriptProviderParser.parse(null, context)).isNotBlank();
         Mockito.verify(prettyLogger, Mockito.times(1)).debug("Refresh interval passed.");
         Mockito.verify(prettyLogger, Mockito.times(2)).note("Running script {} to get credentials", "hostname");
+    }
+
+    @Test
+    void shouldServeRefreshedCredentialsFromBackground() throws Exception {
+        Path script = createScript("echo first");
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, script.toString(), Parser.AUTH_REFRESH, "1");
+
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("first");
+        Files.writeString(script, "#!/bin/sh\necho second\n");
+
+        this.runScheduledRefresh();
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("second");
+        Mockito.verify(prettyLogger, Mockito.times(1)).note(Mockito.eq("Auth credentials refreshed in {}ms"), Mockito.anyLong());
+    }
+
+    @Test
+    void shouldKeepPreviousCredentialsWhenRefreshFails() throws Exception {
+        Path script = createScript("echo first");
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, script.toString(), Parser.AUTH_REFRESH, "1");
+
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("first");
+        Files.delete(script);
+
+        this.runScheduledRefresh();
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("first");
+        Mockito.verify(prettyLogger).warning(Mockito.eq("Failed to refresh auth credentials, previous credentials will be used: {}"), Mockito.anyString());
+        Mockito.verify(scheduler).schedule(Mockito.any(Runnable.class), Mockito.eq(1000L), Mockito.eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldStopScriptWhenTimeoutPasses() throws Exception {
+        Path script = createScript("sleep 30\necho late");
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, script.toString(), Parser.AUTH_TIMEOUT, "1");
+
+        Assertions.assertThatThrownBy(() -> authScriptProviderParser.parse(null, context))
+                .isInstanceOf(CatsException.class)
+                .hasMessageContaining("did not finish in 1 seconds");
+    }
+
+    @Test
+    void shouldNotifyRunListenerWithScriptDuration() {
+        List<Long> durations = new ArrayList<>();
+        authScriptProviderParser.setRunListener(durations::add);
+
+        authScriptProviderParser.parse(null, Map.of(Parser.AUTH_SCRIPT, "hostname"));
+
+        Assertions.assertThat(durations).hasSize(1).allMatch(duration -> duration >= 0);
+    }
+
+    private void runScheduledRefresh() {
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(scheduler, Mockito.atLeastOnce()).schedule(refresh.capture(), Mockito.anyLong(), Mockito.eq(TimeUnit.MILLISECONDS));
+        refresh.getValue().run();
+    }
 
+    private static Path createScript(String commands) throws Exception {
+        Path script = Files.createTempFile("auth", ".sh");
+        Files.writeString(script, "#!/bin/sh\n" + commands + "\n");
+        script.toFile().setExecutable(true);
+        script.toFile().deleteOnExit();
+        return script;
     }
 }
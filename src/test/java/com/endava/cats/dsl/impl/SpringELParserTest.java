@@ -0,0 +1,45 @@
+package com.endava.cats.dsl.impl;
+
+import com.endava.cats.dsl.api.Parser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@QuarkusTest
+class SpringELParserTest {
+
+    @Test
+    void shouldReuseCompiledExpressionForDifferentContexts() {
+        SpringELParser parser = new SpringELParser();
+
+        String first = parser.parse("request.id", Map.of(Parser.REQUEST, "{\"id\": \"1\"}"));
+        String second = parser.parse("request.id", Map.of(Parser.REQUEST, "{\"id\": \"2\"}"));
+
+        Assertions.assertThat(first).isEqualTo("1");
+        Assertions.assertThat(second).isEqualTo("2");
+        Assertions.assertThat(parser.getCachedExpressions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheInvalidExpressions() {
+        SpringELParser parser = new SpringELParser();
+
+        String result = parser.parse("T(java.time.OffsetDateTime).now(", Map.of());
+
+        Assertions.assertThat(result).isEqualTo("T(java.time.OffsetDateTime).now(");
+        Assertions.assertThat(parser.getCachedExpressions()).isZero();
+    }
+
+    @Test
+    void shouldBoundCachedExpressions() {
+        SpringELParser parser = new SpringELParser();
+
+        for (int i = 0; i < SpringELParser.MAX_CACHED_EXPRESSIONS + 10; i++) {
+            parser.parse("T(java.lang.Math).abs(" + i + ")", Map.of());
+        }
+
+        Assertions.assertThat(parser.getCachedExpressions()).isLessThanOrEqualTo(SpringELParser.MAX_CACHED_EXPRESSIONS);
+    }
+}
@@ -8,6 +8,7 @@ import com.endava.cats.generator.format.api.ValidDataFormat;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.generator.ExampleCache;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.google.gson.JsonParser;
 import io.quarkus.test.junit.QuarkusTest;
@@ -47,7 +48,7 @@ class FuzzingDataFactoryTest {
         filterArguments = Mockito.mock(FilterArguments.class);
         Mockito.when(processingArguments.isUseExamples()).thenReturn(true);
         Mockito.when(processingArguments.getContentType()).thenReturn(List.of("application/json", "application/x-www-form-urlencoded"));
-        fuzzingDataFactory = new FuzzingDataFactory(filesArguments, processingArguments, catsGlobalContext, validDataFormat, filterArguments);
+        fuzzingDataFactory = new FuzzingDataFactory(filesArguments, processingArguments, catsGlobalContext, validDataFormat, filterArguments, new ExampleCache(processingArguments));
     }
 
     @Test
@@ -65,13 +66,22 @@ class FuzzingDataFactoryTest {
     void givenAContract_whenParsingThePathItemDetailsForPost_thenCorrectFuzzingDataAreBeingReturned() throws Exception {
         List<FuzzingData> data = setupFuzzingData("/pets", "src/test/resources/petstore.yml");
 
-        Assertions.assertThat(data).hasSize(3);
+        Assertions.assertThat(data).hasSize(2);
         Assertions.assertThat(data.get(0).getMethod()).isEqualByComparingTo(HttpMethod.POST);
-        Assertions.assertThat(data.get(1).getMethod()).isEqualByComparingTo(HttpMethod.POST);
-        Assertions.assertThat(data.get(2).getMethod()).isEqualByComparingTo(HttpMethod.GET);
+        Assertions.assertThat(data.get(1).getMethod()).isEqualByComparingTo(HttpMethod.GET);
 
         Assertions.assertThat(data.get(0).getPayload()).doesNotContain("ONE_OF", "ANY_OF");
-        Assertions.assertThat(data.get(1).getPayload()).doesNotContain("ONE_OF", "ANY_OF");
+    }
+
+    @Test
+    void shouldNotSeeRequestDataTypesRecordedAfterFuzzingDataWasCreated() throws Exception {
+        List<FuzzingData> data = setupFuzzingData("/pets", "src/test/resources/petstore.yml");
+        Map<String, Schema> requestPropertyTypes = data.get(0).getRequestPropertyTypes();
+        Assertions.assertThat(requestPropertyTypes).isNotEmpty().doesNotContainKey("fieldRecordedByAnotherPath");
+
+        catsGlobalContext.getRequestDataTypes().put("fieldRecordedByAnotherPath", new Schema<>());
+
+        Assertions.assertThat(data.get(0).getRequestPropertyTypes()).isSameAs(data.get(1).getRequestPropertyTypes()).doesNotContainKey("fieldRecordedByAnotherPath");
     }
 
     @Test
@@ -188,9 +198,8 @@ class FuzzingDataFactoryTest {
     @Test
     void shouldCorrectlyParseRefOneOf() throws Exception {
         List<FuzzingData> dataList = setupFuzzingData("/pet-types", "src/test/resources/petstore.yml");
-        Assertions.assertThat(dataList).hasSize(2);
+        Assertions.assertThat(dataList).hasSize(1);
         Assertions.assertThat(dataList.get(0).getPayload()).contains("\"petType\":{\"breedType\"");
-        Assertions.assertThat(dataList.get(1).getPayload()).contains("\"petType\":{\"breedType\"");
     }
 
     @Test
@@ -204,11 +213,20 @@ class FuzzingDataFactoryTest {
         Assertions.assertThat(JsonParser.parseString(firstData.getPayload()).getAsJsonObject().get("Components").isJsonArray()).isTrue();
     }
 
+    @Test
+    void shouldLimitOneOfCombinations() throws Exception {
+        Mockito.when(processingArguments.getMaxOneOfAnyOfCombinations()).thenReturn(4);
+        List<FuzzingData> dataList = setupFuzzingData("/api/groopits/create", "src/test/resources/nswag_gen_oneof.json");
+
+        Assertions.assertThat(dataList).hasSizeBetween(1, 4);
+        Assertions.assertThat(dataList).allSatisfy(data -> Assertions.assertThat(data.getPayload()).doesNotContain("ANY_OF", "ONE_OF", "ALL_OF"));
+    }
+
     @Test
     void testAgain() throws Exception {
         List<FuzzingData> dataList = setupFuzzingData("/pets-batch", "src/test/resources/petstore.yml");
 
-        Assertions.assertThat(dataList).hasSize(2);
+        Assertions.assertThat(dataList).hasSize(1);
         FuzzingData firstData = dataList.get(0);
         Assertions.assertThat(firstData.getPayload()).doesNotContain("ANY_OF", "ONE_OF", "ALL_OF");
         Assertions.assertThat(JsonParser.parseString(firstData.getPayload()).isJsonArray()).isTrue();
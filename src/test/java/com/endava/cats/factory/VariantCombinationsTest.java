@@ -0,0 +1,55 @@
+package com.endava.cats.factory;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+@QuarkusTest
+class VariantCombinationsTest {
+
+    @Test
+    void shouldSelectAllCombinationsWhenWithinLimit() {
+        List<int[]> combinations = VariantCombinations.select(new int[]{2, 3}, 10).toList();
+
+        Assertions.assertThat(combinations).containsExactly(new int[]{0, 0}, new int[]{1, 0}, new int[]{0, 1},
+                new int[]{1, 1}, new int[]{0, 2}, new int[]{1, 2});
+    }
+
+    @Test
+    void shouldSelectSingleEmptyCombinationWhenNoDimensions() {
+        Assertions.assertThat(VariantCombinations.select(new int[0], 10)).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"3;3;3;3", "2;2;2;2;2;2;2;2;2;2", "5;2;4;3;6", "4;4;4;4;4;4;4;4"})
+    void shouldCoverAllPairsWhenAboveLimit(String dimensions) {
+        int[] sizes = Arrays.stream(dimensions.split(";")).mapToInt(Integer::parseInt).toArray();
+        List<int[]> combinations = VariantCombinations.pairwise(sizes);
+
+        Assertions.assertThat((long) combinations.size()).isLessThan(VariantCombinations.countAll(sizes));
+        for (int first = 0; first < sizes.length; first++) {
+            for (int second = first + 1; second < sizes.length; second++) {
+                for (int firstVariant = 0; firstVariant < sizes[first]; firstVariant++) {
+                    for (int secondVariant = 0; secondVariant < sizes[second]; secondVariant++) {
+                        int f = first, s = second, fv = firstVariant, sv = secondVariant;
+                        Assertions.assertThat(combinations).anyMatch(combination -> combination[f] == fv && combination[s] == sv);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldTruncatePairwiseSelectionToLimit() {
+        int[] sizes = {4, 4, 4, 4, 4, 4};
+
+        Assertions.assertThat(VariantCombinations.countAll(sizes)).isEqualTo(4096);
+        Assertions.assertThat(VariantCombinations.select(sizes, 20)).hasSize(20);
+        Assertions.assertThat(VariantCombinations.select(sizes, 1000)).hasSize(VariantCombinations.pairwise(sizes).size());
+    }
+}
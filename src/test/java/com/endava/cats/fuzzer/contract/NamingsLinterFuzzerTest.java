@@ -66,7 +66,7 @@ class NamingsLinterFuzzerTest {
                 .schemaMap(Map.of("Cats",new Schema().$ref("Cats"))).pathItem(pathItem).headers(Set.of()).reqSchemaName("Cats").build();
 
         namingsContractInfoFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Path does not follow RESTful API naming good practices: {}"), Mockito.contains(path.substring(path.lastIndexOf("/") + 1)));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Path does not follow RESTful API naming good practices: {}"), Mockito.contains(path.substring(path.lastIndexOf("/") + 1)));
     }
 
     @ParameterizedTest
@@ -85,7 +85,7 @@ class NamingsLinterFuzzerTest {
                 .schemaMap(Map.of("Cats",new Schema().$ref("Cats"))).headers(Set.of()).reqSchemaName("Cats").build();
 
         namingsContractInfoFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.eq("Path follows the RESTful API naming good practices."));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq("Path follows the RESTful API naming good practices."));
     }
 
     @ParameterizedTest
@@ -95,7 +95,7 @@ class NamingsLinterFuzzerTest {
 
         namingsContractInfoFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Path does not follow RESTful API naming good practices: {}"),
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Path does not follow RESTful API naming good practices: {}"),
                 Mockito.contains(String.format("JSON objects not matching PascalCase: %s, %s", schemaName, schemaName)));
     }
 
@@ -107,7 +107,7 @@ class NamingsLinterFuzzerTest {
 
         namingsContractInfoFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.eq("Path follows the RESTful API naming good practices."));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq("Path follows the RESTful API naming good practices."));
     }
 
 
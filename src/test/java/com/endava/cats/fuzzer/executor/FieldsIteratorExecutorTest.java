@@ -71,7 +71,7 @@ class FieldsIteratorExecutorTest {
     void shouldReportResult() {
         fieldsIteratorExecutor.execute(setupContextBuilder().expectedResponseCode(ResponseCodeFamily.FOURXX).build());
 
-        Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 
     @ParameterizedTest
@@ -82,7 +82,7 @@ class FieldsIteratorExecutorTest {
         int times = !isSupplied || isMatch ? 4 : 0;
         fieldsIteratorExecutor.execute(setupContextBuilder().build());
 
-        Mockito.verify(testCaseListener, Mockito.times(times)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(times)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     @Test
@@ -91,7 +91,7 @@ class FieldsIteratorExecutorTest {
         Mockito.when(matchArguments.isAnyMatchArgumentSupplied()).thenReturn(true);
         fieldsIteratorExecutor.execute(setupContextBuilder().build());
 
-        Mockito.verify(testCaseListener, Mockito.times(4)).skipTest(Mockito.any(), Mockito.anyString());
+        Mockito.verify(testCaseListener, Mockito.times(4)).skipTest(Mockito.any(), Mockito.any(), Mockito.anyString());
     }
 
     private FieldsIteratorExecutorContext.FieldsIteratorExecutorContextBuilder setupContextBuilder() {
@@ -124,6 +124,6 @@ class FieldsIteratorExecutorTest {
     void shouldNotRunForFieldsRemovedFromRefData() {
         Mockito.when(filesArguments.getRefData(Mockito.any())).thenReturn(Map.of("id", ServiceCaller.CATS_REMOVE_FIELD));
         fieldsIteratorExecutor.execute(setupContextBuilder().expectedResponseCode(ResponseCodeFamily.FOURXX).build());
-        Mockito.verify(testCaseListener, Mockito.times(2)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(2)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 }
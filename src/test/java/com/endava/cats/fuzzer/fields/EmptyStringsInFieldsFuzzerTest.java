@@ -52,7 +52,7 @@ class EmptyStringsInFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("{}");
         emptyStringsInFieldsFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -95,10 +95,10 @@ class InvalidReferencesFieldsFuzzerTest {
         Mockito.when(data.getPath()).thenReturn("/test/{id}/{sub}");
         Mockito.doCallRealMethod().when(simpleExecutor).execute(Mockito.any());
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().responseCode(500).httpMethod("POST").build());
-        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
         invalidReferencesFieldsFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(46)).reportResultError(Mockito.any(), Mockito.eq(data),
+        Mockito.verify(testCaseListener, Mockito.times(46)).reportResultError(Mockito.any(), Mockito.any(), Mockito.eq(data),
                 Mockito.eq("Unexpected response code: 500"),
                 Mockito.eq("Request failed unexpectedly for http method [{}]: expected [{}], actual [{}]"),
                 Mockito.eq(new Object[]{"POST", "4XX, 2XX", "500"}));
@@ -113,10 +113,10 @@ class InvalidReferencesFieldsFuzzerTest {
         Mockito.when(data.getPath()).thenReturn("/test/{id}/{sub}");
         Mockito.doCallRealMethod().when(simpleExecutor).execute(Mockito.any());
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().responseCode(responseCode).httpMethod("POST").build());
-        Mockito.doNothing().when(testCaseListener).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
         invalidReferencesFieldsFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(46)).reportResultInfo(Mockito.any(), Mockito.eq(data),
+        Mockito.verify(testCaseListener, Mockito.times(46)).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.eq(data),
                 Mockito.eq("Response code expected: [{}]"),
                 Mockito.eq(new Object[]{responseCode}));
     }
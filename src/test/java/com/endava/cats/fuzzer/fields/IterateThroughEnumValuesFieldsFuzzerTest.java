@@ -80,7 +80,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
                     {"myField": 3}
                 """);
         iterateThroughEnumValuesFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(0)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(0)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 
     @Test
@@ -99,6 +99,6 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
                     }
                 """);
         iterateThroughEnumValuesFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(3)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
+        Mockito.verify(testCaseListener, Mockito.times(3)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
     }
 }
@@ -47,7 +47,7 @@ class NullValuesInFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("{}");
         nullValuesInFieldsFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -80,6 +80,7 @@ class OverflowArraySizeFieldsFuzzerTest {
     void shouldRunIfFieldArray(Integer maxItems) {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("arrayField"));
+        Mockito.when(data.isArray("arrayField")).thenReturn(true);
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(Map.of("arrayField", new ArraySchema().maxItems(maxItems)));
         Mockito.when(data.getPayload()).thenReturn("""
                    {"arrayField": [{
@@ -88,7 +89,7 @@ class OverflowArraySizeFieldsFuzzerTest {
                     }
                 """);
         overflowArraySizeFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 
 
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @QuarkusTest
 class RemoveFieldsFuzzerTest {
@@ -50,7 +51,7 @@ class RemoveFieldsFuzzerTest {
     void shouldSkipFuzzerIfSkippedTests() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.ONEBYONE);
-        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(Collections.singleton(Collections.singleton("id")));
+        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(FuzzingData.SetFuzzingStrategy.removeOneByOne(Set.of("id")));
         Mockito.when(filterArguments.getSkipFields()).thenReturn(Collections.singletonList("id"));
         removeFieldsFuzzer.fuzz(data);
 
@@ -62,8 +63,8 @@ class RemoveFieldsFuzzerTest {
         setup("{\"field\":\"oldValue\"}");
         removeFieldsFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.eq(catsResponse), Mockito.eq(ResponseCodeFamily.FOURXX));
-        Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.eq(catsResponse), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
     }
 
     @Test
@@ -71,8 +72,28 @@ class RemoveFieldsFuzzerTest {
         setup("[{\"field\":\"oldValue\"}, {\"field\":\"newValue\"}]");
         removeFieldsFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.eq(catsResponse), Mockito.eq(ResponseCodeFamily.FOURXX));
-        Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.eq(catsResponse), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
+    }
+
+    @Test
+    void shouldStopWhenReachingMaxFieldsSubsets() {
+        setup("{\"field\":\"oldValue\"}");
+        Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.POWERSET);
+        Mockito.when(processingArguments.getMaxFieldsSubsets()).thenReturn(2);
+        removeFieldsFuzzer.fuzz(data);
+
+        Mockito.verify(testCaseListener, Mockito.times(2)).createAndExecuteTest(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void shouldRunAllFieldsSubsetsWhenMaxFieldsSubsetsIsZero() {
+        setup("{\"field\":\"oldValue\"}");
+        Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.POWERSET);
+        Mockito.when(processingArguments.getMaxFieldsSubsets()).thenReturn(0);
+        removeFieldsFuzzer.fuzz(data);
+
+        Mockito.verify(testCaseListener, Mockito.times(7)).createAndExecuteTest(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
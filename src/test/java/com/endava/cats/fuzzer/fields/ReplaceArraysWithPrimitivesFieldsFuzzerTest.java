@@ -70,6 +70,7 @@ class ReplaceArraysWithPrimitivesFieldsFuzzerTest {
     void shouldRunIfFieldArray() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("arrayField"));
+        Mockito.when(data.isArray("arrayField")).thenReturn(true);
         Mockito.when(data.getPayload()).thenReturn("""
                    {"arrayField": [{
                             "inner": "innerValue"
@@ -77,7 +78,7 @@ class ReplaceArraysWithPrimitivesFieldsFuzzerTest {
                     }
                 """);
         replaceArraysWithPrimitivesFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 
 
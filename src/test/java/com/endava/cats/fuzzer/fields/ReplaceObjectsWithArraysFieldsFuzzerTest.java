@@ -88,6 +88,7 @@ class ReplaceObjectsWithArraysFieldsFuzzerTest {
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().body("{}").responseCode(200).build());
 
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("objectField"));
+        Mockito.when(data.isObject("objectField")).thenReturn(true);
         Mockito.when(data.getPayload()).thenReturn("""
                     {"objectField": {
                             "inner": "innerValue"
@@ -95,6 +96,6 @@ class ReplaceObjectsWithArraysFieldsFuzzerTest {
                     }
                 """);
         replaceObjectsWithArraysFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 }
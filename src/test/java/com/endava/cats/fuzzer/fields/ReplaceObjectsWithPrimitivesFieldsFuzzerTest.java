@@ -73,6 +73,7 @@ class ReplaceObjectsWithPrimitivesFieldsFuzzerTest {
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().body("{}").responseCode(200).build());
 
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("objectField"));
+        Mockito.when(data.isObject("objectField")).thenReturn(true);
         Mockito.when(data.getPayload()).thenReturn("""
                     {"objectField": {
                             "inner": "innerValue"
@@ -80,6 +81,6 @@ class ReplaceObjectsWithPrimitivesFieldsFuzzerTest {
                     }
                 """);
         replaceObjectsWithPrimitivesFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 }
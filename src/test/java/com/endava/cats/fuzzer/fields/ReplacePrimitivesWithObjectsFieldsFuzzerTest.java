@@ -73,10 +73,11 @@ class ReplacePrimitivesWithObjectsFieldsFuzzerTest {
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().body("{}").responseCode(200).build());
 
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("objectField"));
+        Mockito.when(data.isPrimitive("objectField")).thenReturn(true);
         Mockito.when(data.getPayload()).thenReturn("""
                     {"objectField": 12}
                 """);
         replacePrimitivesWithObjectsFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
 }
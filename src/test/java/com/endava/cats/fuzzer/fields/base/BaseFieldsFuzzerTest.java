@@ -55,7 +55,7 @@ class BaseFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("{}");
 
         baseFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.eq("field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas"));
+        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any(), Mockito.eq("field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas"));
     }
 
     @Test
@@ -74,7 +74,7 @@ class BaseFieldsFuzzerTest {
         FuzzingData data = createFuzzingData();
 
         baseFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
     }
 
     @NotNull
@@ -87,12 +87,13 @@ class BaseFieldsFuzzerTest {
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(schemaMap);
         Mockito.when(data.getPayload()).thenReturn("{\"field\": 2}");
+        Mockito.when(data.isPrimitive("field")).thenReturn(true);
 
         CatsUtil mockCatsUtil = Mockito.mock(CatsUtil.class);
         Mockito.when(mockCatsUtil.replaceField(Mockito.eq("{\"field\": 2}"), Mockito.eq("field"), Mockito.any())).thenReturn(fuzzingResult);
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, mockCatsUtil, filesArguments);
 
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
         return data;
     }
 
@@ -113,7 +114,7 @@ class BaseFieldsFuzzerTest {
         BaseFieldsFuzzer spyFuzzer = Mockito.spy(baseFieldsFuzzer);
         Mockito.when(spyFuzzer.isFuzzerWillingToFuzz(Mockito.eq(data), Mockito.anyString())).thenReturn(false);
         spyFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.eq("field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas"));
+        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any(), Mockito.eq("field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas"));
     }
 
     @Test
@@ -122,11 +123,12 @@ class BaseFieldsFuzzerTest {
         BaseFieldsFuzzer spyFuzzer = Mockito.spy(baseFieldsFuzzer);
         Mockito.when(spyFuzzer.skipForFields()).thenReturn(List.of("field"));
         spyFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.eq("field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas"));
+        Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any(), Mockito.eq("field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas"));
     }
 
     @ParameterizedTest
-    @CsvSource(value = {"null,[a-z]+,200", "cats,[a-z]+,200", "CATS,[a-z]+,400"}, nullValues = "null")
+    @CsvSource(value = {"null,[a-z]+,200", "cats,[a-z]+,200", "CATS,[a-z]+,400", "carepeat_2000000_61_ts,[a-z]+,200",
+            "carepeat_2000000_61_ts,'[a-z]{1,100}',400", "carepeat_2000000_61_ts,(aa)+,200", "carepeat_2000001_61_ts,(aa)+,400"}, nullValues = "null")
     void shouldExpectDifferentCodesBasedOnFuzzedFieldMatchingPattern(String fuzzedValue, String pattern, String responseCode) {
         FuzzingResult fuzzingResult = new FuzzingResult("{\"field\":\"test\"}", fuzzedValue);
         FuzzingData data = Mockito.mock(FuzzingData.class);
@@ -138,14 +140,15 @@ class BaseFieldsFuzzerTest {
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(schemaMap);
         Mockito.when(data.getPayload()).thenReturn("{\"field\": 2}");
+        Mockito.when(data.isPrimitive("field")).thenReturn(true);
 
         CatsUtil mockCatsUtil = Mockito.mock(CatsUtil.class);
         Mockito.when(mockCatsUtil.replaceField(Mockito.eq("{\"field\": 2}"), Mockito.eq("field"), Mockito.any())).thenReturn(fuzzingResult);
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, mockCatsUtil, filesArguments);
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
 
         baseFieldsFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.from(responseCode)));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.from(responseCode)));
     }
 
     static class MyBaseFieldsFuzzer extends BaseFieldsFuzzer {
@@ -65,16 +65,16 @@ class CheckSecurityHeadersFuzzerTest {
     void shouldReportMissingSecurityHeaders() {
         FuzzingData data = FuzzingData.builder().headers(new HashSet<>(HEADERS))
                 .requestContentTypes(Collections.singletonList("application/json")).reqSchema(new StringSchema()).build();
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(),
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(),
                 Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
-        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
 
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(200).headers(SOME_SECURITY_HEADERS).build();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
 
         checkSecurityHeadersFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(),
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(),
                 Mockito.eq("Missing recommended Security Headers: {}"), AdditionalMatchers.aryEq(new Object[]{MISSING_HEADERS.stream().map(Object::toString).collect(Collectors.toSet())}));
     }
 
@@ -82,9 +82,9 @@ class CheckSecurityHeadersFuzzerTest {
     void shouldNotReportMissingSecurityHeaders() {
         FuzzingData data = FuzzingData.builder().headers(new HashSet<>(HEADERS))
                 .requestContentTypes(Collections.singletonList("application/json")).reqSchema(new StringSchema()).build();
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(),
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(),
                 Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
-        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
         List<KeyValuePair<String, String>> allHeaders = new ArrayList<>(SOME_SECURITY_HEADERS);
         allHeaders.add(new KeyValuePair<>("dummy", "dummy"));
 
@@ -94,16 +94,16 @@ class CheckSecurityHeadersFuzzerTest {
 
         checkSecurityHeadersFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
     }
 
     @Test
     void shouldNotReportMissingHeadersWhenCSP() {
         FuzzingData data = FuzzingData.builder().headers(new HashSet<>(HEADERS))
                 .requestContentTypes(Collections.singletonList("application/json")).reqSchema(new StringSchema()).build();
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(),
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(),
                 Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
-        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
         List<KeyValuePair<String, String>> allHeaders = new ArrayList<>(SOME_SECURITY_HEADERS);
         allHeaders.add(new KeyValuePair<>("Content-Security-Policy", "frame-ancestors 'none'"));
         allHeaders.add(new KeyValuePair<>("X-XSS-Protection", "0"));
@@ -113,16 +113,16 @@ class CheckSecurityHeadersFuzzerTest {
 
         checkSecurityHeadersFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
     }
 
     @Test
     void shouldReportMismatchingXXSSProtection() {
         FuzzingData data = FuzzingData.builder().headers(new HashSet<>(HEADERS))
                 .requestContentTypes(Collections.singletonList("application/json")).reqSchema(new StringSchema()).build();
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(),
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(),
                 Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
-        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
         List<KeyValuePair<String, String>> allHeaders = new ArrayList<>(SOME_SECURITY_HEADERS);
         allHeaders.add(new KeyValuePair<>("Content-Security-Policy", "frame-ancestors 'none'"));
         allHeaders.add(new KeyValuePair<>("X-XSS-Protection", "02"));
@@ -132,7 +132,7 @@ class CheckSecurityHeadersFuzzerTest {
 
         checkSecurityHeadersFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(),
+        Mockito.verify(testCaseListener, Mockito.times(1)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(),
                 Mockito.eq("Missing recommended Security Headers: {}"), AdditionalMatchers.aryEq(new Object[]{SECURITY_HEADERS.get("X-XSS-Protection").stream().map(Object::toString).collect(Collectors.toSet())}));
     }
 }
@@ -54,9 +54,9 @@ class LargeNumberOfRandomAlphanumericHeadersFuzzerTest {
 
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().responseCode(code).build());
         largeNumberOfRandomAlphanumericHeadersFuzzer.fuzz(data);
-        Mockito.doNothing().when(testCaseListener).reportResultInfo(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
 
-        Mockito.verify(testCaseListener).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.eq("Request returned as expected for http method [{}] with response code [{}]"), Mockito.any());
+        Mockito.verify(testCaseListener).reportResultInfo(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq("Request returned as expected for http method [{}] with response code [{}]"), Mockito.any());
     }
 
     @Test
@@ -65,9 +65,9 @@ class LargeNumberOfRandomAlphanumericHeadersFuzzerTest {
 
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().responseCode(500).build());
         largeNumberOfRandomAlphanumericHeadersFuzzer.fuzz(data);
-        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any(), Mockito.any());
 
-        Mockito.verify(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.eq("Unexpected Response Code: 500"),
+        Mockito.verify(testCaseListener).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq("Unexpected Response Code: 500"),
                 Mockito.eq("Request failed unexpectedly for http method [{}]: expected [{}], actual [{}]"), Mockito.any());
 
     }
@@ -70,11 +70,11 @@ class UnsupportedContentTypesHeadersFuzzerTest {
                 .requestContentTypes(Collections.singletonList("application/json")).reqSchema(new StringSchema()).build();
         ReflectionTestUtils.setField(data, "processedPayload", "{\"id\": 1}");
 
-        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(),
+        Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.any(),
                 Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX_MT), Mockito.anyBoolean());
         unsupportedContentTypeHeadersFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(29)).reportResult(Mockito.any(),
+        Mockito.verify(testCaseListener, Mockito.times(29)).reportResult(Mockito.any(), Mockito.any(),
                 Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX_MT), Mockito.anyBoolean());
     }
 
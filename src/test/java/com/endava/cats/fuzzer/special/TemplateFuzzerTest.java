@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @QuarkusTest
 class TemplateFuzzerTest {
@@ -72,6 +73,7 @@ class TemplateFuzzerTest {
     void shouldSkipWhenMatchArgumentsButNoMatch() {
         Mockito.when(matchArguments.isAnyMatchArgumentSupplied()).thenReturn(true);
         Mockito.when(matchArguments.isMatchResponse(Mockito.any())).thenReturn(false);
+        Mockito.when(serviceCaller.callServiceAsync(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(CatsResponse.empty()));
         FuzzingData data = FuzzingData.builder()
                 .targetFields(Set.of("field"))
                 .processedPayload("{\"field\":\"value\"}")
@@ -80,7 +82,7 @@ class TemplateFuzzerTest {
                 .method(HttpMethod.POST)
                 .build();
         templateFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(45)).skipTest(Mockito.any(), Mockito.eq("Skipping test as response does not match given matchers!"));
+        Mockito.verify(testCaseListener, Mockito.times(45)).skipTest(Mockito.any(), Mockito.any(), Mockito.eq("Skipping test as response does not match given matchers!"));
     }
 
     @ParameterizedTest
@@ -88,7 +90,7 @@ class TemplateFuzzerTest {
     void shouldRunWhenMatchArgumentsAndResponseMatched(boolean isAnyMatch, boolean isResponseMatch) throws Exception {
         Mockito.when(matchArguments.isAnyMatchArgumentSupplied()).thenReturn(isAnyMatch);
         Mockito.when(matchArguments.isMatchResponse(Mockito.any())).thenReturn(isResponseMatch);
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any())).thenReturn(CatsResponse.empty());
+        Mockito.when(serviceCaller.callServiceAsync(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(CatsResponse.empty()));
         FuzzingData data = FuzzingData.builder()
                 .targetFields(Set.of("field"))
                 .processedPayload("{\"field\":\"value\"}")
@@ -97,13 +99,13 @@ class TemplateFuzzerTest {
                 .method(HttpMethod.POST)
                 .build();
         templateFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(45)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(45)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
     }
 
     @ParameterizedTest
     @CsvSource({"http://localhost/field", "http://localhost/path?field&test=value"})
     void shouldRunWhenPathParam(String url) throws Exception {
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any())).thenReturn(CatsResponse.empty());
+        Mockito.when(serviceCaller.callServiceAsync(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(CatsResponse.empty()));
 
         FuzzingData data = FuzzingData.builder()
                 .targetFields(Set.of("field"))
@@ -113,13 +115,13 @@ class TemplateFuzzerTest {
                 .method(HttpMethod.POST)
                 .build();
         templateFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(38)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(38)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
     }
 
 
     @Test
     void shouldRunWhenTargetFieldInHeader() throws Exception {
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any())).thenReturn(CatsResponse.empty());
+        Mockito.when(serviceCaller.callServiceAsync(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(CatsResponse.empty()));
 
         FuzzingData data = FuzzingData.builder()
                 .targetFields(Set.of("header"))
@@ -129,7 +131,7 @@ class TemplateFuzzerTest {
                 .path("http://url")
                 .build();
         templateFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(45)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(45)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
 
     }
 
@@ -149,7 +151,7 @@ class TemplateFuzzerTest {
 
     @Test
     void shouldRunWithUserDictionary() throws Exception {
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any())).thenReturn(CatsResponse.empty());
+        Mockito.when(serviceCaller.callServiceAsync(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(CatsResponse.empty()));
         FuzzingData data = FuzzingData.builder()
                 .targetFields(Set.of("header"))
                 .processedPayload("{\"field\":\"value\"}")
@@ -159,7 +161,7 @@ class TemplateFuzzerTest {
                 .build();
         Mockito.when(userArguments.getWords()).thenReturn(new File("src/test/resources/dict.txt"));
         templateFuzzer.fuzz(data);
-        Mockito.verify(testCaseListener, Mockito.times(2)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(2)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
     }
 
     @Test
@@ -171,12 +173,12 @@ class TemplateFuzzerTest {
                 .method(HttpMethod.POST)
                 .path("http://url")
                 .build();
-        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenThrow(IOException.class);
+        Mockito.when(serviceCaller.callServiceAsync(Mockito.any(), Mockito.any(), Mockito.anySet())).thenReturn(CompletableFuture.failedFuture(new IOException()));
         Mockito.when(userArguments.getWords()).thenReturn(new File("src/test/resources/dict.txt"));
 
         templateFuzzer.fuzz(data);
 
-        Mockito.verify(testCaseListener, Mockito.times(2)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Something went wrong {}"), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(2)).reportResultError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Something went wrong {}"), Mockito.any());
     }
 
     @Test
@@ -0,0 +1,39 @@
+package com.endava.cats.generator.format.api;
+
+import com.endava.cats.generator.format.impl.EmailGenerator;
+import com.endava.cats.generator.format.impl.IPV4Generator;
+import com.endava.cats.generator.format.impl.UUIDGenerator;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+@QuarkusTest
+class FormatGeneratorRegistryTest {
+
+    @Test
+    void shouldReturnFirstMatchingGenerator() {
+        FormatGeneratorRegistry<ValidDataFormatGenerator> registry = new FormatGeneratorRegistry<>(List.of(new EmailGenerator(), new IPV4Generator(), new UUIDGenerator()));
+
+        Assertions.assertThat(registry.find("ipv4", "email")).containsInstanceOf(EmailGenerator.class);
+        Assertions.assertThat(registry.find("ipv4", "address")).containsInstanceOf(IPV4Generator.class);
+        Assertions.assertThat(registry.find(null, "serverIp")).containsInstanceOf(IPV4Generator.class);
+        Assertions.assertThat(registry.find("uuid", null)).containsInstanceOf(UUIDGenerator.class);
+        Assertions.assertThat(registry.find(null, "name")).isEmpty();
+    }
+
+    @Test
+    void shouldProbeGeneratorsOnceForSameFormatAndPropertyName() {
+        ValidDataFormatGenerator generator = Mockito.mock(ValidDataFormatGenerator.class);
+        Mockito.when(generator.appliesTo("", "name")).thenReturn(false);
+        FormatGeneratorRegistry<ValidDataFormatGenerator> registry = new FormatGeneratorRegistry<>(List.of(generator));
+
+        registry.find(null, "name");
+        registry.find("", "name");
+
+        Assertions.assertThat(registry.find(null, "name")).isEmpty();
+        Mockito.verify(generator, Mockito.times(1)).appliesTo("", "name");
+    }
+}
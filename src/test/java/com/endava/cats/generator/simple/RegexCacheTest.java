@@ -0,0 +1,31 @@
+package com.endava.cats.generator.simple;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.PatternSyntaxException;
+
+@QuarkusTest
+class RegexCacheTest {
+
+    @Test
+    void shouldReuseCompiledPatterns() {
+        long hits = RegexCache.getPatternsStats().hitCount();
+
+        Assertions.assertThat(RegexCache.compile("[a-z]{3}cats")).isSameAs(RegexCache.compile("[a-z]{3}cats"));
+        Assertions.assertThat(RegexCache.getPatternsStats().hitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    void shouldReuseRegexGenerators() {
+        Assertions.assertThat(RegexCache.rgxGen("[0-9]{5}")).isSameAs(RegexCache.rgxGen("[0-9]{5}"));
+        Assertions.assertThat(RegexCache.rgxGen("[0-9]{5}").generate()).matches("[0-9]{5}");
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidRegexEveryTime() {
+        Assertions.assertThatThrownBy(() -> RegexCache.compile("[a-z")).isInstanceOf(PatternSyntaxException.class);
+        Assertions.assertThatThrownBy(() -> RegexCache.compile("[a-z")).isInstanceOf(PatternSyntaxException.class);
+    }
+}
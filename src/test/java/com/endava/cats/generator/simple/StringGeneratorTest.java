@@ -27,6 +27,16 @@ class StringGeneratorTest {
         Assertions.assertThat(actual).startsWith(StringGenerator.FUZZ);
     }
 
+    @Test
+    void shouldGenerateRandomUnicodeAfterBadPayload() {
+        String actual = StringGenerator.generateRandomUnicode();
+        String generated = actual.substring(UnicodeGenerator.getBadPayload().length());
+
+        Assertions.assertThat(actual).startsWith(UnicodeGenerator.getBadPayload());
+        Assertions.assertThat(generated.codePointCount(0, generated.length())).isEqualTo(1000);
+        Assertions.assertThat(generated.codePoints()).allMatch(Character::isDefined).noneMatch(codePoint -> Character.getType(codePoint) == Character.PRIVATE_USE);
+    }
+
     @Test
     void givenAPatternThatDoesNotHaveLength_whenGeneratingARandomString_thenTheLengthIsProperlyAdded() {
         String actual = StringGenerator.generate("[A-Z]+", 3, 3);
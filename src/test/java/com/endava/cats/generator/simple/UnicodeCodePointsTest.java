@@ -0,0 +1,45 @@
+package com.endava.cats.generator.simple;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class UnicodeCodePointsTest {
+
+    @Test
+    void shouldContainOnlyValidCodePoints() {
+        long expected = IntStream.rangeClosed(0, Character.MAX_CODE_POINT)
+                .filter(Character::isDefined)
+                .map(Character::getType)
+                .filter(type -> type != Character.PRIVATE_USE && type != Character.SURROGATE && type != Character.UNASSIGNED)
+                .count();
+        Random random = new Random(1);
+
+        Assertions.assertThat(UnicodeCodePoints.count()).isEqualTo(expected);
+        Assertions.assertThat(IntStream.range(0, 10000).map(i -> UnicodeCodePoints.random(random)))
+                .allMatch(Character::isDefined)
+                .noneMatch(codePoint -> Character.getType(codePoint) == Character.PRIVATE_USE || Character.getType(codePoint) == Character.SURROGATE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Character.UPPERCASE_LETTER, Character.MATH_SYMBOL, Character.SPACE_SEPARATOR, Character.OTHER_LETTER})
+    void shouldPickCodePointsFromCategory(int category) {
+        Random random = new Random(1);
+
+        Assertions.assertThat(UnicodeCodePoints.count(category)).isPositive();
+        Assertions.assertThat(IntStream.range(0, 1000).map(i -> UnicodeCodePoints.random(random, category)))
+                .allMatch(codePoint -> Character.getType(codePoint) == category);
+    }
+
+    @Test
+    void shouldNotContainPrivateUseCodePoints() {
+        Assertions.assertThat(UnicodeCodePoints.count(Character.PRIVATE_USE)).isZero();
+        Assertions.assertThat(UnicodeCodePoints.count(Character.SURROGATE)).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@QuarkusTest
+class AdaptiveRateLimiterTest {
+    private static final String ENDPOINT = "GET /pets/{id}";
+    private AtomicLong clock;
+    private List<Integer> limits;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        limits = new ArrayList<>();
+    }
+
+    @Test
+    void shouldKeepFixedRateWhenNotAdaptive() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(6000, false, limits::add, clock::get);
+        rateLimiter.recordResponse(ENDPOINT, 503, 100);
+        rateLimiter.recordIoError();
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(6000);
+        Assertions.assertThat(limits).isEmpty();
+    }
+
+    @Test
+    void shouldStartAtTenPercentAndIncreaseOnHealthyResponses() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(6000, true, limits::add, clock::get);
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(600);
+
+        rateLimiter.recordResponse(ENDPOINT, 200, 50);
+        rateLimiter.recordResponse(ENDPOINT, 200, 50);
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(720);
+        Assertions.assertThat(limits).containsExactly(600, 660, 720);
+    }
+
+    @Test
+    void shouldNotExceedMaxRate() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(600, true, limits::add, clock::get);
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.recordResponse(ENDPOINT, 200, 50);
+        }
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(600);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"429", "503"})
+    void shouldHalveRateWhenThrottled(int responseCode) {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        rateLimiter.recordResponse(ENDPOINT, responseCode, 50);
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(3000);
+    }
+
+    @Test
+    void shouldDecreaseOnlyOncePerCooldown() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        rateLimiter.recordIoError();
+        rateLimiter.recordIoError();
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(3000);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        rateLimiter.recordIoError();
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(1500);
+    }
+
+    @Test
+    void shouldDecreaseWhenLatencyGrows() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        rateLimiter.recordResponse(ENDPOINT, 200, 20);
+        int limitBeforeSlowdown = rateLimiter.getRequestsPerMinute();
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.recordResponse(ENDPOINT, 200, 500);
+        }
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isLessThan(limitBeforeSlowdown);
+    }
+
+    @Test
+    void shouldNotDecreaseWhenFastErrorsMixWithSlowerSuccessfulResponses() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.recordResponse(ENDPOINT, 400, 2);
+            rateLimiter.recordResponse(ENDPOINT, 200, 100);
+        }
+
+        Assertions.assertThat(limits).isSorted().doesNotHaveDuplicates();
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(6000 + 40 * 600);
+    }
+
+    @Test
+    void shouldNotCompareLatencyAcrossEndpoints() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.recordResponse("GET /health", 200, 10);
+            rateLimiter.recordResponse("GET /reports", 200, 300);
+        }
+
+        Assertions.assertThat(limits).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldForgetLowestLatencyAfterBaselineWindows() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        rateLimiter.recordResponse(ENDPOINT, 200, 20);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.recordResponse(ENDPOINT, 200, 200);
+        }
+
+        Assertions.assertThat(limits).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldKeepBaselineFromPreviousWindow() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(60000, true, limits::add, clock::get);
+        rateLimiter.recordResponse(ENDPOINT, 200, 20);
+        int limitBeforeSlowdown = rateLimiter.getRequestsPerMinute();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.recordResponse(ENDPOINT, 200, 500);
+        }
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isLessThan(limitBeforeSlowdown);
+    }
+
+    @Test
+    void shouldNotGoBelowOneRequestPerSecond() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(600, true, limits::add, clock::get);
+        for (int i = 0; i < 20; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+            rateLimiter.recordResponse(ENDPOINT, 503, 50);
+        }
+
+        Assertions.assertThat(rateLimiter.getRequestsPerMinute()).isEqualTo(60);
+    }
+}
@@ -0,0 +1,38 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.RepeatedValue;
+import io.quarkus.test.junit.QuarkusTest;
+import okio.Buffer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@QuarkusTest
+class RepeatedValueRequestBodyTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1_048_577, 2_000_003, 3_333_333})
+    void shouldWriteSameBodyAsMaterializedPayload(long times) throws Exception {
+        String payload = "{\"field\": \"" + RepeatedValue.of("fuzz", times) + "\", \"other\": \"ăâ\"}";
+        RepeatedValueRequestBody requestBody = new RepeatedValueRequestBody(payload);
+        Buffer buffer = new Buffer();
+
+        requestBody.writeTo(buffer);
+
+        Assertions.assertThat(requestBody.contentLength()).isEqualTo(buffer.size());
+        Assertions.assertThat(buffer.readUtf8()).isEqualTo(RepeatedValue.materialize(payload));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1_048_577, 2_000_003})
+    void shouldWriteBodyMultipleTimes(long times) throws Exception {
+        RepeatedValueRequestBody requestBody = new RepeatedValueRequestBody(RepeatedValue.of("ab", times));
+        Buffer first = new Buffer();
+        Buffer second = new Buffer();
+
+        requestBody.writeTo(first);
+        requestBody.writeTo(second);
+
+        Assertions.assertThat(first.size()).isEqualTo(times * 2).isEqualTo(second.size());
+    }
+}
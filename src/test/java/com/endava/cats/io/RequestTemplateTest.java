@@ -0,0 +1,57 @@
+package com.endava.cats.io;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.model.KeyValuePair;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+@QuarkusTest
+class RequestTemplateTest {
+    private FilesArguments filesArguments;
+
+    @BeforeEach
+    void setup() {
+        filesArguments = Mockito.mock(FilesArguments.class);
+        Mockito.when(filesArguments.replacePathWithUrlParams(Mockito.anyString())).thenAnswer(invocation -> invocation.getArgument(0, String.class).replace("{version}", "v1"));
+        Mockito.when(filesArguments.getRefData("/{version}/pets/{id}")).thenReturn(Map.of("id", "10"));
+        Mockito.when(filesArguments.getAdditionalQueryParamsForPath("/{version}/pets/{id}")).thenReturn(Map.of("limit", 2));
+        Mockito.when(filesArguments.getHeaders("/{version}/pets/{id}")).thenReturn(Map.of("static", "value", "dynamic", "${request.id}"));
+    }
+
+    @Test
+    void shouldResolveUrlAndQueryParams() {
+        RequestTemplate template = RequestTemplate.compile("http://localhost", "/{version}/pets/{id}", filesArguments);
+
+        Assertions.assertThat(template.getUrlTemplate()).isEqualTo("http://localhost/v1/pets/{id}");
+        Assertions.assertThat(template.getUrlWithRefData()).isEqualTo("http://localhost/v1/pets/10");
+        Assertions.assertThat(template.getAdditionalQueryParams()).containsOnly(new KeyValuePair<>("limit", "2"));
+    }
+
+    @Test
+    void shouldResolveOnlyDynamicHeadersForEachRequest() {
+        RequestTemplate template = RequestTemplate.compile("http://localhost", "/{version}/pets/{id}", filesArguments);
+
+        Assertions.assertThat(template.getDynamicHeaders()).containsOnly("dynamic");
+        Assertions.assertThat(template.resolveSuppliedHeaders(Map.of("request", "{\"id\": \"1\"}")))
+                .containsEntry("static", "value").containsEntry("dynamic", "1");
+        Assertions.assertThat(template.resolveSuppliedHeaders(Map.of("request", "{\"id\": \"2\"}")))
+                .containsEntry("static", "value").containsEntry("dynamic", "2");
+        Mockito.verify(filesArguments, Mockito.times(1)).getHeaders(Mockito.anyString());
+    }
+
+    @Test
+    void shouldReturnSameHeadersWhenAllStatic() {
+        Mockito.when(filesArguments.getHeaders("/pets")).thenReturn(Map.of("static", "value"));
+        RequestTemplate template = RequestTemplate.compile("http://localhost", "/pets", filesArguments);
+
+        Assertions.assertThat(template.resolveSuppliedHeaders(Map.of())).isSameAs(template.getSuppliedHeaders());
+        Assertions.assertThat(template.getRefData()).isEmpty();
+        Assertions.assertThat(template.getAdditionalQueryParams()).isEqualTo(List.of());
+    }
+}
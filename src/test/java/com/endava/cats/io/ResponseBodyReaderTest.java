@@ -0,0 +1,54 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okio.Buffer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+
+@QuarkusTest
+class ResponseBodyReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "{\"id\": 1}", "first line\nsecond line\r\nthird", "\n\nleading", "trailing\n\n\n", "  multiple   spaces\there ", "\n", "non\u00A0breaking and\u3000ideographic spaces"})
+    void shouldComputeSameMetricsAsFullBody(String body) throws Exception {
+        ResponseBodyReader.ResponseBody responseBody = ResponseBodyReader.read(new Buffer().writeUtf8(body), StandardCharsets.UTF_8, 0);
+
+        Assertions.assertThat(responseBody.body()).isEqualTo(body);
+        Assertions.assertThat(responseBody.truncated()).isFalse();
+        Assertions.assertThat(responseBody.contentLengthInBytes()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(responseBody.numberOfWords()).isEqualTo(new StringTokenizer(body).countTokens());
+        Assertions.assertThat(responseBody.numberOfLines()).isEqualTo(body.split("[\r\n]").length);
+    }
+
+    @Test
+    void shouldTruncateButComputeMetricsForEntireBody() throws Exception {
+        String body = "word ".repeat(10000);
+        ResponseBodyReader.ResponseBody responseBody = ResponseBodyReader.read(new Buffer().writeUtf8(body), StandardCharsets.UTF_8, 12);
+
+        Assertions.assertThat(responseBody.truncated()).isTrue();
+        Assertions.assertThat(responseBody.body()).isEqualTo("word word wo" + ResponseBodyReader.TRUNCATED_MARKER.formatted(body.length() - 12));
+        Assertions.assertThat(responseBody.contentLengthInBytes()).isEqualTo(body.length());
+        Assertions.assertThat(responseBody.numberOfWords()).isEqualTo(10000);
+    }
+
+    @Test
+    void shouldNotCutMultibyteCharacters() throws Exception {
+        String body = "aé€😀b";
+        ResponseBodyReader.ResponseBody responseBody = ResponseBodyReader.read(new Buffer().writeUtf8(body), StandardCharsets.UTF_8, 5);
+
+        Assertions.assertThat(responseBody.body()).startsWith("aé" + "...[truncated");
+    }
+
+    @Test
+    void shouldKeepCompleteMultibyteCharacterAtLimit() throws Exception {
+        String body = "aé€😀b";
+        ResponseBodyReader.ResponseBody responseBody = ResponseBodyReader.read(new Buffer().writeUtf8(body), StandardCharsets.UTF_8, 6);
+
+        Assertions.assertThat(responseBody.body()).startsWith("aé€" + "...[truncated");
+    }
+}
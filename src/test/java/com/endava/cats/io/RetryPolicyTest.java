@@ -0,0 +1,77 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+@QuarkusTest
+class RetryPolicyTest {
+
+    @ParameterizedTest
+    @CsvSource({"429,0,true", "503,1,true", "503,2,false", "500,0,false", "200,0,false"})
+    void shouldRetryOnlyThrottledResponsesUntilRetriesExhausted(int responseCode, int previousRetries, boolean expected) {
+        RetryPolicy retryPolicy = new RetryPolicy(2, 100);
+
+        Assertions.assertThat(retryPolicy.shouldRetry(responseCode, previousRetries)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldNotRetryWhenDisabled() {
+        RetryPolicy retryPolicy = new RetryPolicy(0, 100);
+
+        Assertions.assertThat(retryPolicy.shouldRetry(429, 0)).isFalse();
+    }
+
+    @Test
+    void shouldUseRetryAfterSeconds() {
+        RetryPolicy retryPolicy = new RetryPolicy(2, 100);
+
+        Assertions.assertThat(retryPolicy.computeDelayInMs(0, "3")).isEqualTo(3000);
+    }
+
+    @Test
+    void shouldUseRetryAfterDate() {
+        AtomicLong clock = new AtomicLong(Instant.parse("2024-01-01T10:00:00Z").toEpochMilli());
+        RetryPolicy retryPolicy = new RetryPolicy(2, 100, clock::get);
+        String retryAfter = DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.parse("2024-01-01T10:00:05Z").atOffset(ZoneOffset.UTC));
+
+        Assertions.assertThat(retryPolicy.computeDelayInMs(0, retryAfter)).isEqualTo(5000);
+    }
+
+    @Test
+    void shouldCapRetryAfter() {
+        RetryPolicy retryPolicy = new RetryPolicy(2, 100);
+
+        Assertions.assertThat(retryPolicy.computeDelayInMs(0, "99999999999")).isEqualTo(RetryPolicy.MAX_DELAY_IN_MS);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,50,100", "1,100,200", "3,400,800"})
+    void shouldBackoffExponentiallyWithJitterWhenNoRetryAfter(int previousRetries, long min, long max) {
+        RetryPolicy retryPolicy = new RetryPolicy(5, 100);
+
+        Assertions.assertThat(retryPolicy.computeDelayInMs(previousRetries, "invalid")).isBetween(min, max);
+        Assertions.assertThat(retryPolicy.computeDelayInMs(previousRetries, null)).isBetween(min, max);
+    }
+
+    @Test
+    void shouldPauseHostAndKeepLongestPause() {
+        AtomicLong clock = new AtomicLong(1000);
+        RetryPolicy retryPolicy = new RetryPolicy(2, 100, clock::get);
+        retryPolicy.pauseHost("localhost:80", 500);
+        retryPolicy.pauseHost("localhost:80", 200);
+
+        Assertions.assertThat(retryPolicy.getRemainingPauseInMs("localhost:80")).isEqualTo(500);
+        Assertions.assertThat(retryPolicy.getRemainingPauseInMs("other:80")).isZero();
+
+        clock.addAndGet(600);
+        Assertions.assertThat(retryPolicy.getRemainingPauseInMs("localhost:80")).isZero();
+    }
+}
@@ -6,22 +6,28 @@ import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.dsl.CatsDSLParser;
+import com.endava.cats.exception.CatsException;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.KeyValuePair;
+import com.endava.cats.model.RepeatedValue;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import okhttp3.Protocol;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.inject.Inject;
@@ -34,7 +40,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class ServiceCallerTest {
@@ -51,6 +60,7 @@ class ServiceCallerTest {
     @Inject
     CatsGlobalContext catsGlobalContext;
     FilesArguments filesArguments;
+    ExecutionStatisticsListener executionStatisticsListener;
     private ServiceCaller serviceCaller;
 
     @BeforeAll
@@ -66,6 +76,13 @@ class ServiceCallerTest {
         wireMockServer.stubFor(WireMock.head(WireMock.urlEqualTo("/pets/1")).willReturn(WireMock.aResponse()));
         wireMockServer.stubFor(WireMock.trace(WireMock.urlEqualTo("/pets/1")).willReturn(WireMock.aResponse()));
         wireMockServer.stubFor(WireMock.patch(WireMock.urlEqualTo("/pets")).willReturn(WireMock.aResponse()));
+        wireMockServer.stubFor(WireMock.get("/throttled").inScenario("throttled").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.aResponse().withStatus(429).withHeader("Retry-After", "0")).willSetStateTo("available"));
+        wireMockServer.stubFor(WireMock.get("/throttled").inScenario("throttled").whenScenarioStateIs("available")
+                .willReturn(WireMock.ok("{'result':'OK'}")));
+        wireMockServer.stubFor(WireMock.get("/large").willReturn(WireMock.ok("{\"items\": \"" + "a".repeat(10000) + "\"}")));
+        wireMockServer.stubFor(WireMock.get("/slow").willReturn(WireMock.ok("{'result':'OK'}").withFixedDelay(300)));
+        wireMockServer.stubFor(WireMock.get("/always-throttled").willReturn(WireMock.aResponse().withStatus(503)));
     }
 
     @AfterAll
@@ -77,7 +94,8 @@ class ServiceCallerTest {
     public void setupEach() throws Exception {
         filesArguments = new FilesArguments();
         TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
-        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, catsUtil, filesArguments, authArguments, apiArguments, processingArguments);
+        executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
+        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, executionStatisticsListener, catsUtil, filesArguments, authArguments, apiArguments, processingArguments);
         ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
         ReflectionTestUtils.setField(authArguments, "basicAuth", "user:password");
         ReflectionTestUtils.setField(filesArguments, "refDataFile", new File("src/test/resources/refFields.yml"));
@@ -447,4 +465,264 @@ class ServiceCallerTest {
         Map<String, String> cachedPost = serviceCaller.getPathParamFromCorrespondingPostIfDelete(data);
         Assertions.assertThat(cachedPost).containsEntry("testId", "23");
     }
+
+    @Test
+    void shouldCallServiceAsynchronously() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CompletableFuture<CatsResponse> future = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'id':'1'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        CatsResponse catsResponse = future.join();
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(catsResponse.getBody()).isEqualTo("{'result':'OK'}");
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenAsyncCallFails() {
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:1");
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CompletableFuture<CatsResponse> future = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'id':'1'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        Assertions.assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(CatsException.class);
+    }
+
+    @Test
+    void shouldLimitInFlightRequestsPerHost() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 2);
+        serviceCaller.initHttpClient();
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 5);
+
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotBlockCallerWhileWaitingForRateLimiterPermits() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", 60);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", 10000);
+        ServiceData data = ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build();
+
+        long startTime = System.currentTimeMillis();
+        List<CompletableFuture<CatsResponse>> calls = IntStream.range(0, 3).mapToObj(i -> serviceCaller.callAsync(data)).toList();
+        long submitTime = System.currentTimeMillis() - startTime;
+        calls.forEach(CompletableFuture::join);
+        serviceCaller.shutdown();
+
+        Assertions.assertThat(submitTime).isLessThan(500);
+        Assertions.assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(1900);
+    }
+
+    @Test
+    void shouldLimitInFlightSyncRequestsPerHost() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 1);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ServiceData data = ServiceData.builder().relativePath("/slow").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build();
+
+        long startTime = System.currentTimeMillis();
+        List<CompletableFuture<CatsResponse>> calls = IntStream.range(0, 3)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> serviceCaller.call(data))).toList();
+        calls.forEach(CompletableFuture::join);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 5);
+
+        Assertions.assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(900);
+        Assertions.assertThat(calls).allSatisfy(call -> Assertions.assertThat(call.join().getResponseCode()).isEqualTo(200));
+    }
+
+    @Test
+    void shouldRecordResponseTimesByContractPath() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        AdaptiveRateLimiter rateLimiter = Mockito.spy((AdaptiveRateLimiter) ReflectionTestUtils.getField(serviceCaller, "rateLimiter"));
+        ReflectionTestUtils.setField(serviceCaller, "rateLimiter", rateLimiter);
+
+        serviceCaller.call(ServiceData.builder().relativePath("/pets/1").contractPath("/pets/{id}").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+        serviceCaller.callAsync(ServiceData.builder().relativePath("/pets/1").contractPath("/pets/{id}").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build()).join();
+
+        Mockito.verify(rateLimiter, Mockito.times(2)).recordResponse(Mockito.eq("GET /pets/{id}"), Mockito.eq(200), Mockito.anyLong());
+    }
+
+    @Test
+    void shouldRetryWhenThrottledAndRetriesEnabled() {
+        wireMockServer.resetScenarios();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 0);
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/throttled").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.getResponseCode()).isEqualTo(200);
+        Assertions.assertThat(catsResponse.getRetries()).hasSize(1).first().asString().startsWith("Received 429");
+    }
+
+    @Test
+    void shouldRetryAsyncWhenThrottledAndRetriesEnabled() {
+        wireMockServer.resetScenarios();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 0);
+
+        CatsResponse catsResponse = serviceCaller.callAsync(ServiceData.builder().relativePath("/throttled").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build()).join();
+
+        Assertions.assertThat(catsResponse.getResponseCode()).isEqualTo(200);
+        Assertions.assertThat(catsResponse.getRetries()).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepLoggingContextWhenCompletingAsyncCalls() {
+        wireMockServer.resetScenarios();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 0);
+        MDC.put("fuzzer", "AsyncFuzzer");
+
+        CompletableFuture<String> fuzzerInCallback;
+        try {
+            fuzzerInCallback = serviceCaller.callAsync(ServiceData.builder().relativePath("/throttled").payload("{}").httpMethod(HttpMethod.GET)
+                    .headers(Collections.emptySet()).contentType("application/json").build()).thenApply(response -> MDC.get("fuzzer"));
+        } finally {
+            MDC.remove("fuzzer");
+        }
+
+        Assertions.assertThat(fuzzerInCallback.join()).isEqualTo("AsyncFuzzer");
+    }
+
+    @Test
+    void shouldReturnThrottledResponseWhenRetriesExhausted() {
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 2);
+        ReflectionTestUtils.setField(apiArguments, "retryDelay", 10L);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "maxRetries", 0);
+        ReflectionTestUtils.setField(apiArguments, "retryDelay", 1000L);
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/always-throttled").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.getResponseCode()).isEqualTo(503);
+        Assertions.assertThat(catsResponse.getRetries()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotRetryWhenRetriesNotEnabled() {
+        wireMockServer.resetScenarios();
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/throttled").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.getResponseCode()).isEqualTo(429);
+        Assertions.assertThat(catsResponse.getRetries()).isNull();
+    }
+
+    @Test
+    void shouldCallServiceUsingH2cPriorKnowledge() {
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.H2C);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.AUTO);
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(serviceCaller.okHttpClient.protocols()).containsOnly(Protocol.H2_PRIOR_KNOWLEDGE);
+        Assertions.assertThat(catsResponse.getResponseCode()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldFailCallWhenHttp2RequiredButServerAnswersUsingHttp11() {
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.HTTP_2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ServiceData data = ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build();
+
+        Assertions.assertThatThrownBy(() -> serviceCaller.call(data)).isInstanceOf(CatsException.class).hasMessageContaining("--protocol=HTTP_2");
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.AUTO);
+    }
+
+    @Test
+    void shouldOnlyUseHttp11WhenConfigured() {
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.HTTP_1_1);
+        serviceCaller.initHttpClient();
+        ReflectionTestUtils.setField(apiArguments, "protocol", ApiArguments.HttpProtocol.AUTO);
+
+        Assertions.assertThat(serviceCaller.okHttpClient.protocols()).containsOnly(Protocol.HTTP_1_1);
+    }
+
+    @Test
+    void shouldRecordConnectionReuse() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        for (int i = 0; i < 3; i++) {
+            serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                    .headers(Collections.emptySet()).contentType("application/json").build());
+        }
+
+        Mockito.verify(executionStatisticsListener, Mockito.times(3)).increaseConnectionsAcquired();
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseConnectionsOpened();
+    }
+
+    @Test
+    void shouldCompileRequestTemplateOncePerPath() {
+        RequestTemplate template = serviceCaller.getRequestTemplate("/pets/{id}");
+
+        Assertions.assertThat(serviceCaller.getRequestTemplate("/pets/{id}")).isSameAs(template);
+        Assertions.assertThat(serviceCaller.getRequestTemplate("/pets")).isNotSameAs(template);
+    }
+
+    @Test
+    void shouldNotKeepRequestTemplatesForAllCalledPaths() {
+        RequestTemplate template = serviceCaller.getRequestTemplate("/pets/0");
+        IntStream.rangeClosed(1, 2000).forEach(petId -> serviceCaller.getRequestTemplate("/pets/" + petId));
+
+        Assertions.assertThat(serviceCaller.getRequestTemplate("/pets/0")).isNotSameAs(template);
+    }
+
+    @Test
+    void shouldTruncateResponseBodyWhenExceedingMaxSize() {
+        ReflectionTestUtils.setField(apiArguments, "maxResponseBodySize", 100L);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/large").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+        ReflectionTestUtils.setField(apiArguments, "maxResponseBodySize", 0L);
+
+        Assertions.assertThat(catsResponse.getBody()).hasSizeLessThan(200).contains("[truncated 9913 bytes]");
+        Assertions.assertThat(catsResponse.getContentLengthInBytes()).isEqualTo(10013);
+        Assertions.assertThat(catsResponse.getJsonBody().getAsJsonObject().has("notAJson")).isTrue();
+    }
+
+    @Test
+    void shouldStreamRepeatedValuesInRequestBody() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        String payload = "{\"description\":\"" + RepeatedValue.of("fuzz", 500_000) + "\"}";
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload(payload).httpMethod(HttpMethod.POST)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets"))
+                .withHeader("Content-Length", WireMock.equalTo(String.valueOf(2_000_000 + 18)))
+                .withRequestBody(WireMock.matching("\\{\"description\":\"(fuzz){500000}\"}")));
+    }
 }
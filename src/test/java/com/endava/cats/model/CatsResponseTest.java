@@ -1,11 +1,14 @@
 package com.endava.cats.model;
 
+import com.endava.cats.json.JsonUtils;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
+
 @QuarkusTest
 class CatsResponseTest {
 
@@ -34,4 +37,38 @@ class CatsResponseTest {
 
         Assertions.assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    void shouldParseBodyOnlyOnceAndShareTree() {
+        CatsResponse catsResponse = CatsResponse.builder().body("{\"id\": 1, \"items\": [1, 2]}").build();
+
+        Assertions.assertThat(catsResponse.isValidJson()).isTrue();
+        Assertions.assertThat(catsResponse.getJsonBody()).isSameAs(catsResponse.getJsonBody());
+        Assertions.assertThat(catsResponse.getJsonBody().getAsJsonObject().get("id").getAsInt()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"<html>test</html>", "{'single': 'quotes'}", "plain text", "123"}, delimiter = '|')
+    void shouldWrapBodyWhenNotValidJson(String body) {
+        CatsResponse catsResponse = CatsResponse.builder().body(body).build();
+
+        Assertions.assertThat(catsResponse.isValidJson()).isFalse();
+        Assertions.assertThat(catsResponse.getJsonBody().getAsJsonObject().get("notAJson").getAsString()).isEqualTo(body);
+    }
+
+    @Test
+    void shouldTruncateNotAJsonBody() {
+        CatsResponse catsResponse = CatsResponse.builder().body("a".repeat(1000)).build();
+
+        Assertions.assertThat(catsResponse.getJsonBody().getAsJsonObject().get("notAJson").getAsString()).hasSize(500);
+    }
+
+    @Test
+    void shouldParseJsonBodyWhenSerializing() {
+        CatsResponse catsResponse = CatsResponse.builder().body("{\"id\": 1}").headers(List.of()).build();
+
+        String serialized = JsonUtils.GSON.toJson(catsResponse);
+
+        Assertions.assertThat(serialized).contains("\"jsonBody\": {").contains("\"id\": 1").doesNotContain("validJson");
+    }
 }
@@ -1,12 +1,14 @@
 package com.endava.cats.model;
 
-
+import com.endava.cats.json.JsonUtils;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
+
 @QuarkusTest
 class CatsTestCaseTest {
 
@@ -31,6 +33,18 @@ class CatsTestCaseTest {
         Assertions.assertThat(catsTestCase.getRequest().getUrl()).isEqualTo("http://example.com/orders");
     }
 
+    @Test
+    void shouldKeepStreamedPayloadForReplay() {
+        String streamedPayload = "{\"field\":\"" + RepeatedValue.of("fuzz", RepeatedValue.STREAMING_THRESHOLD) + "\"}";
+        CatsTestCase catsTestCase = new CatsTestCase();
+        catsTestCase.setRequest(CatsRequest.builder().payload(RepeatedValue.truncate(streamedPayload)).streamedPayload(streamedPayload).build());
+
+        CatsTestCase loaded = JsonUtils.GSON.fromJson(JsonUtils.GSON.toJson(catsTestCase), CatsTestCase.class);
+
+        Assertions.assertThat(loaded.getRequest().getStreamedPayload()).isEqualTo(streamedPayload);
+        Assertions.assertThat(loaded.getRequest().getPayload()).contains("truncated");
+    }
+
     @ParameterizedTest
     @CsvSource({"skipped,false", "skip_reporting,false", "success,true", "other,true"})
     void shouldReportSkip(String result, boolean skip) {
@@ -46,4 +60,14 @@ class CatsTestCaseTest {
         Assertions.assertThat(catsTestCase.isNotSkipped()).isFalse();
     }
 
+    @Test
+    void shouldShowRetriesWhenResponseWasRetried() {
+        CatsTestCase catsTestCase = new CatsTestCase();
+        Assertions.assertThat(catsTestCase.hasRetries()).isFalse();
+        Assertions.assertThat(catsTestCase.getRetries()).isEmpty();
+
+        catsTestCase.setResponse(CatsResponse.builder().retries(List.of("Received 429", "Received 503")).build());
+        Assertions.assertThat(catsTestCase.hasRetries()).isTrue();
+        Assertions.assertThat(catsTestCase.getRetries()).isEqualTo("Received 429; Received 503");
+    }
 }
@@ -1,5 +1,7 @@
 package com.endava.cats.model;
 
+import com.endava.cats.json.JsonUtils;
+import com.endava.cats.model.util.Subsets;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.NumberSchema;
@@ -154,7 +156,7 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
         Assertions.assertThat(setOfFields).hasSize(15);
     }
 
@@ -165,10 +167,47 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
         Assertions.assertThat(setOfFields).hasSize(expected);
     }
 
+    @Test
+    void shouldCacheAllFieldsByHttpMethod() {
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
+        FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
+
+        Assertions.assertThat(data.getAllFieldsByHttpMethod()).isSameAs(data.getAllFieldsByHttpMethod());
+    }
+
+    @Test
+    void shouldIndexCatsFieldsByName() {
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
+        FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
+
+        Assertions.assertThat(data.getCatsField("address#zipCode")).isNotNull();
+        Assertions.assertThat(data.isRequired("address#zipCode")).isTrue();
+        Assertions.assertThat(data.isRequired("firstName")).isFalse();
+        Assertions.assertThat(data.isRequired("notExisting")).isFalse();
+    }
+
+    @Test
+    void shouldIndexPayloadNodeKinds() {
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
+        FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema)
+                .payload("{\"firstName\": \"John\", \"address\": {\"street\": \"Main\", \"zipCode\": [1, 2]}}").build();
+
+        Assertions.assertThat(data.isPrimitive("firstName")).isTrue();
+        Assertions.assertThat(data.isObject("address")).isTrue();
+        Assertions.assertThat(data.isArray("address")).isFalse();
+        Assertions.assertThat(data.isArray("address#zipCode")).isTrue();
+        Assertions.assertThat(data.isPrimitive("address#zipCode")).isFalse();
+        Assertions.assertThat(data.getPayloadNodeKind("lastName")).isEqualTo(JsonUtils.NodeKind.MISSING);
+        Assertions.assertThat(data.getPayloadNodeKind("notInSchema")).isEqualTo(JsonUtils.NodeKind.MISSING);
+    }
+
     public Map<String, Schema> getBasePropertiesRequired() {
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("address", new StringSchema());
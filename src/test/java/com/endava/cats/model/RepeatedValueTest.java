@@ -0,0 +1,73 @@
+package com.endava.cats.model;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class RepeatedValueTest {
+
+    @Test
+    void shouldMaterializeValuesBelowThreshold() {
+        String value = RepeatedValue.of("fuzz", 10);
+
+        Assertions.assertThat(value).isEqualTo("fuzz".repeat(10));
+        Assertions.assertThat(RepeatedValue.isPresent(value)).isFalse();
+    }
+
+    @Test
+    void shouldMaterializeNonAlphanumericPatterns() {
+        String value = RepeatedValue.of("\"", RepeatedValue.STREAMING_THRESHOLD + 1);
+
+        Assertions.assertThat(value).hasSize((int) RepeatedValue.STREAMING_THRESHOLD + 1);
+    }
+
+    @Test
+    void shouldReturnTokenAboveThreshold() {
+        String value = RepeatedValue.of("fuzz", RepeatedValue.STREAMING_THRESHOLD);
+
+        Assertions.assertThat(value).hasSizeLessThan(100).startsWith("ca").endsWith("ts");
+        Assertions.assertThat(RepeatedValue.isPresent("{\"field\": \"" + value + "\"}")).isTrue();
+    }
+
+    @Test
+    void shouldMaterializePayload() {
+        String payload = "{\"field\": \"" + RepeatedValue.of("ab", RepeatedValue.STREAMING_THRESHOLD) + "\"}";
+
+        String materialized = RepeatedValue.materialize(payload);
+
+        Assertions.assertThat(materialized).isEqualTo("{\"field\": \"" + "ab".repeat((int) RepeatedValue.STREAMING_THRESHOLD) + "\"}");
+    }
+
+    @Test
+    void shouldTruncatePayload() {
+        String payload = "{\"field\": \"" + RepeatedValue.of("a", 3_000_000_000L) + "\"}";
+
+        String truncated = RepeatedValue.truncate(payload);
+
+        Assertions.assertThat(truncated).isEqualTo("{\"field\": \"" + "a".repeat(100) + "...[truncated, 3000000000 characters in total]\"}");
+    }
+
+    @Test
+    void shouldSampleRepeatedValuesKeepingRepetitionsModuloPeriod() {
+        String value = "{\"field\": \"" + RepeatedValue.of("ab", 3_000_000_001L) + "\"}";
+
+        String sample = RepeatedValue.sample(value);
+        String sampled = sample.substring(11, sample.length() - 2);
+
+        Assertions.assertThat(sampled).matches("(ab)+");
+        Assertions.assertThat(sampled.length()).isLessThanOrEqualTo((int) RepeatedValue.STREAMING_THRESHOLD);
+        Assertions.assertThat((sampled.length() / 2) % 60).isEqualTo((int) (3_000_000_001L % 60));
+        Assertions.assertThat(RepeatedValue.sample("{\"field\": \"cats\"}")).isEqualTo("{\"field\": \"cats\"}");
+    }
+
+    @Test
+    void shouldSplitPayloadInParts() {
+        String payload = "{\"first\": \"" + RepeatedValue.of("a", 2_000_000) + "\", \"second\": \"" + RepeatedValue.of("bc", 2_000_000) + "\"}";
+        StringBuilder parts = new StringBuilder();
+
+        RepeatedValue.forEachPart(payload, literal -> parts.append(literal).append('|'), repeated -> parts.append(repeated).append('|'));
+
+        Assertions.assertThat(parts).hasToString("{\"first\": \"|RepeatedValue[pattern=a, times=2000000]|\", \"second\": \"|RepeatedValue[pattern=bc, times=2000000]|\"}|");
+    }
+}
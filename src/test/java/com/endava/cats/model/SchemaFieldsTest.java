@@ -0,0 +1,62 @@
+package com.endava.cats.model;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+@QuarkusTest
+class SchemaFieldsTest {
+
+    @Test
+    void shouldStopAtSelfReferenceDepth() {
+        Map<String, Schema> schemaMap = new HashMap<>();
+        Schema<?> node = createNodeSchema(schemaMap);
+
+        Set<CatsField> fields = SchemaFields.of(node, schemaMap, 3);
+
+        Assertions.assertThat(fields).extracting(CatsField::getName)
+                .containsExactlyInAnyOrder("name", "child", "child#name", "child#child", "child#child#name", "child#child#child");
+    }
+
+    @Test
+    void shouldShareFieldsForSameSchemaAndDepth() {
+        Map<String, Schema> schemaMap = new HashMap<>();
+        Schema<?> node = createNodeSchema(schemaMap);
+
+        Set<CatsField> fields = SchemaFields.of(node, schemaMap, 2);
+
+        Assertions.assertThat(SchemaFields.of(node, schemaMap, 2)).isSameAs(fields);
+        Assertions.assertThat(SchemaFields.of(node, schemaMap, 4)).isNotSameAs(fields).hasSizeGreaterThan(fields.size());
+        Assertions.assertThatThrownBy(() -> fields.add(CatsField.builder().name("other").build())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldShareFieldsAcrossFuzzingDataVariants() {
+        Map<String, Schema> schemaMap = new HashMap<>();
+        Schema<?> node = createNodeSchema(schemaMap);
+        Map<String, Schema> propertyTypes = new HashMap<>();
+        propertyTypes.put("name", new StringSchema());
+        propertyTypes.put("child#name", new StringSchema());
+
+        FuzzingData first = FuzzingData.builder().reqSchema(node).schemaMap(schemaMap).requestPropertyTypes(propertyTypes).selfReferenceDepth(3).payload("{\"name\": \"a\"}").build();
+        FuzzingData second = FuzzingData.builder().reqSchema(node).schemaMap(schemaMap).requestPropertyTypes(propertyTypes).selfReferenceDepth(3).payload("{\"name\": \"b\"}").build();
+
+        Assertions.assertThat(first.getAllFieldsByHttpMethod()).containsExactlyInAnyOrder("name", "child#name");
+        Assertions.assertThat(second.getAllFieldsByHttpMethod()).containsExactlyInAnyOrderElementsOf(first.getAllFieldsByHttpMethod());
+    }
+
+    private static Schema<?> createNodeSchema(Map<String, Schema> schemaMap) {
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty("name", new StringSchema());
+        node.addProperty("child", new Schema<>().$ref("#/components/schemas/Node"));
+        schemaMap.put("Node", node);
+        return node;
+    }
+}
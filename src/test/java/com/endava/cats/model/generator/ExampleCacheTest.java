@@ -0,0 +1,108 @@
+package com.endava.cats.model.generator;
+
+import com.endava.cats.args.ProcessingArguments;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@QuarkusTest
+class ExampleCacheTest {
+    private ProcessingArguments processingArguments;
+    private ExampleCache exampleCache;
+
+    @BeforeEach
+    void setup() {
+        processingArguments = Mockito.mock(ProcessingArguments.class);
+        exampleCache = new ExampleCache(processingArguments);
+    }
+
+    @Test
+    void shouldReuseExampleForSameSchemaAndPath() {
+        Mockito.when(processingArguments.getExampleVariants()).thenReturn(1);
+        Schema<?> schema = new ObjectSchema();
+        AtomicInteger generated = new AtomicInteger();
+
+        ExampleCache.GeneratedExample first = exampleCache.getOrGenerate(schema, "Address", "address", () -> example(Map.of("id", generated.incrementAndGet())));
+        ExampleCache.GeneratedExample second = exampleCache.getOrGenerate(schema, "Address", "address", () -> example(Map.of("id", generated.incrementAndGet())));
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(generated).hasValue(1);
+        Assertions.assertThat(exampleCache.getStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGenerateSeparateExamplesForEqualSchemasOrDifferentPaths() {
+        Mockito.when(processingArguments.getExampleVariants()).thenReturn(1);
+        Schema<?> schema = new ObjectSchema();
+        Schema<?> equalSchema = new ObjectSchema();
+        AtomicInteger generated = new AtomicInteger();
+
+        exampleCache.getOrGenerate(schema, "Address", "address", () -> example(generated.incrementAndGet()));
+        exampleCache.getOrGenerate(equalSchema, "Address", "address", () -> example(generated.incrementAndGet()));
+        exampleCache.getOrGenerate(schema, "Address", "billing#address", () -> example(generated.incrementAndGet()));
+
+        Assertions.assertThat(equalSchema).isEqualTo(schema);
+        Assertions.assertThat(generated).hasValue(3);
+    }
+
+    @Test
+    void shouldGenerateUntilAllVariantsAreAvailable() {
+        Mockito.when(processingArguments.getExampleVariants()).thenReturn(3);
+        Schema<?> schema = new ObjectSchema();
+        AtomicInteger generated = new AtomicInteger();
+        Set<Object> examples = new HashSet<>();
+
+        for (int i = 0; i < 20; i++) {
+            examples.add(exampleCache.getOrGenerate(schema, "Money", "", () -> example(generated.incrementAndGet())).example());
+        }
+
+        Assertions.assertThat(generated).hasValue(3);
+        Assertions.assertThat(examples).containsOnly(1, 2, 3);
+    }
+
+    @Test
+    void shouldStoreImmutableCopiesOfExamplesAndDataTypes() {
+        Mockito.when(processingArguments.getExampleVariants()).thenReturn(1);
+        Map<String, Object> inner = new HashMap<>(Map.of("street", "cats"));
+        Map<String, Object> example = new HashMap<>(Map.of("address", inner, "tags", new Object[]{"a", inner}));
+        Map<String, Schema> dataTypes = new LinkedHashMap<>(Map.of("address#street", new StringSchema()));
+
+        ExampleCache.GeneratedExample generatedExample = exampleCache.getOrGenerate(new ObjectSchema(), "Pet", "", () -> new ExampleCache.GeneratedExample(example, dataTypes));
+        inner.put("street", "changed");
+        dataTypes.clear();
+
+        Map<?, ?> cachedExample = (Map<?, ?>) generatedExample.example();
+        Assertions.assertThat(cachedExample.get("address")).isEqualTo(Map.of("street", "cats"));
+        Assertions.assertThat(cachedExample.get("tags")).isEqualTo(List.of("a", Map.of("street", "cats")));
+        Assertions.assertThat(generatedExample.dataTypes()).containsOnlyKeys("address#street");
+        Assertions.assertThatThrownBy(() -> ((Map<?, ?>) cachedExample.get("address")).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldAlwaysGenerateWhenVariantsIsZero() {
+        Schema<?> schema = new ObjectSchema();
+        AtomicInteger generated = new AtomicInteger();
+
+        exampleCache.getOrGenerate(schema, "Money", "", () -> example(generated.incrementAndGet()));
+        exampleCache.getOrGenerate(schema, "Money", "", () -> example(generated.incrementAndGet()));
+
+        Assertions.assertThat(generated).hasValue(2);
+    }
+
+    private static ExampleCache.GeneratedExample example(Object example) {
+        return new ExampleCache.GeneratedExample(example, Map.of());
+    }
+}
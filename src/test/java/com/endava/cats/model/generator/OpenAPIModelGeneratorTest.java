@@ -1,5 +1,6 @@
 package com.endava.cats.model.generator;
 
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.generator.format.api.ValidDataFormat;
@@ -7,12 +8,16 @@ import com.endava.cats.openapi.OpenApiUtils;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
 
 import jakarta.inject.Inject;
 import java.io.IOException;
@@ -28,6 +33,8 @@ class OpenAPIModelGeneratorTest {
     CatsGlobalContext globalContext;
     @Inject
     ValidDataFormat validDataFormat;
+    @Inject
+    ExampleCache exampleCache;
 
     @Test
     void givenASimpleOpenAPIContract_whenGeneratingAPayload_thenTheExampleIsProperlyGenerated() throws Exception {
@@ -94,6 +101,47 @@ class OpenAPIModelGeneratorTest {
         Assertions.assertThat(JsonUtils.getVariableFromJson(exampleJson, "$#timeOfVaccination")).isEqualTo("2012-01-24T15:54:14.876Z");
     }
 
+    @Test
+    void shouldReuseExamplesAcrossGenerators() throws Exception {
+        ExampleCache reusingCache = createReusingExampleCache();
+        setupPayloadGenerator();
+
+        Map<String, String> first = new OpenAPIModelGenerator(globalContext, validDataFormat, reusingCache, true, 3).generate("MegaPet");
+        Map<String, String> second = new OpenAPIModelGenerator(globalContext, validDataFormat, reusingCache, true, 3).generate("MegaPet");
+
+        Assertions.assertThat(second).isEqualTo(first);
+        Assertions.assertThat(reusingCache.getStats().hitCount()).isPositive();
+    }
+
+    @Test
+    void shouldNotReuseExamplesByDefault() throws Exception {
+        OpenAPIModelGenerator generator = setupPayloadGenerator();
+        long hits = exampleCache.getStats().hitCount();
+
+        generator.generate("MegaPet");
+        new OpenAPIModelGenerator(globalContext, validDataFormat, exampleCache, true, 3).generate("MegaPet");
+
+        Assertions.assertThat(exampleCache.getStats().hitCount()).isEqualTo(hits);
+    }
+
+    @Test
+    void shouldRecordDataTypesAgainWhenReusingExamples() {
+        Schema<?> petId = new StringSchema();
+        Schema<?> ownerId = new IntegerSchema();
+        globalContext.getSchemaMap().put("ReusedPet", new ObjectSchema().addProperty("id", petId));
+        globalContext.getSchemaMap().put("ReusedOwner", new ObjectSchema().addProperty("id", ownerId));
+        ExampleCache reusingCache = createReusingExampleCache();
+
+        new OpenAPIModelGenerator(globalContext, validDataFormat, reusingCache, true, 3).generate("ReusedPet");
+        new OpenAPIModelGenerator(globalContext, validDataFormat, reusingCache, true, 3).generate("ReusedOwner");
+        Assertions.assertThat(globalContext.getRequestDataTypes()).containsEntry("id", ownerId);
+        long hits = reusingCache.getStats().hitCount();
+        new OpenAPIModelGenerator(globalContext, validDataFormat, reusingCache, true, 3).generate("ReusedPet");
+
+        Assertions.assertThat(reusingCache.getStats().hitCount()).isGreaterThan(hits);
+        Assertions.assertThat(globalContext.getRequestDataTypes()).containsEntry("id", petId);
+    }
+
     private OpenAPIModelGenerator setupPayloadGenerator() throws IOException {
         OpenAPIParser openAPIV3Parser = new OpenAPIParser();
         ParseOptions options = new ParseOptions();
@@ -102,6 +150,12 @@ class OpenAPIModelGeneratorTest {
         OpenAPI openAPI = openAPIV3Parser.readContents(Files.readString(Paths.get("src/test/resources/petstore.yml")), null, options).getOpenAPI();
         Map<String, Schema> schemas = OpenApiUtils.getSchemas(openAPI, List.of("application/json"));
         globalContext.getSchemaMap().putAll(schemas);
-        return new OpenAPIModelGenerator(globalContext, validDataFormat, true, 3);
+        return new OpenAPIModelGenerator(globalContext, validDataFormat, exampleCache, true, 3);
+    }
+
+    private static ExampleCache createReusingExampleCache() {
+        ProcessingArguments processingArguments = Mockito.mock(ProcessingArguments.class);
+        Mockito.when(processingArguments.getExampleVariants()).thenReturn(1);
+        return new ExampleCache(processingArguments);
     }
 }
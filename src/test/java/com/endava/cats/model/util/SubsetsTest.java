@@ -0,0 +1,63 @@
+package com.endava.cats.model.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SubsetsTest {
+
+    @Test
+    void shouldGenerateAllSubsetsIncludingEmptySet() {
+        Subsets<String> subsets = Subsets.of(List.of("a", "b", "c"), 0, 3);
+
+        Assertions.assertThat(subsets).containsExactly(Set.of(), Set.of("a"), Set.of("b"), Set.of("c"),
+                Set.of("a", "b"), Set.of("a", "c"), Set.of("b", "c"), Set.of("a", "b", "c"));
+        Assertions.assertThat(subsets.count()).isEqualTo(8);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,1,5", "1,2,15", "2,3,20", "0,5,32", "4,10,6", "6,8,0"})
+    void shouldCountSubsetsWithoutIterating(int minSize, int maxSize, long expected) {
+        Subsets<Integer> subsets = Subsets.of(List.of(1, 2, 3, 4, 5), minSize, maxSize);
+
+        Assertions.assertThat(subsets.possibleCount()).isEqualTo(expected);
+        Assertions.assertThat(subsets).hasSize((int) expected).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldStopAtLimit() {
+        Set<Integer> elements = IntStream.range(0, 40).boxed().collect(Collectors.toSet());
+        Subsets<Integer> subsets = Subsets.of(elements, 1, elements.size()).limit(100);
+
+        Assertions.assertThat(subsets.possibleCount()).isEqualTo((1L << 40) - 1);
+        Assertions.assertThat(subsets.count()).isEqualTo(100);
+        Assertions.assertThat(subsets.isLimited()).isTrue();
+        Assertions.assertThat(subsets).hasSize(100).allMatch(subset -> subset.size() <= 2);
+    }
+
+    @Test
+    void shouldSaturateCountWhenTooManySubsets() {
+        Set<Integer> elements = IntStream.range(0, 100).boxed().collect(Collectors.toSet());
+
+        Assertions.assertThat(Subsets.of(elements, 0, 100).possibleCount()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNoMoreSubsets() {
+        Iterator<Set<String>> iterator = Subsets.of(List.of("a"), 1, 1).iterator();
+        iterator.next();
+
+        Assertions.assertThat(iterator.hasNext()).isFalse();
+        Assertions.assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+}
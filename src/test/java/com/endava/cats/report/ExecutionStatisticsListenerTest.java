@@ -81,4 +81,38 @@ class ExecutionStatisticsListenerTest {
 
         Assertions.assertThat(listener.areManyIoErrors()).isEqualTo(expected);
     }
+
+    @Test
+    void shouldKeepLatestRequestsPerMinuteLimit() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        Assertions.assertThat(listener.getRequestsPerMinuteLimit()).isZero();
+
+        listener.updateRequestsPerMinuteLimit(600);
+        listener.updateRequestsPerMinuteLimit(300);
+
+        Assertions.assertThat(listener.getRequestsPerMinuteLimit()).isEqualTo(300);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,0,0", "1,4,75", "4,4,0", "2,1,0"})
+    void shouldComputeConnectionReusePercentage(int opened, int acquired, int expected) {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        IntStream.range(0, opened).forEach(element -> listener.increaseConnectionsOpened());
+        IntStream.range(0, acquired).forEach(element -> listener.increaseConnectionsAcquired());
+
+        Assertions.assertThat(listener.getConnectionReusePercentage()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldComputeAuthScriptRunTimes() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        Assertions.assertThat(listener.getAuthScriptAverageDurationInMs()).isZero();
+
+        listener.recordAuthScriptRun(100);
+        listener.recordAuthScriptRun(300);
+
+        Assertions.assertThat(listener.getAuthScriptRuns()).isEqualTo(2);
+        Assertions.assertThat(listener.getAuthScriptAverageDurationInMs()).isEqualTo(200);
+        Assertions.assertThat(listener.getAuthScriptMaxDurationInMs()).isEqualTo(300);
+    }
 }
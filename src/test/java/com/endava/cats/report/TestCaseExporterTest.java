@@ -0,0 +1,58 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class TestCaseExporterTest {
+    @Inject
+    TestCaseExporterHtmlJs testCaseExporter;
+
+    @Test
+    void shouldWriteConnectionReuseInSummary(@TempDir Path reportFolder) throws Exception {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.increaseConnectionsOpened();
+        IntStream.range(0, 4).forEach(element -> listener.increaseConnectionsAcquired());
+        testCaseExporter.initPath(reportFolder.toString());
+
+        testCaseExporter.writeSummary(Map.of(), listener);
+
+        Assertions.assertThat(Files.readString(reportFolder.resolve("cats-summary-report.json")))
+                .contains("\"connectionsOpened\": 1", "\"requestsSent\": 4", "\"connectionReusePercentage\": 75");
+        Assertions.assertThat(Files.readString(reportFolder.resolve("index.html")))
+                .contains("Connections opened: 1, requests sent: 4, connection reuse: 75%");
+    }
+
+    @Test
+    void shouldWriteAuthScriptRunTimesInSummary(@TempDir Path reportFolder) throws Exception {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.recordAuthScriptRun(100);
+        listener.recordAuthScriptRun(300);
+        testCaseExporter.initPath(reportFolder.toString());
+
+        testCaseExporter.writeSummary(Map.of(), listener);
+
+        Assertions.assertThat(Files.readString(reportFolder.resolve("cats-summary-report.json")))
+                .contains("\"authScriptRuns\": 2", "\"authScriptAverageDurationInMs\": \"200\"", "\"authScriptMaxDurationInMs\": \"300\"");
+        Assertions.assertThat(Files.readString(reportFolder.resolve("index.html")))
+                .contains("Auth script runs: 2, average run time: 200ms, longest run time: 300ms");
+    }
+
+    @Test
+    void shouldNotWriteConnectionReuseWhenNoRequestSent(@TempDir Path reportFolder) throws Exception {
+        testCaseExporter.initPath(reportFolder.toString());
+
+        testCaseExporter.writeSummary(Map.of(), new ExecutionStatisticsListener());
+
+        Assertions.assertThat(Files.readString(reportFolder.resolve("cats-summary-report.json"))).contains("\"connectionsOpened\": null");
+        Assertions.assertThat(Files.readString(reportFolder.resolve("index.html"))).doesNotContain("Connections opened", "Auth script runs");
+    }
+}
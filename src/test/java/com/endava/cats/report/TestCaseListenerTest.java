@@ -17,13 +17,11 @@ import io.swagger.v3.oas.models.media.Discriminator;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
-import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -32,6 +30,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 @QuarkusTest
@@ -64,11 +63,7 @@ class TestCaseListenerTest {
         Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
         testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments);
         catsGlobalContext.getDiscriminators().clear();
-    }
-
-    @AfterEach
-    void tearDown() {
-        TestCaseListener.TEST.set(0);
+        catsGlobalContext.getPostSuccessfulResponses().clear();
     }
 
     @Test
@@ -82,7 +77,7 @@ class TestCaseListenerTest {
 
     @Test
     void givenAFunction_whenExecutingATestCase_thenTheCorrectContextIsCreatedAndTheTestCaseIsWrittenToFile() {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> executionStatisticsListener.increaseSkipped());
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> executionStatisticsListener.increaseSkipped());
 
         Assertions.assertThat(testCaseListener.testCaseMap.get("1")).isNotNull();
         Mockito.verify(testCaseExporter).writeTestCase(Mockito.any());
@@ -94,13 +89,13 @@ class TestCaseListenerTest {
 
         Assertions.assertThat(testCase).isNull();
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addScenario(logger, "Given a {} field", "string");
-            testCaseListener.addRequest(CatsRequest.builder().build());
-            testCaseListener.addResponse(CatsResponse.builder().build());
-            testCaseListener.addFullRequestPath("fullPath");
-            testCaseListener.addPath("path");
-            testCaseListener.addExpectedResult(logger, "Should return {}", "2XX");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addScenario(context, logger, "Given a {} field", "string");
+            testCaseListener.addRequest(context, CatsRequest.builder().build());
+            testCaseListener.addResponse(context, CatsResponse.builder().build());
+            testCaseListener.addFullRequestPath(context, "fullPath");
+            testCaseListener.addPath(context, "path");
+            testCaseListener.addExpectedResult(context, logger, "Should return {}", "2XX");
         });
 
         testCase = testCaseListener.testCaseMap.get("1");
@@ -113,6 +108,105 @@ class TestCaseListenerTest {
         Assertions.assertThat(testCase.getExpectedResult()).isEqualTo("Should return 2XX");
     }
 
+    @Test
+    void shouldAttachDetailsToTheSuppliedTestCaseContext() {
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addScenario(context, logger, "Given a {} field", "string");
+            testCaseListener.addRequest(context, CatsRequest.builder().build());
+            testCaseListener.addResponse(context, CatsResponse.builder().build());
+            testCaseListener.addPath(context, "path");
+            testCaseListener.addExpectedResult(context, logger, "Should return {}", "2XX");
+
+            Assertions.assertThat(context.getTestCase()).isSameAs(testCaseListener.testCaseMap.get(context.getTestId()));
+        });
+
+        CatsTestCase testCase = testCaseListener.testCaseMap.values().iterator().next();
+        Assertions.assertThat(testCase.getRequest()).isNotNull();
+        Assertions.assertThat(testCase.getResponse()).isNotNull();
+        Assertions.assertThat(testCase.getPath()).isEqualTo("path");
+        Assertions.assertThat(testCase.getScenario()).isEqualTo("Given a string field");
+        Assertions.assertThat(testCase.getExpectedResult()).isEqualTo("Should return 2XX");
+    }
+
+    @Test
+    void shouldContinueTestCaseOnDifferentThread() {
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            Thread thread = new Thread(() -> {
+                testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+                testCaseListener.reportWarn(context, logger, "Warn {} happened", "1");
+            });
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CatsTestCase testCase = testCaseListener.testCaseMap.values().iterator().next();
+        Assertions.assertThat(testCase.getResult()).isEqualTo(Level.WARN.toString().toLowerCase());
+        Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Warn 1 happened");
+    }
+
+    @Test
+    void shouldEndAsyncTestCaseOnlyWhenExecutionCompletes() {
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        CompletableFuture<Void> responseReceived = new CompletableFuture<>();
+        CompletableFuture<Void> testCaseEnded = testCaseListener.createAndExecuteTestAsync(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            return responseReceived.thenRun(() -> testCaseListener.reportWarn(context, logger, "Warn {} happened", "1"));
+        });
+
+        Assertions.assertThat(testCaseEnded).isNotDone();
+        Mockito.verify(testCaseExporter, Mockito.never()).writeTestCase(Mockito.any());
+
+        responseReceived.complete(null);
+
+        Assertions.assertThat(testCaseEnded).isDone();
+        Mockito.verify(testCaseExporter).writeTestCase(Mockito.any());
+        CatsTestCase testCase = testCaseListener.testCaseMap.values().iterator().next();
+        Assertions.assertThat(testCase.getResult()).isEqualTo(Level.WARN.toString().toLowerCase());
+    }
+
+    @Test
+    void shouldReportResultsWithExplicitContextOnThreadsWithoutRunningTestCase() {
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        FuzzingData data = FuzzingData.builder().path("path").build();
+        CompletableFuture<Void> testCaseEnded = testCaseListener.createAndExecuteTestAsync(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            return CompletableFuture.runAsync(() -> testCaseListener.reportResultError(context, logger, data, "Check response details", "Error {} happened", "1"));
+        });
+
+        testCaseEnded.join();
+        CatsTestCase testCase = testCaseListener.testCaseMap.values().iterator().next();
+        Assertions.assertThat(testCase.getResult()).isEqualTo(Level.ERROR.toString().toLowerCase());
+        Assertions.assertThat(testCase.getResultReason()).isEqualTo("Check response details");
+        Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Error 1 happened");
+    }
+
+    @Test
+    void shouldFailWhenReportingWithoutContext() {
+        FuzzingData data = FuzzingData.builder().path("path").build();
+
+        Assertions.assertThatThrownBy(() -> testCaseListener.reportResultInfo(null, logger, data, "Info"))
+                .isInstanceOf(NullPointerException.class).hasMessage("No test case context supplied");
+    }
+
+    @Test
+    void shouldReportErrorWhenAsyncTestCaseFails() {
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        CompletableFuture<Void> testCaseEnded = testCaseListener.createAndExecuteTestAsync(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            return CompletableFuture.failedFuture(new IllegalStateException("failed"));
+        });
+
+        Assertions.assertThat(testCaseEnded).isCompleted();
+        CatsTestCase testCase = testCaseListener.testCaseMap.values().iterator().next();
+        Assertions.assertThat(testCase.getResult()).isEqualTo(Level.ERROR.toString().toLowerCase());
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
+    }
+
     @Test
     void givenATestCase_whenExecutingStartAndEndSession_thenTheSummaryAndReportFilesAreCreated() {
         ReflectionTestUtils.setField(testCaseListener, "appName", "CATS");
@@ -126,9 +220,9 @@ class TestCaseListenerTest {
     @Test
     void givenATestCase_whenExecutingItAndAWarnHappens_thenTheWarnIsCorrectlyReportedWithinTheTestCase() {
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            testCaseListener.reportWarn(logger, "Warn {} happened", "1");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportWarn(context, logger, "Warn {} happened", "1");
         });
 
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
@@ -145,14 +239,14 @@ class TestCaseListenerTest {
     @CsvSource({"401,1", "403,1", "200,0"})
     void shouldIncreaseTheNumberOfAuthErrors(int respCode, int times) {
         CatsResponse response = CatsResponse.builder().body("{}").responseCode(respCode).build();
-        prepareTestCaseListenerSimpleSetup(response);
-        testCaseListener.reportError(logger, "Something happened: {}", "bad stuff!");
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(response);
+        testCaseListener.reportError(context, logger, "Something happened: {}", "bad stuff!");
         Mockito.verify(executionStatisticsListener, Mockito.times(times)).increaseAuthErrors();
     }
 
     @Test
     void shouldIncreaseTheNumberOfIOErrors() {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
             throw new CatsException("something bad", new IOException());
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseIoErrors();
@@ -160,7 +254,7 @@ class TestCaseListenerTest {
 
     @Test
     void shouldNotIncreaseIOErrorsForNonIOException() {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
             throw new CatsException("something bad", new IndexOutOfBoundsException());
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(0)).increaseIoErrors();
@@ -178,14 +272,13 @@ class TestCaseListenerTest {
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("300", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
 
-        prepareTestCaseListenerSimpleSetup(response);
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(response);
 
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX);
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -193,36 +286,33 @@ class TestCaseListenerTest {
         Mockito.when(ignoreArguments.isIgnoredResponse(Mockito.any())).thenReturn(true);
         Mockito.when(ignoreArguments.isSkipReportingForIgnoredCodes()).thenReturn(true);
         CatsResponse response = CatsResponse.builder().body("{}").responseCode(200).build();
-        prepareTestCaseListenerSimpleSetup(response);
-        testCaseListener.reportInfo(logger, "Something was good");
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(response);
+        testCaseListener.reportInfo(context, logger, "Something was good");
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
     void shouldSkipInfoWhenSkipSuccessIsEnabled() {
         Mockito.when(ignoreArguments.isSkipReportingForSuccess()).thenReturn(true);
         CatsResponse response = CatsResponse.builder().body("{}").responseCode(200).build();
-        prepareTestCaseListenerSimpleSetup(response);
-        testCaseListener.reportInfo(logger, "Something was good");
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(response);
+        testCaseListener.reportInfo(context, logger, "Something was good");
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
     void shouldSkipWarnWhenSkipWarningsIsEnabled() {
         Mockito.when(ignoreArguments.isSkipReportingForWarnings()).thenReturn(true);
         CatsResponse response = CatsResponse.builder().body("{}").responseCode(200).build();
-        prepareTestCaseListenerSimpleSetup(response);
-        testCaseListener.reportWarn(logger, "Something was good");
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(response);
+        testCaseListener.reportWarn(context, logger, "Something was good");
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
 
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -233,21 +323,19 @@ class TestCaseListenerTest {
         Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.POST);
         Mockito.when(data.getPath()).thenReturn("/test");
-        MDC.put(TestCaseListener.ID, "1");
         testCaseListener.testCaseMap.put("1", new CatsTestCase());
-        testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+        TestCaseContext context = contextFor("1");
+        testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
 
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX);
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
 
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
         Mockito.when(data.getPath()).thenReturn("/test/{testId}");
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX);
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
-
-        MDC.remove(TestCaseListener.ID);
         testCaseListener.testCaseMap.clear();
     }
 
@@ -255,14 +343,13 @@ class TestCaseListenerTest {
     void shouldCallInfoInsteadOfErrorWhenIgnoreCodeSupplied() {
         Mockito.when(ignoreArguments.isIgnoredResponseCode("200")).thenReturn(true);
 
-        prepareTestCaseListenerSimpleSetup(CatsResponse.builder().responseCode(200).build());
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(CatsResponse.builder().responseCode(200).build());
 
-        testCaseListener.reportError(logger, "Warn");
+        testCaseListener.reportError(context, logger, "Warn");
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -270,14 +357,13 @@ class TestCaseListenerTest {
         Mockito.when(ignoreArguments.isIgnoredResponseCode("200")).thenReturn(true);
         Mockito.when(ignoreArguments.isSkipReportingForIgnoredCodes()).thenReturn(true);
 
-        prepareTestCaseListenerSimpleSetup(CatsResponse.builder().responseCode(200).build());
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(CatsResponse.builder().responseCode(200).build());
 
-        testCaseListener.reportError(logger, "Error");
+        testCaseListener.reportError(context, logger, "Error");
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -285,14 +371,13 @@ class TestCaseListenerTest {
         Mockito.when(ignoreArguments.isIgnoredResponseCode("200")).thenReturn(true);
         Mockito.when(ignoreArguments.isSkipReportingForIgnoredCodes()).thenReturn(true);
 
-        prepareTestCaseListenerSimpleSetup(CatsResponse.builder().responseCode(200).build());
+        TestCaseContext context = prepareTestCaseListenerSimpleSetup(CatsResponse.builder().responseCode(200).build());
 
-        testCaseListener.reportWarn(logger, "Warn");
+        testCaseListener.reportWarn(context, logger, "Warn");
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
 
@@ -300,7 +385,7 @@ class TestCaseListenerTest {
     void givenATestCase_whenExecutingItAndAnErrorHappens_thenTheErrorIsCorrectlyReportedWithinTheTestCase() {
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportError(logger, "Error {} happened", "1"));
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> testCaseListener.reportError(context, logger, "Error {} happened", "1"));
 
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
@@ -314,9 +399,9 @@ class TestCaseListenerTest {
 
     @Test
     void givenATestCase_whenExecutingItAndASuccessHappens_thenTheSuccessIsCorrectlyReportedWithinTheTestCase() {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            testCaseListener.reportInfo(logger, "Success {} happened", "1");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportInfo(context, logger, "Success {} happened", "1");
         });
 
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
@@ -331,7 +416,7 @@ class TestCaseListenerTest {
 
     @Test
     void givenATestCase_whenSkippingIt_thenTheTestCaseIsNotReported() {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.skipTest(logger, "Skipper!"));
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> testCaseListener.skipTest(context, logger, "Skipper!"));
 
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
@@ -352,9 +437,9 @@ class TestCaseListenerTest {
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("")));
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
     }
@@ -369,9 +454,9 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
@@ -389,9 +474,9 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
@@ -409,7 +494,7 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX));
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
     }
@@ -425,7 +510,7 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX));
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> testCaseListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
         CatsTestCase testCase = testCaseListener.testCaseMap.get("1");
@@ -444,12 +529,13 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.getFuzzedField()).thenReturn(fuzzedField);
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @ParameterizedTest
@@ -464,12 +550,13 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @Test
@@ -482,12 +569,13 @@ class TestCaseListenerTest {
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @ParameterizedTest
@@ -501,12 +589,13 @@ class TestCaseListenerTest {
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList(documentedResponses), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @Test
@@ -520,12 +609,13 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @Test
@@ -540,12 +630,13 @@ class TestCaseListenerTest {
         Mockito.when(response.getFuzzedField()).thenReturn("someField");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(logger, "Response does NOT match expected result. Response code [%s] is documented, but response body does NOT matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response does NOT match expected result. Response code [%s] is documented, but response body does NOT matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @ParameterizedTest
@@ -561,12 +652,13 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
         Mockito.when(response.getFuzzedField()).thenReturn("test");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            spyListener.reportResult(logger, data, response, family);
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(context, logger, data, response, family);
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString()));
+        String expectedMessage = "Response matches expected result. Response code [%s] is documented and response body matches the corresponding schema.".formatted(response.responseCodeAsString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @Test
@@ -576,12 +668,12 @@ class TestCaseListenerTest {
         Mockito.when(ignoreArguments.isSkipReportingForIgnoredCodes()).thenReturn(false);
         Mockito.when(reportingArguments.getMaxResponseTime()).thenReturn(10);
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addResponse(CatsResponse.builder().responseTimeInMs(100).build());
-            spyListener.reportInfo(logger, "Response code expected", "200");
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addResponse(context, CatsResponse.builder().responseTimeInMs(100).build());
+            spyListener.reportInfo(context, logger, "Response code expected", "200");
         });
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportError(logger, "Test case executed successfully, but response time exceeds --maxResponseTimeInMs: actual 100, max 10");
+        Mockito.verify(spyListener, Mockito.times(1)).reportError(Mockito.any(), Mockito.eq(logger), Mockito.eq("Test case executed successfully, but response time exceeds --maxResponseTimeInMs: actual 100, max 10"));
     }
 
     @Test
@@ -596,9 +688,10 @@ class TestCaseListenerTest {
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX));
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(logger, "Response does NOT match expected result. Response code is from a list of expected codes for this FUZZER, but it is undocumented: expected %s, actual [%s], documented response codes: %s".formatted(ResponseCodeFamily.FOURXX.allowedResponseCodes().toString(), response.responseCodeAsString(), data.getResponseCodes().toString()));
+        String expectedMessage = "Response does NOT match expected result. Response code is from a list of expected codes for this FUZZER, but it is undocumented: expected %s, actual [%s], documented response codes: %s".formatted(ResponseCodeFamily.FOURXX.allowedResponseCodes().toString(), response.responseCodeAsString(), data.getResponseCodes().toString());
+        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(Mockito.any(), Mockito.eq(logger), Mockito.eq(expectedMessage));
     }
 
     @Test
@@ -614,9 +707,9 @@ class TestCaseListenerTest {
         Mockito.when(response.getResponseCode()).thenReturn(404);
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX));
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.FOURXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportError(logger, "Response HTTP code 404: you might need to provide business context using --refData or --urlParams");
+        Mockito.verify(spyListener, Mockito.times(1)).reportError(Mockito.any(), Mockito.eq(logger), Mockito.eq("Response HTTP code 404: you might need to provide business context using --refData or --urlParams"));
     }
 
     @Test
@@ -632,9 +725,9 @@ class TestCaseListenerTest {
         Mockito.when(response.getResponseCode()).thenReturn(501);
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("501");
 
-        spyListener.createAndExecuteTest(logger, fuzzer, () -> spyListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX));
+        spyListener.createAndExecuteTest(logger, fuzzer, context -> spyListener.reportResult(context, logger, data, response, ResponseCodeFamily.TWOXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
-        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(logger, "Response HTTP code 501: you forgot to implement this functionality!");
+        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(Mockito.any(), Mockito.eq(logger), Mockito.eq("Response HTTP code 501: you forgot to implement this functionality!"));
     }
 
 
@@ -643,6 +736,7 @@ class TestCaseListenerTest {
         Discriminator discriminator = new Discriminator();
         discriminator.setPropertyName("field");
         catsGlobalContext.getDiscriminators().clear();
+        catsGlobalContext.getPostSuccessfulResponses().clear();
         catsGlobalContext.getDiscriminators().add(discriminator);
 
         Assertions.assertThat(testCaseListener.isFieldNotADiscriminator("field")).isFalse();
@@ -653,6 +747,7 @@ class TestCaseListenerTest {
         Discriminator discriminator = new Discriminator();
         discriminator.setPropertyName("field");
         catsGlobalContext.getDiscriminators().clear();
+        catsGlobalContext.getPostSuccessfulResponses().clear();
         catsGlobalContext.getDiscriminators().add(discriminator);
 
         Assertions.assertThat(testCaseListener.isFieldNotADiscriminator("additionalField")).isTrue();
@@ -683,15 +778,19 @@ class TestCaseListenerTest {
         Assertions.assertThat(catsGlobalContext.getSuccessfulDeletes()).isEmpty();
     }
 
-    private void prepareTestCaseListenerSimpleSetup(CatsResponse build) {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addScenario(logger, "Given a {} field", "string");
-            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-            testCaseListener.addResponse(build);
-            testCaseListener.addFullRequestPath("fullPath");
-            testCaseListener.addPath("path");
-            testCaseListener.addExpectedResult(logger, "Should return {}", "2XX");
+    private TestCaseContext prepareTestCaseListenerSimpleSetup(CatsResponse build) {
+        testCaseListener.createAndExecuteTest(logger, fuzzer, context -> {
+            testCaseListener.addScenario(context, logger, "Given a {} field", "string");
+            testCaseListener.addRequest(context, CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.addResponse(context, build);
+            testCaseListener.addFullRequestPath(context, "fullPath");
+            testCaseListener.addPath(context, "path");
+            testCaseListener.addExpectedResult(context, logger, "Should return {}", "2XX");
         });
-        MDC.put(TestCaseListener.ID, "1");
+        return contextFor("1");
+    }
+
+    private TestCaseContext contextFor(String testId) {
+        return new TestCaseContext(testId, "fuzzer", testCaseListener.testCaseMap.get(testId));
     }
 }
@@ -0,0 +1,69 @@
+package com.endava.cats.util;
+
+import com.endava.cats.generator.simple.StringGenerator;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class CatsRandomTest {
+
+    @AfterEach
+    void tearDown() {
+        CatsRandom.initRandom(null);
+    }
+
+    @Test
+    void shouldGenerateSameValuesForSameSeedAndWorkUnit() {
+        CatsRandom.initRandom(42L);
+        CatsRandom.startWorkUnit("/pets");
+        String first = generateValues();
+
+        CatsRandom.initRandom(42L);
+        CatsRandom.startWorkUnit("/pets");
+
+        Assertions.assertThat(generateValues()).isEqualTo(first);
+        Assertions.assertThat(CatsRandom.getSeed()).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldGenerateDifferentValuesForDifferentWorkUnits() {
+        CatsRandom.initRandom(42L);
+        CatsRandom.startWorkUnit("/pets");
+        String pets = generateValues();
+        CatsRandom.startWorkUnit("/owners");
+
+        Assertions.assertThat(generateValues()).isNotEqualTo(pets);
+    }
+
+    @Test
+    void shouldNotDependOnThreadRunningTheWorkUnit() {
+        CatsRandom.initRandom(7L);
+        CatsRandom.startWorkUnit("RemoveFieldsFuzzer POST /pets 0");
+        String onCurrentThread = generateValues();
+
+        String onOtherThread = CompletableFuture.supplyAsync(() -> {
+            CatsRandom.startWorkUnit("RemoveFieldsFuzzer POST /pets 0");
+            return generateValues();
+        }).join();
+
+        Assertions.assertThat(onOtherThread).isEqualTo(onCurrentThread);
+    }
+
+    @Test
+    void shouldKeepSeedWhenNotSupplied() {
+        long seed = CatsRandom.getSeed();
+        CatsRandom.initRandom(null);
+
+        Assertions.assertThat(CatsRandom.getSeed()).isEqualTo(seed);
+    }
+
+    private static String generateValues() {
+        return IntStream.range(0, 5).mapToObj(i -> CatsRandom.instance().nextInt(1000) + StringGenerator.generate("[a-z]{5}", 5, 5))
+                .reduce("", String::concat);
+    }
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.util;
 
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.util.Subsets;
 import com.endava.cats.strategy.FuzzingStrategy;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
@@ -21,7 +22,7 @@ class CatsUtilTest {
     @Test
     void givenASetAndMinSize_whenGettingAllSetsWithMinSize_thenAllSubsetsAreProperlyReturned() {
         Set<String> data = new HashSet<>(Arrays.asList("a", "b", "c"));
-        Set<Set<String>> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
+        Subsets<String> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
 
         Assertions.assertThat(sets)
                 .isNotEmpty()
@@ -1,12 +1,17 @@
 package com.endava.cats.util;
 
 import com.endava.cats.json.JsonUtils;
+import com.google.gson.JsonElement;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
+
 @QuarkusTest
 class JsonUtilsTest {
 
@@ -154,4 +159,86 @@ class JsonUtilsTest {
     void shouldReturnCyclic(String properties) {
         Assertions.assertThat(JsonUtils.isCyclicReference(properties, 3)).isTrue();
     }
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"id\": 1}|true", "[1, 2]|true", "{'id': 1}|false", "{\"id\": 1} trailing|false", "plain text|false", "123|false"}, delimiter = '|')
+    void shouldParseOnlyStrictJson(String body, boolean expected) {
+        Assertions.assertThat(JsonUtils.parseAsStrictJsonElement(body) != null).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldGetVariableFromJsonTree() {
+        JsonElement json = JsonUtils.parseAsStrictJsonElement("{\"id\": \"value\", \"nested\": {\"count\": 2}}");
+
+        Assertions.assertThat(JsonUtils.getVariableFromJson(json, "id")).isEqualTo("value");
+        Assertions.assertThat(JsonUtils.getVariableFromJson(json, "nested#count")).isEqualTo(2);
+        Assertions.assertThat(JsonUtils.getVariableFromJson(json, "nested")).isEqualTo(JsonUtils.getVariableFromJson("{\"nested\": {\"count\": 2}}", "nested"));
+        Assertions.assertThat(JsonUtils.getVariableFromJson(json, "$#length()")).hasToString("2");
+        Assertions.assertThat(JsonUtils.getVariableFromJson(json, "missing")).isEqualTo(JsonUtils.NOT_SET);
+    }
+
+    @Test
+    void shouldReturnJsonWhenReadingObjectsAsString() {
+        String payload = "{\"arr\":[{\"x\":\"y\",\"n\":1}],\"obj\":{\"nested\":{\"n\":2}}}";
+
+        Assertions.assertThat(String.valueOf(JsonUtils.getVariableFromJson(payload, "arr[0]"))).isEqualTo("{\"x\":\"y\",\"n\":1}");
+        Assertions.assertThat(String.valueOf(JsonUtils.getVariableFromJson(payload, "arr"))).isEqualTo("[{\"x\":\"y\",\"n\":1}]");
+        Assertions.assertThat(String.valueOf(JsonUtils.getVariableFromJson(payload, "obj"))).isEqualTo("{\"nested\":{\"n\":2}}");
+    }
+
+    @Test
+    void shouldNotShareChangesBetweenDocumentsOfSamePayload() {
+        String payload = "{\"name\": \"cats\", \"address\": {\"street\": \"first\", \"numbers\": [1, 2]}, \"items\": [{\"id\": 1}, {\"id\": 2}]}";
+
+        DocumentContext first = JsonUtils.parse(payload);
+        first.set("$.address.street", "changed");
+        first.set("$.items[*].id", 3);
+        first.delete("$.address.numbers");
+        DocumentContext second = JsonUtils.parse(payload);
+
+        Assertions.assertThat(first.jsonString()).isEqualTo("{\"name\":\"cats\",\"address\":{\"street\":\"changed\"},\"items\":[{\"id\":3},{\"id\":3}]}");
+        Assertions.assertThat(second.jsonString()).isEqualTo(JsonPath.parse(payload).jsonString());
+        Assertions.assertThat(JsonUtils.getVariableFromJson(payload, "address#street")).isEqualTo("first");
+    }
+
+    @Test
+    void shouldSerializeSameAsJsonPath() {
+        String payload = "[{\"id\": 1, \"tags\": [\"a\", \"b\"], \"nested\": {\"deep\": {\"value\": null}}}]";
+
+        DocumentContext document = JsonUtils.parse(payload);
+
+        Assertions.assertThat(document.jsonString()).isEqualTo(JsonPath.parse(payload).jsonString());
+        Assertions.assertThat(document.read("$[0].nested").toString()).isEqualTo("{\"deep\":{\"value\":null}}");
+        Assertions.assertThat(JsonUtils.getVariableFromJson(payload, "$[0]#tags")).isInstanceOf(List.class).hasToString("[\"a\",\"b\"]");
+    }
+
+    @Test
+    void shouldReuseCompiledPaths() {
+        long missesBefore = JsonUtils.getCompiledPathsStats().missCount();
+        JsonPath first = JsonUtils.compilePath("compiled#path#field");
+        long hitsBefore = JsonUtils.getCompiledPathsStats().hitCount();
+        JsonPath second = JsonUtils.compilePath("compiled#path#field");
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(first.getPath()).isEqualTo("$['compiled']['path']['field']");
+        Assertions.assertThat(JsonUtils.getCompiledPathsStats().missCount()).isGreaterThan(missesBefore);
+        Assertions.assertThat(JsonUtils.getCompiledPathsStats().hitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void shouldDeleteNodesAndReportRemoval() {
+        String payload = "{\"name\": \"cats\", \"address\": {\"street\": \"first\", \"zip\": 1}}";
+
+        Assertions.assertThat(JsonUtils.deleteNodes(payload, List.of("name", "address#zip"))).contains("{\"address\":{\"street\":\"first\"}}");
+        Assertions.assertThat(JsonUtils.deleteNodes(payload, List.of("missing", "address#missing", "other#nested"))).isEmpty();
+        Assertions.assertThat(JsonUtils.deleteNodes("", List.of("name"))).isEmpty();
+        Assertions.assertThat(JsonUtils.getVariableFromJson(payload, "name")).isEqualTo("cats");
+    }
+
+    @Test
+    void shouldDeleteNodesFromAllRootArrayElements() {
+        String payload = "[{\"name\": \"cats\", \"id\": 1}, {\"name\": \"dogs\", \"id\": 2}]";
+
+        Assertions.assertThat(JsonUtils.deleteNodes(payload, List.of("name"))).contains("[{\"id\":1},{\"id\":2}]");
+    }
 }
@@ -0,0 +1,182 @@
+package com.endava.cats.util;
+
+import com.endava.cats.args.ProcessingArguments;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Filter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class ParallelExecutorTest {
+    private static final Logger LOGGER = LogContext.getLogContext().getLogger("com.endava.cats.util.ParallelExecutorTest");
+    private static final List<String> CAPTURED_LINES = Collections.synchronizedList(new ArrayList<>());
+    private ProcessingArguments processingArguments;
+    private ParallelExecutor parallelExecutor;
+
+    @BeforeEach
+    void setup() {
+        processingArguments = new ProcessingArguments();
+        parallelExecutor = new ParallelExecutor(processingArguments);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelExecutor.shutdown();
+    }
+
+    @Test
+    void shouldRunOnCallingThreadWhenParallelismIsOne() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        parallelExecutor.runAll(List.of(() -> threads.add(Thread.currentThread().getName()), () -> threads.add(Thread.currentThread().getName())));
+
+        Assertions.assertThat(parallelExecutor.isParallel()).isFalse();
+        Assertions.assertThat(threads).containsOnly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldRunUnitsConcurrently() {
+        processingArguments.setParallelism(3);
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Runnable> units = IntStream.range(0, 3).<Runnable>mapToObj(i -> () -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+            awaitQuietly(latch);
+        }).toList();
+
+        parallelExecutor.runAll(units);
+
+        Assertions.assertThat(latch.getCount()).isZero();
+        Assertions.assertThat(threads).hasSize(3).allMatch(name -> name.startsWith("cats-worker-"));
+    }
+
+    @Test
+    void shouldPropagateLoggingContext() {
+        processingArguments.setParallelism(2);
+        MDC.put("fuzzer", "test");
+        Set<String> values = ConcurrentHashMap.newKeySet();
+
+        parallelExecutor.runAll(List.of(() -> values.add(MDC.get("fuzzer")), () -> values.add(MDC.get("fuzzer"))));
+        MDC.remove("fuzzer");
+
+        Assertions.assertThat(values).containsOnly("test");
+    }
+
+    @Test
+    void shouldRethrowFailureAfterAllUnitsFinished() {
+        processingArguments.setParallelism(2);
+        Set<Integer> completed = ConcurrentHashMap.newKeySet();
+        List<Runnable> units = List.of(() -> {
+            throw new IllegalStateException("failed");
+        }, () -> completed.add(1));
+
+        Assertions.assertThatThrownBy(() -> parallelExecutor.runAll(units)).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+        Assertions.assertThat(completed).containsOnly(1);
+    }
+
+    @Test
+    void shouldPrintLogLinesOfEachUnitTogetherWhenRunningConcurrently() {
+        processingArguments.setParallelism(2);
+        CountDownLatch firstLogged = new CountDownLatch(1);
+        CountDownLatch secondLogged = new CountDownLatch(1);
+
+        List<String> lines = captureLogLines(() -> parallelExecutor.runAll(List.of(() -> {
+            LOGGER.info("first-1");
+            firstLogged.countDown();
+            awaitQuietly(secondLogged);
+            LOGGER.info("first-2");
+        }, () -> {
+            awaitQuietly(firstLogged);
+            LOGGER.info("second-1");
+            secondLogged.countDown();
+            LOGGER.info("second-2");
+        })));
+
+        Assertions.assertThat(lines).containsExactlyInAnyOrder("first-1", "first-2", "second-1", "second-2");
+        Assertions.assertThat(lines.indexOf("first-2")).isEqualTo(lines.indexOf("first-1") + 1);
+        Assertions.assertThat(lines.indexOf("second-2")).isEqualTo(lines.indexOf("second-1") + 1);
+    }
+
+    @Test
+    void shouldPrintLogLinesAsTheyHappenWhenParallelismIsOne() {
+        List<String> printedBeforeSecondUnit = new ArrayList<>();
+
+        List<String> lines = captureLogLines(() -> parallelExecutor.runAll(List.of(() -> LOGGER.info("first"), () -> {
+            printedBeforeSecondUnit.addAll(CAPTURED_LINES);
+            LOGGER.info("second");
+        })));
+
+        Assertions.assertThat(printedBeforeSecondUnit).containsExactly("first");
+        Assertions.assertThat(lines).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldRestoreLogHandlerFiltersWhenRunEnds() {
+        processingArguments.setParallelism(2);
+        List<Handler> handlers = List.of(LogContext.getLogContext().getLogger("").getHandlers());
+        Assertions.assertThat(handlers).isNotEmpty();
+        List<Filter> filtersBeforeRun = handlers.stream().map(Handler::getFilter).toList();
+        List<Filter> filtersDuringRun = Collections.synchronizedList(new ArrayList<>());
+
+        parallelExecutor.runAll(List.of(() -> filtersDuringRun.add(handlers.get(0).getFilter()), () -> LOGGER.info("second")));
+
+        Assertions.assertThat(filtersDuringRun).hasSize(1).doesNotContainNull();
+        Assertions.assertThat(handlers.stream().map(Handler::getFilter).toList()).isEqualTo(filtersBeforeRun);
+    }
+
+    private static List<String> captureLogLines(Runnable logic) {
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord logRecord) {
+                if (isLoggable(logRecord) && LOGGER.getName().equals(logRecord.getLoggerName())) {
+                    CAPTURED_LINES.add(logRecord.getMessage());
+                }
+            }
+
+            @Override
+            public void flush() {
+                //ntd
+            }
+
+            @Override
+            public void close() {
+                //ntd
+            }
+        };
+        CAPTURED_LINES.clear();
+        LOGGER.setLevel(Level.INFO);
+        Logger rootLogger = LogContext.getLogContext().getLogger("");
+        rootLogger.addHandler(handler);
+        try {
+            logic.run();
+        } finally {
+            rootLogger.removeHandler(handler);
+        }
+        return List.copyOf(CAPTURED_LINES);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}